@@ -0,0 +1,189 @@
+/*
+                        QueryJ-SQL
+
+    Copyright (C) 2002-today  Jose San Leandro Armendariz
+                        chous@acm-sl.org
+
+    This library is free software; you can redistribute it and/or
+    modify it under the terms of the GNU General Public
+    License as published by the Free Software Foundation; either
+    version 2 of the License, or any later version.
+
+    This library is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+    General Public License for more details.
+
+    You should have received a copy of the GNU General Public
+    License along with this library; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Thanks to ACM S.L. for distributing this library under the GPL license.
+    Contact info: chous@acm-sl.org
+    Postal Address: c/Playa de Lagoa, 1
+                    Urb. Valdecabanas
+                    Boadilla del monte
+                    28660 Madrid
+                    Spain
+
+ ******************************************************************************
+ *
+ * Filename: BenchmarkFixtures.java
+ *
+ * Author: Jose San Leandro Armendariz
+ *
+ * Description: Shared fixtures for the QueryJ-SQL benchmarks.
+ *
+ */
+package org.acmsl.queryj.sql;
+
+/*
+ * Importing JetBrains annotations.
+ */
+import org.jetbrains.annotations.NotNull;
+
+/*
+ * Importing JDK classes.
+ */
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * Shared fixtures for the QueryJ-SQL benchmarks.
+ * @author <a href="mailto:chous@acm-sl.org">Jose San Leandro Armendariz</a>
+ */
+public class BenchmarkFixtures
+{
+    /**
+     * Creates a table with given number of integer columns.
+     * @param width the number of columns.
+     * @return such table.
+     */
+    @NotNull
+    public static WideTable createTable(final int width)
+    {
+        return new WideTable(width);
+    }
+
+    /**
+     * Creates a statement ignoring all parameters, returning
+     * <code>results</code> when executed.
+     * @param results the result set.
+     * @return such statement.
+     */
+    @NotNull
+    public static PreparedStatement createStatement(@NotNull final ResultSet results)
+    {
+        return
+            (PreparedStatement)
+                Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] { PreparedStatement.class },
+                    new InvocationHandler()
+                    {
+                        public Object invoke(
+                            final Object proxy, final Method method, final Object[] args)
+                        {
+                            Object result = null;
+
+                            if  ("executeQuery".equals(method.getName()))
+                            {
+                                result = results;
+                            }
+
+                            return result;
+                        }
+                    });
+    }
+
+    /**
+     * Creates an in-memory result set whose columns all contain the column
+     * index.
+     * @return such result set.
+     */
+    @NotNull
+    public static ResultSet createResultSet()
+    {
+        return
+            (ResultSet)
+                Proxy.newProxyInstance(
+                    ResultSet.class.getClassLoader(),
+                    new Class<?>[] { ResultSet.class },
+                    new InvocationHandler()
+                    {
+                        public Object invoke(
+                            final Object proxy, final Method method, final Object[] args)
+                        {
+                            Object result = null;
+
+                            if  ("getInt".equals(method.getName()))
+                            {
+                                result = args[0];
+                            }
+                            else if  ("getString".equals(method.getName()))
+                            {
+                                result = String.valueOf(args[0]);
+                            }
+                            else if  ("wasNull".equals(method.getName()))
+                            {
+                                result = Boolean.FALSE;
+                            }
+
+                            return result;
+                        }
+                    });
+    }
+
+    /**
+     * Table with a configurable number of integer columns.
+     */
+    public static class WideTable
+        extends  Table
+    {
+        /**
+         * The columns.
+         */
+        @NotNull
+        private final IntField[] m__aColumns;
+
+        /**
+         * Creates a table with given number of columns.
+         * @param width the number of columns.
+         */
+        public WideTable(final int width)
+        {
+            super("WIDE");
+
+            m__aColumns = new IntField[width];
+
+            for  (int t_iIndex = 0; t_iIndex < width; t_iIndex++)
+            {
+                m__aColumns[t_iIndex] = new IntField("COLUMN" + t_iIndex, this);
+            }
+        }
+
+        /**
+         * Retrieves given column.
+         * @param index the column index.
+         * @return such column.
+         */
+        @NotNull
+        public IntField getColumn(final int index)
+        {
+            return m__aColumns[index];
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @NotNull
+        @Override
+        public Field[] getAll()
+        {
+            return m__aColumns;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+                        QueryJ-SQL
+
+    Copyright (C) 2002-today  Jose San Leandro Armendariz
+                        chous@acm-sl.org
+
+    This library is free software; you can redistribute it and/or
+    modify it under the terms of the GNU General Public
+    License as published by the Free Software Foundation; either
+    version 2 of the License, or any later version.
+
+    This library is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+    General Public License for more details.
+
+    You should have received a copy of the GNU General Public
+    License along with this library; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Thanks to ACM S.L. for distributing this library under the GPL license.
+    Contact info: chous@acm-sl.org
+    Postal Address: c/Playa de Lagoa, 1
+                    Urb. Valdecabanas
+                    Boadilla del monte
+                    28660 Madrid
+                    Spain
+
+ ******************************************************************************
+ *
+ * Filename: BindingBenchmark.java
+ *
+ * Author: Jose San Leandro Armendariz
+ *
+ * Description: Measures binding parameters through Query setters.
+ *
+ */
+package org.acmsl.queryj.sql;
+
+/*
+ * Importing JMH classes.
+ */
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+ * Importing JetBrains annotations.
+ */
+import org.jetbrains.annotations.NotNull;
+
+/*
+ * Importing JDK classes.
+ */
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures binding parameters through the field- and condition-based
+ * <code>Query</code> setters. The wrapped statement ignores them.
+ * @author <a href="mailto:chous@acm-sl.org">Jose San Leandro Armendariz</a>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BindingBenchmark
+{
+    /**
+     * The number of parameters.
+     */
+    @Param({ "4", "16", "64" })
+    public int width;
+
+    /**
+     * The table.
+     */
+    private BenchmarkFixtures.WideTable m__Table;
+
+    /**
+     * The conditions to bind.
+     */
+    private VariableCondition[] m__aConditions;
+
+    /**
+     * The prepared query.
+     */
+    private SelectQuery m__Query;
+
+    /**
+     * Prepares the fixtures.
+     */
+    @Setup
+    public void setUp()
+    {
+        m__Table = BenchmarkFixtures.createTable(width);
+        m__aConditions = new VariableCondition[width];
+        m__Query = QueryFactory.getInstance().createSelectQuery();
+
+        m__Query.select(m__Table.getAll());
+        m__Query.from(m__Table);
+
+        for  (int t_iIndex = 0; t_iIndex < width; t_iIndex++)
+        {
+            m__aConditions[t_iIndex] = m__Table.getColumn(t_iIndex).equals();
+            m__Query.where(m__aConditions[t_iIndex]);
+        }
+
+        m__Query.setPreparedStatement(
+            BenchmarkFixtures.createStatement(BenchmarkFixtures.createResultSet()));
+    }
+
+    /**
+     * Binds every parameter by condition.
+     * @return the query.
+     * @throws SQLException if the parameters cannot be bound.
+     */
+    @Benchmark
+    @NotNull
+    public Query bindByCondition()
+        throws  SQLException
+    {
+        for  (int t_iIndex = 0; t_iIndex < width; t_iIndex++)
+        {
+            m__Query.setInt(m__aConditions[t_iIndex], t_iIndex);
+        }
+
+        return m__Query;
+    }
+
+    /**
+     * Binds every parameter by a freshly built condition, as generated DAOs do.
+     * @return the query.
+     * @throws SQLException if the parameters cannot be bound.
+     */
+    @Benchmark
+    @NotNull
+    public Query bindByNewCondition()
+        throws  SQLException
+    {
+        for  (int t_iIndex = 0; t_iIndex < width; t_iIndex++)
+        {
+            m__Query.setInt(m__Table.getColumn(t_iIndex).equals(), t_iIndex);
+        }
+
+        return m__Query;
+    }
+}
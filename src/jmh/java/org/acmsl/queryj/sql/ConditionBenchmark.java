@@ -0,0 +1,127 @@
+/*
+                        QueryJ-SQL
+
+    Copyright (C) 2002-today  Jose San Leandro Armendariz
+                        chous@acm-sl.org
+
+    This library is free software; you can redistribute it and/or
+    modify it under the terms of the GNU General Public
+    License as published by the Free Software Foundation; either
+    version 2 of the License, or any later version.
+
+    This library is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+    General Public License for more details.
+
+    You should have received a copy of the GNU General Public
+    License along with this library; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Thanks to ACM S.L. for distributing this library under the GPL license.
+    Contact info: chous@acm-sl.org
+    Postal Address: c/Playa de Lagoa, 1
+                    Urb. Valdecabanas
+                    Boadilla del monte
+                    28660 Madrid
+                    Spain
+
+ ******************************************************************************
+ *
+ * Filename: ConditionBenchmark.java
+ *
+ * Author: Jose San Leandro Armendariz
+ *
+ * Description: Measures composing and rendering condition trees.
+ *
+ */
+package org.acmsl.queryj.sql;
+
+/*
+ * Importing JMH classes.
+ */
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+ * Importing JetBrains annotations.
+ */
+import org.jetbrains.annotations.NotNull;
+
+/*
+ * Importing JDK classes.
+ */
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures composing condition trees via <code>and</code> / <code>or</code>,
+ * and rendering them.
+ * @author <a href="mailto:chous@acm-sl.org">Jose San Leandro Armendariz</a>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConditionBenchmark
+{
+    /**
+     * The number of composed conditions.
+     */
+    @Param({ "2", "8", "32" })
+    public int depth;
+
+    /**
+     * The table.
+     */
+    private BenchmarkFixtures.WideTable m__Table;
+
+    /**
+     * Prepares the fixtures.
+     */
+    @Setup
+    public void setUp()
+    {
+        m__Table = BenchmarkFixtures.createTable(depth);
+    }
+
+    /**
+     * Composes a condition tree alternating AND and OR.
+     * @return such condition.
+     */
+    @Benchmark
+    @NotNull
+    public Condition compose()
+    {
+        @NotNull Condition result = m__Table.getColumn(0).equals();
+
+        for  (int t_iIndex = 1; t_iIndex < depth; t_iIndex++)
+        {
+            if  (t_iIndex % 2 == 0)
+            {
+                result = result.and(m__Table.getColumn(t_iIndex).greaterThan());
+            }
+            else
+            {
+                result = result.or(m__Table.getColumn(t_iIndex).isNull());
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Composes and renders a condition tree.
+     * @return the SQL.
+     */
+    @Benchmark
+    @NotNull
+    public String composeAndRender()
+    {
+        return compose().toString();
+    }
+}
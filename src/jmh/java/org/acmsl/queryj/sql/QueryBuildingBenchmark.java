@@ -0,0 +1,203 @@
+/*
+                        QueryJ-SQL
+
+    Copyright (C) 2002-today  Jose San Leandro Armendariz
+                        chous@acm-sl.org
+
+    This library is free software; you can redistribute it and/or
+    modify it under the terms of the GNU General Public
+    License as published by the Free Software Foundation; either
+    version 2 of the License, or any later version.
+
+    This library is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+    General Public License for more details.
+
+    You should have received a copy of the GNU General Public
+    License along with this library; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Thanks to ACM S.L. for distributing this library under the GPL license.
+    Contact info: chous@acm-sl.org
+    Postal Address: c/Playa de Lagoa, 1
+                    Urb. Valdecabanas
+                    Boadilla del monte
+                    28660 Madrid
+                    Spain
+
+ ******************************************************************************
+ *
+ * Filename: QueryBuildingBenchmark.java
+ *
+ * Author: Jose San Leandro Armendariz
+ *
+ * Description: Measures building and rendering queries.
+ *
+ */
+package org.acmsl.queryj.sql;
+
+/*
+ * Importing JMH classes.
+ */
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+ * Importing JetBrains annotations.
+ */
+import org.jetbrains.annotations.NotNull;
+
+/*
+ * Importing JDK classes.
+ */
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building and rendering select, insert, update and delete
+ * queries of varying widths.
+ * @author <a href="mailto:chous@acm-sl.org">Jose San Leandro Armendariz</a>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QueryBuildingBenchmark
+{
+    /**
+     * The number of columns.
+     */
+    @Param({ "4", "16", "64" })
+    public int width;
+
+    /**
+     * The table.
+     */
+    private BenchmarkFixtures.WideTable m__Table;
+
+    /**
+     * An already-rendered select query.
+     */
+    private SelectQuery m__RenderedSelect;
+
+    /**
+     * Prepares the fixtures.
+     */
+    @Setup
+    public void setUp()
+    {
+        m__Table = BenchmarkFixtures.createTable(width);
+        m__RenderedSelect = buildSelect();
+        m__RenderedSelect.toString();
+    }
+
+    /**
+     * Builds a select query.
+     * @return such query.
+     */
+    @Benchmark
+    @NotNull
+    public SelectQuery buildSelect()
+    {
+        @NotNull final SelectQuery result = QueryFactory.getInstance().createSelectQuery();
+
+        result.select(m__Table.getAll());
+        result.from(m__Table);
+
+        for  (int t_iIndex = 0; t_iIndex < width; t_iIndex++)
+        {
+            result.where(m__Table.getColumn(t_iIndex).equals());
+        }
+
+        return result;
+    }
+
+    /**
+     * Builds and renders a select query.
+     * @return the SQL.
+     */
+    @Benchmark
+    @NotNull
+    public String renderSelect()
+    {
+        return buildSelect().toString();
+    }
+
+    /**
+     * Renders an unchanged select query again.
+     * @return the SQL.
+     */
+    @Benchmark
+    @NotNull
+    public String rerenderSelect()
+    {
+        return m__RenderedSelect.toString();
+    }
+
+    /**
+     * Builds and renders an insert query.
+     * @return the SQL.
+     */
+    @Benchmark
+    @NotNull
+    public String renderInsert()
+    {
+        @NotNull final InsertQuery t_Query = QueryFactory.getInstance().createInsertQuery();
+
+        t_Query.insertInto(m__Table);
+
+        for  (int t_iIndex = 0; t_iIndex < width; t_iIndex++)
+        {
+            t_Query.value(m__Table.getColumn(t_iIndex));
+        }
+
+        return t_Query.toString();
+    }
+
+    /**
+     * Builds and renders an update query.
+     * @return the SQL.
+     */
+    @Benchmark
+    @NotNull
+    public String renderUpdate()
+    {
+        @NotNull final UpdateQuery t_Query = QueryFactory.getInstance().createUpdateQuery();
+
+        t_Query.update(m__Table);
+
+        for  (int t_iIndex = 1; t_iIndex < width; t_iIndex++)
+        {
+            t_Query.set(m__Table.getColumn(t_iIndex));
+        }
+
+        t_Query.where(m__Table.getColumn(0).equals());
+
+        return t_Query.toString();
+    }
+
+    /**
+     * Builds and renders a delete query.
+     * @return the SQL.
+     */
+    @Benchmark
+    @NotNull
+    public String renderDelete()
+    {
+        @NotNull final DeleteQuery t_Query = QueryFactory.getInstance().createDeleteQuery();
+
+        t_Query.deleteFrom(m__Table);
+
+        for  (int t_iIndex = 0; t_iIndex < width; t_iIndex++)
+        {
+            t_Query.where(m__Table.getColumn(t_iIndex).equals());
+        }
+
+        return t_Query.toString();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+                        QueryJ-SQL
+
+    Copyright (C) 2002-today  Jose San Leandro Armendariz
+                        chous@acm-sl.org
+
+    This library is free software; you can redistribute it and/or
+    modify it under the terms of the GNU General Public
+    License as published by the Free Software Foundation; either
+    version 2 of the License, or any later version.
+
+    This library is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+    General Public License for more details.
+
+    You should have received a copy of the GNU General Public
+    License along with this library; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Thanks to ACM S.L. for distributing this library under the GPL license.
+    Contact info: chous@acm-sl.org
+    Postal Address: c/Playa de Lagoa, 1
+                    Urb. Valdecabanas
+                    Boadilla del monte
+                    28660 Madrid
+                    Spain
+
+ ******************************************************************************
+ *
+ * Filename: QueryResultSetBenchmark.java
+ *
+ * Author: Jose San Leandro Armendariz
+ *
+ * Description: Measures QueryResultSet field-based getters.
+ *
+ */
+package org.acmsl.queryj.sql;
+
+/*
+ * Importing JMH classes.
+ */
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+ * Importing JetBrains annotations.
+ */
+import org.jetbrains.annotations.NotNull;
+
+/*
+ * Importing JDK classes.
+ */
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the field-based getters of <code>QueryResultSet</code> against an
+ * in-memory result set.
+ * @author <a href="mailto:chous@acm-sl.org">Jose San Leandro Armendariz</a>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QueryResultSetBenchmark
+{
+    /**
+     * The number of columns.
+     */
+    @Param({ "4", "16", "64" })
+    public int width;
+
+    /**
+     * The table.
+     */
+    private BenchmarkFixtures.WideTable m__Table;
+
+    /**
+     * The result set.
+     */
+    private QueryResultSet m__ResultSet;
+
+    /**
+     * Prepares the fixtures.
+     */
+    @Setup
+    public void setUp()
+    {
+        m__Table = BenchmarkFixtures.createTable(width);
+
+        @NotNull final SelectQuery t_Query = QueryFactory.getInstance().createSelectQuery();
+
+        t_Query.select(m__Table.getAll());
+        t_Query.from(m__Table);
+
+        m__ResultSet = new QueryResultSet(t_Query, BenchmarkFixtures.createResultSet());
+    }
+
+    /**
+     * Reads every column of the current row.
+     * @return the sum of the values.
+     * @throws SQLException if the columns cannot be read.
+     */
+    @Benchmark
+    public long readRow()
+        throws  SQLException
+    {
+        long result = 0;
+
+        for  (int t_iIndex = 0; t_iIndex < width; t_iIndex++)
+        {
+            result += m__ResultSet.getInt(m__Table.getColumn(t_iIndex));
+        }
+
+        return result;
+    }
+}
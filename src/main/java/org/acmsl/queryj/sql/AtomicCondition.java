@@ -68,10 +68,20 @@ public class AtomicCondition
     private Field m__RightSideField;
 
     /**
-     * The right-side value.
+     * The right-side value, as text.
      */
     private String m__strRightSideValue;
 
+    /**
+     * The right-side value, as given.
+     */
+    private Object m__RightSideObject;
+
+    /**
+     * The cached hash code, or zero if not computed yet.
+     */
+    private int m__iHashCode;
+
     /**
      * Creates a condition using given information.
      * @param leftSideField the left-side field.
@@ -116,7 +126,7 @@ public class AtomicCondition
         final int rightSideValue)
     {
         this(leftSideField, operator, (Field) null);
-        immutableSetRightSideValue("" + rightSideValue);
+        immutableSetRightSideObject(rightSideValue);
     }
 
     /**
@@ -131,7 +141,7 @@ public class AtomicCondition
         final long rightSideValue)
     {
         this(leftSideField, operator, (Field) null);
-        immutableSetRightSideValue("" + rightSideValue);
+        immutableSetRightSideObject(rightSideValue);
     }
 
     /**
@@ -146,7 +156,7 @@ public class AtomicCondition
         final double rightSideValue)
     {
         this(leftSideField, operator, (Field) null);
-        immutableSetRightSideValue("" + rightSideValue);
+        immutableSetRightSideObject(rightSideValue);
     }
 
     /**
@@ -161,14 +171,15 @@ public class AtomicCondition
         @NotNull final BigDecimal rightSideValue)
     {
         this(leftSideField, operator, (Field) null);
-        immutableSetRightSideValue("" + rightSideValue);
+        immutableSetRightSideObject(rightSideValue);
     }
 
     /**
      * Creates a condition using given information.
      * @param leftSideField the left-side field.
      * @param operator the operator.
-     * @param rightSideValue the right-side value.
+     * @param rightSideValue the right-side value. It's copied, so changing
+     * it afterwards doesn't affect the condition.
      */
     public AtomicCondition(
         @NotNull final Field leftSideField,
@@ -176,15 +187,15 @@ public class AtomicCondition
         @NotNull final Calendar rightSideValue)
     {
         this(leftSideField, operator, (Field) null);
-        // This should use Functions.toDate or something...
-        immutableSetRightSideValue("" + rightSideValue);
+        immutableSetRightSideObject((Calendar) rightSideValue.clone());
     }
 
     /**
      * Creates a condition using given information.
      * @param leftSideField the left-side field.
      * @param operator the operator.
-     * @param rightSideValue the right-side value.
+     * @param rightSideValue the right-side value. It's copied, so changing
+     * it afterwards doesn't affect the condition.
      */
     public AtomicCondition(
         @NotNull final Field leftSideField,
@@ -192,8 +203,7 @@ public class AtomicCondition
         @NotNull final Date rightSideValue)
     {
         this(leftSideField, operator, (Field) null);
-        // This should use Functions.toDate or something...
-        immutableSetRightSideValue("" + rightSideValue);
+        immutableSetRightSideObject((Date) rightSideValue.clone());
     }
 
     /**
@@ -203,6 +213,7 @@ public class AtomicCondition
     private void immutableSetLeftSideField(@NotNull final Field leftSideField)
     {
         m__LeftSideField = leftSideField;
+        invalidateHashCode();
     }
 
     /**
@@ -232,6 +243,7 @@ public class AtomicCondition
     private void immutableSetOperator(@NotNull final ConditionOperator operator)
     {
         m__Operator = operator;
+        invalidateHashCode();
     }
 
     /**
@@ -261,6 +273,7 @@ public class AtomicCondition
     private void immutableSetRightSideField(@NotNull final Field rightSideField)
     {
         m__RightSideField = rightSideField;
+        invalidateHashCode();
     }
 
     /**
@@ -290,6 +303,8 @@ public class AtomicCondition
     private void immutableSetRightSideValue(@NotNull final String rightSideValue)
     {
         m__strRightSideValue = rightSideValue;
+        m__RightSideObject = rightSideValue;
+        invalidateHashCode();
     }
 
     /**
@@ -303,13 +318,120 @@ public class AtomicCondition
     }
 
     /**
-     * Retrieves the right-side value.
+     * Retrieves the right-side value, as text. Typed values are formatted
+     * the first time they're needed.
      * @return such reference.
      */
     @Nullable
     public String getRightSideValue()
     {
-        return m__strRightSideValue;
+        String result = m__strRightSideValue;
+
+        if  (result == null)
+        {
+            @Nullable final Object t_Value = getRightSideObject();
+
+            if  (t_Value != null)
+            {
+                result = format(t_Value);
+
+                m__strRightSideValue = result;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Specifies the right-side value, as given.
+     * @param rightSideValue such value.
+     */
+    private void immutableSetRightSideObject(@NotNull final Object rightSideValue)
+    {
+        m__RightSideObject = rightSideValue;
+        m__strRightSideValue = null;
+        invalidateHashCode();
+    }
+
+    /**
+     * Specifies the right-side value, as given.
+     * @param rightSideValue such value.
+     */
+    @SuppressWarnings("unused")
+    protected void setRightSideObject(@NotNull final Object rightSideValue)
+    {
+        immutableSetRightSideObject(rightSideValue);
+    }
+
+    /**
+     * Retrieves the right-side value, as given: a {@link String}, a
+     * {@link Number}, a {@link Calendar} or a {@link Date}.
+     * @return such value.
+     */
+    @Nullable
+    public Object getRightSideObject()
+    {
+        return m__RightSideObject;
+    }
+
+    /**
+     * Checks whether the right side is a typed value which can be bound
+     * as a parameter instead of being rendered.
+     * @return <code>true</code> in such case.
+     */
+    public boolean hasTypedRightSideValue()
+    {
+        @Nullable final Object t_Value = getRightSideObject();
+
+        return (t_Value != null) && !(t_Value instanceof String);
+    }
+
+    /**
+     * Checks whether the right side is a date.
+     * @return <code>true</code> in such case.
+     * @see QueryUtils#isTemporal(Object)
+     */
+    public boolean hasTemporalRightSideValue()
+    {
+        return QueryUtils.getInstance().isTemporal(getRightSideObject());
+    }
+
+    /**
+     * Formats given typed value as SQL text.
+     * @param value the value.
+     * @return such text.
+     */
+    @NotNull
+    protected String format(@NotNull final Object value)
+    {
+        return format(value, QueryUtils.getInstance());
+    }
+
+    /**
+     * Formats given typed value as SQL text.
+     * @param value the value.
+     * @param queryUtils the {@link QueryUtils} instance.
+     * @return such text.
+     */
+    @NotNull
+    protected String format(@NotNull final Object value, @NotNull final QueryUtils queryUtils)
+    {
+        @NotNull final String result;
+
+        if  (queryUtils.isTemporal(value))
+        {
+            result = queryUtils.formatTemporal(value);
+        }
+        else if  (value instanceof BigDecimal)
+        {
+            result = ((BigDecimal) value).toPlainString();
+        }
+        else
+        {
+            result = value.toString();
+        }
+
+        return result;
     }
 
     /**
@@ -344,127 +466,173 @@ public class AtomicCondition
     {
         @NotNull final StringBuilder t_sbResult = new StringBuilder();
 
-        if  (getInnerCondition() != null)
+        appendTo(t_sbResult, simplify);
+
+        return t_sbResult.toString();
+    }
+
+    /**
+     * Appends a text version of the condition to given buffer.
+     * Composed conditions are never simplified.
+     * @param buffer the buffer.
+     * @param simplify if fields should appear
+     * without explicit table information.
+     */
+    @Override
+    public void appendTo(@NotNull final StringBuilder buffer, final boolean simplify)
+    {
+        @Nullable final Condition t_InnerCondition = getInnerCondition();
+
+        if  (t_InnerCondition != null)
         {
-            t_sbResult.append(super.toString());
+            appendTo(buffer, t_InnerCondition, false);
         }
         else 
         {
-            t_sbResult.append(toString(getLeftSideField(), simplify));
-            t_sbResult.append(" ");
-            t_sbResult.append(getOperator());
+            appendOwnTo(buffer, simplify);
+        }
+    }
 
-            @Nullable Field t_RightSideField = getRightSideField();
+    /**
+     * Appends a text version of the condition to given buffer,
+     * ignoring any condition composed onto it.
+     * @param buffer the buffer.
+     * @param simplify if fields should appear
+     * without explicit table information.
+     */
+    @Override
+    protected void appendOwnTo(@NotNull final StringBuilder buffer, final boolean simplify)
+    {
+        appendTo(buffer, getLeftSideField(), simplify);
+        buffer.append(' ');
+        buffer.append(getOperator());
 
-            @Nullable String t_strRightSide = "";
+        @Nullable final Field t_RightSideField = getRightSideField();
 
-            if  (t_RightSideField != null) 
-            {
-                t_strRightSide = toString(t_RightSideField, simplify);
-            }
-            else
-            {
-                t_strRightSide = getRightSideValue();
-            }
+        if  (t_RightSideField != null) 
+        {
+            buffer.append(' ');
+            appendTo(buffer, t_RightSideField, simplify);
+        }
+        else
+        {
+            @Nullable final String t_strRightSide = getRightSideValue();
 
-            if  (t_strRightSide == null) 
-            {
-                t_strRightSide = "";
-            }
-            else
+            if  (t_strRightSide != null) 
             {
-                t_sbResult.append(" ");
+                buffer.append(' ');
+                buffer.append(t_strRightSide);
             }
-
-            t_sbResult.append(t_strRightSide);
         }
+    }
 
-        return t_sbResult.toString();
+    /**
+     * Discards the cached hash code.
+     */
+    protected void invalidateHashCode()
+    {
+        m__iHashCode = 0;
     }
 
     /**
-     * Performs the equality check.
+     * Performs the equality check. Only the structure is compared:
+     * left-side field, operator and right side.
      * @param object the object to check.
      * @return <code>true</code> if both objects are semantically equal.
      */
-    public boolean equals(final Object object)
+    @Override
+    public boolean equals(@Nullable final Object object)
     {
-        boolean result = false;
+        boolean result = (object == this);
 
-        if  (object instanceof VariableCondition)
+        if  (   (!result)
+             && (object instanceof AtomicCondition))
         {
-            @NotNull VariableCondition t_Object = (VariableCondition) object;
+            @NotNull final AtomicCondition t_Object = (AtomicCondition) object;
+
+            result =
+                (   (t_Object.hashCode() == hashCode())
+                 && (areEqual(t_Object.getLeftSideField(), getLeftSideField()))
+                 && (areEqual(t_Object.getOperator(), getOperator()))
+                 && (areEqual(t_Object.getRightSideField(), getRightSideField()))
+                 && (areEqual(t_Object.getRightSideObject(), getRightSideObject())));
+        }
 
-            @Nullable Field t_LeftSideField = t_Object.getLeftSideField();
+        return result;
+    }
 
-            if  (t_LeftSideField == null)
-            {
-                result = (getLeftSideField() == null);
-            }
-            else
-            {
-                result = t_LeftSideField.equals((Object) getLeftSideField());
-            }
+    /**
+     * Checks whether given items are equal.
+     * @param first the first item.
+     * @param second the second item.
+     * @return <code>true</code> if both are <code>null</code> or equal.
+     */
+    protected boolean areEqual(@Nullable final Object first, @Nullable final Object second)
+    {
+        final boolean result;
 
-            if  (result) 
-            {
-                @Nullable ConditionOperator t_Operator = t_Object.getOperator();
-
-                if  (t_Operator == null)
-                {
-                    result = (getOperator() == null);
-                }
-                else
-                {
-                    result = t_Operator.equals(getOperator());
-                }
-
-                if  (result) 
-                {
-                    @Nullable Field t_RightSideField = t_Object.getRightSideField();
-
-                    if  (t_RightSideField == null)
-                    {
-                        result = (getRightSideField() == null);
-                    }
-                    else
-                    {
-                        result = t_RightSideField.equals((Object) getRightSideField());
-                    }
-                }
-            }
+        if  (first == null)
+        {
+            result = (second == null);
         }
-        
+        else
+        {
+            result = (first == second) || first.equals(second);
+        }
+
         return result;
     }
 
     /**
-     * Retrieves the hash code of the object.
+     * Retrieves the hash code of the object. It's consistent with
+     * {@link #equals(Object)}, so conditions can be used as keys.
+     * It's computed once.
      * @return such code.
      */
+    @Override
     public int hashCode()
     {
-        int result = toString().hashCode();
-
-        @Nullable Field t_LeftSideField = getLeftSideField();
+        int result = m__iHashCode;
 
-        if  (t_LeftSideField != null)
+        if  (result == 0)
         {
-            result += t_LeftSideField.hashCode();
+            result =
+                hashCode(
+                    getLeftSideField(),
+                    getOperator(),
+                    getRightSideField(),
+                    getRightSideObject());
+
+            m__iHashCode = result;
         }
 
-        @Nullable ConditionOperator t_Operator = getOperator();
+        return result;
+    }
 
-        if  (t_Operator != null)
-        {
-            result += t_Operator.hashCode();
-        }
+    /**
+     * Computes the hash code from the condition structure.
+     * @param leftSideField the left-side field.
+     * @param operator the operator.
+     * @param rightSideField the right-side field.
+     * @param rightSideValue the right-side value.
+     * @return such code.
+     */
+    protected int hashCode(
+        @Nullable final Field leftSideField,
+        @Nullable final ConditionOperator operator,
+        @Nullable final Field rightSideField,
+        @Nullable final Object rightSideValue)
+    {
+        int result = 17;
 
-        @Nullable Field t_RightSideField = getRightSideField();
+        result = 31 * result + ((leftSideField != null) ? leftSideField.hashCode() : 0);
+        result = 31 * result + ((operator != null) ? operator.hashCode() : 0);
+        result = 31 * result + ((rightSideField != null) ? rightSideField.hashCode() : 0);
+        result = 31 * result + ((rightSideValue != null) ? rightSideValue.hashCode() : 0);
 
-        if  (t_RightSideField != null)
+        if  (result == 0)
         {
-            result += t_RightSideField.hashCode();
+            result = 1;
         }
 
         return result;
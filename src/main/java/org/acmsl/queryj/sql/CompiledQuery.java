@@ -0,0 +1,379 @@
+//;-*- mode: java -*-
+/*
+                        QueryJ
+
+    Copyright (C) 2002-today  Jose San Leandro Armendariz
+                              chous@acm-sl.org
+
+    This library is free software; you can redistribute it and/or
+    modify it under the terms of the GNU General Public
+    License as published by the Free Software Foundation; either
+    version 2 of the License, or any later version.
+
+    This library is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+    General Public License for more details.
+
+    You should have received a copy of the GNU General Public
+    License along with this library; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Thanks to ACM S.L. for distributing this library under the GPL license.
+    Contact info: jose.sanleandro@acm-sl.com
+
+ ******************************************************************************
+ *
+ * Filename: CompiledQuery.java
+ *
+ * Author: Jose San Leandro Armendariz
+ *
+ * Description: Immutable, thread-safe form of a {@link Query}.
+ *
+ */
+package org.acmsl.queryj.sql;
+
+/*
+ * Importing JetBrains annotations.
+ */
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/*
+ * Importing some JDK classes.
+ */
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, thread-safe form of a {@link Query}: the final SQL text, plus
+ * the positions of its fields and parameters. A single instance can be
+ * shared by many threads, each one preparing and binding its own statement.
+ * @author <a href="mailto:chous@acm-sl.org">Jose San Leandro Armendariz</a>
+ * @see Query#compile()
+ */
+public class CompiledQuery
+{
+    /**
+     * The SQL text.
+     */
+    @NotNull
+    private final String m__strSql;
+
+    /**
+     * The fields.
+     */
+    @NotNull
+    private final List<Field> m__lFields;
+
+    /**
+     * The parameter slots, in order.
+     */
+    @NotNull
+    private final List<VariableCondition> m__lParameters;
+
+    /**
+     * The field positions.
+     */
+    @NotNull
+    private final Map<Field, Integer> m__mFieldPositions;
+
+    /**
+     * The parameter positions.
+     */
+    @NotNull
+    private final Map<VariableCondition, Integer> m__mParameterPositions;
+
+    /**
+     * Creates a compiled query.
+     * @param sql the SQL text.
+     * @param fields the fields.
+     * @param parameters the variable conditions, in parameter order.
+     */
+    public CompiledQuery(
+        @NotNull final String sql,
+        @NotNull final List<Field> fields,
+        @NotNull final List<VariableCondition> parameters)
+    {
+        m__strSql = sql;
+        m__lFields = Collections.unmodifiableList(new ArrayList<Field>(fields));
+        m__lParameters =
+            Collections.unmodifiableList(new ArrayList<VariableCondition>(parameters));
+        m__mFieldPositions =
+            Collections.unmodifiableMap(
+                buildPositions(fields, new IdentityHashMap<Field, Integer>()));
+        m__mParameterPositions =
+            Collections.unmodifiableMap(
+                buildPositions(parameters, new HashMap<VariableCondition, Integer>()));
+    }
+
+    /**
+     * Records the position of the first occurrence of each item.
+     * @param items the items.
+     * @param positions the map to fill.
+     * @param <T> the item type.
+     * @return the filled map.
+     */
+    @NotNull
+    protected static <T> Map<T, Integer> buildPositions(
+        @NotNull final List<T> items, @NotNull final Map<T, Integer> positions)
+    {
+        final int t_iCount = items.size();
+
+        for  (int t_iIndex = 0; t_iIndex < t_iCount; t_iIndex++)
+        {
+            @Nullable final T t_Item = items.get(t_iIndex);
+
+            if  (!positions.containsKey(t_Item))
+            {
+                positions.put(t_Item, t_iIndex + 1);
+            }
+        }
+
+        return positions;
+    }
+
+    /**
+     * Retrieves the SQL text.
+     * @return such text.
+     */
+    @NotNull
+    public String getSql()
+    {
+        return m__strSql;
+    }
+
+    /**
+     * Retrieves the fields.
+     * @return such (read-only) list.
+     */
+    @NotNull
+    public List<Field> getFields()
+    {
+        return m__lFields;
+    }
+
+    /**
+     * Retrieves the parameter slots.
+     * @return such (read-only) list.
+     */
+    @NotNull
+    public List<VariableCondition> getParameters()
+    {
+        return m__lParameters;
+    }
+
+    /**
+     * Retrieves the number of parameters.
+     * @return such count.
+     */
+    public int getParameterCount()
+    {
+        return getParameters().size();
+    }
+
+    /**
+     * Retrieves the field positions.
+     * @return such positions.
+     */
+    @NotNull
+    protected Map<Field, Integer> getFieldPositions()
+    {
+        return m__mFieldPositions;
+    }
+
+    /**
+     * Retrieves the parameter positions.
+     * @return such positions.
+     */
+    @NotNull
+    protected Map<VariableCondition, Integer> getParameterPositions()
+    {
+        return m__mParameterPositions;
+    }
+
+    /**
+     * Retrieves the position of given field.
+     * @param field the field.
+     * @return its position, or <code>0</code> if such field doesn't belong
+     * to this query.
+     */
+    public int getFieldIndex(@NotNull final Field field)
+    {
+        return getPosition(getFieldPositions(), field);
+    }
+
+    /**
+     * Retrieves the position of given parameter.
+     * @param condition the variable condition.
+     * @return its position, or <code>0</code> if such condition doesn't belong
+     * to this query.
+     */
+    public int getParameterIndex(@NotNull final VariableCondition condition)
+    {
+        return getPosition(getParameterPositions(), condition);
+    }
+
+    /**
+     * Retrieves the position of given parameter.
+     * @param condition the variable condition.
+     * @return its position.
+     * @throws SQLException if such condition doesn't belong to this query.
+     */
+    public int retrieveParameterIndex(@NotNull final VariableCondition condition)
+        throws  SQLException
+    {
+        final int result = getParameterIndex(condition);
+
+        if  (result < 1)
+        {
+            throw new SQLException("Field or Condition not found!");
+        }
+
+        return result;
+    }
+
+    /**
+     * Retrieves the position of given item.
+     * @param positions the positions.
+     * @param item the item.
+     * @param <T> the item type.
+     * @return its position, or <code>0</code> if not found.
+     */
+    protected <T> int getPosition(@NotNull final Map<T, Integer> positions, @NotNull final T item)
+    {
+        final int result;
+
+        @Nullable final Integer t_Position = positions.get(item);
+
+        if  (t_Position != null)
+        {
+            result = t_Position;
+        }
+        else
+        {
+            result = 0;
+        }
+
+        return result;
+    }
+
+    /**
+     * Prepares a statement.
+     * @param connection the JDBC connection.
+     * @return the statement.
+     * @throws SQLException if an error occurs.
+     */
+    @NotNull
+    public PreparedStatement prepareStatement(@NotNull final Connection connection)
+        throws  SQLException
+    {
+        @NotNull final PreparedStatement result = connection.prepareStatement(getSql());
+
+        bindAutoParameters(result);
+
+        return result;
+    }
+
+    /**
+     * Prepares a statement using given flags.
+     * @param connection the JDBC connection.
+     * @param resultSetType one of the ResultSet type flags.
+     * @param resultSetConcurrency one of the ResultSet concurrency flags.
+     * @return the statement.
+     * @throws SQLException if an error occurs.
+     */
+    @NotNull
+    public PreparedStatement prepareStatement(
+        @NotNull final Connection connection,
+        final int resultSetType,
+        final int resultSetConcurrency)
+      throws  SQLException
+    {
+        @NotNull final PreparedStatement result =
+            connection.prepareStatement(getSql(), resultSetType, resultSetConcurrency);
+
+        bindAutoParameters(result);
+
+        return result;
+    }
+
+    /**
+     * Binds the values of the parameters the query included automatically.
+     * @param statement the statement, as prepared by this query.
+     * @throws SQLException if any value cannot be bound.
+     * @see Query#useAutoParameterization(boolean)
+     */
+    protected void bindAutoParameters(@NotNull final PreparedStatement statement)
+        throws  SQLException
+    {
+        bindAutoParameters(statement, QueryUtils.getInstance());
+    }
+
+    /**
+     * Binds the values of the parameters the query included automatically.
+     * @param statement the statement, as prepared by this query.
+     * @param queryUtils the {@link QueryUtils} instance.
+     * @throws SQLException if any value cannot be bound.
+     */
+    protected void bindAutoParameters(
+        @NotNull final PreparedStatement statement, @NotNull final QueryUtils queryUtils)
+      throws  SQLException
+    {
+        @NotNull final List<VariableCondition> t_lParameters = getParameters();
+
+        final int t_iCount = t_lParameters.size();
+
+        for  (int t_iIndex = 0; t_iIndex < t_iCount; t_iIndex++)
+        {
+            @NotNull final VariableCondition t_Parameter = t_lParameters.get(t_iIndex);
+
+            if  (t_Parameter.hasTypedRightSideValue())
+            {
+                @Nullable Object t_Value = t_Parameter.getRightSideObject();
+
+                if  (queryUtils.isTemporal(t_Value))
+                {
+                    t_Value = queryUtils.toJdbcTemporal(t_Value);
+                }
+
+                statement.setObject(t_iIndex + 1, t_Value);
+            }
+        }
+    }
+
+    /**
+     * Binds the value of given parameter.
+     * @param statement the statement, as prepared by this query.
+     * @param condition the variable condition.
+     * @param value the value.
+     * @throws SQLException if the condition doesn't belong to this query,
+     * or the value cannot be bound.
+     */
+    public void setObject(
+        @NotNull final PreparedStatement statement,
+        @NotNull final VariableCondition condition,
+        @Nullable final Object value)
+      throws  SQLException
+    {
+        statement.setObject(retrieveParameterIndex(condition), value);
+    }
+
+    /**
+     * Outputs the SQL text.
+     * @return such text.
+     */
+    @Override
+    @NotNull
+    public String toString()
+    {
+        return getSql();
+    }
+}
@@ -60,6 +60,11 @@ public abstract class Condition
      */
     private Collection<VariableCondition> m__cVariableConditions;
 
+    /**
+     * Whether the condition can no longer be composed.
+     */
+    private boolean m__bFrozen;
+
     /**
      * Creates a condition.
      */
@@ -84,6 +89,51 @@ public abstract class Condition
         return m__InnerCondition;
     }
 
+    /**
+     * Specifies whether the condition can no longer be composed.
+     * @param flag such flag.
+     */
+    protected void setFrozen(final boolean flag)
+    {
+        m__bFrozen = flag;
+    }
+
+    /**
+     * Checks whether the condition can no longer be composed.
+     * @return <code>true</code> once it's been added to a query.
+     */
+    public boolean isFrozen()
+    {
+        return m__bFrozen;
+    }
+
+    /**
+     * Freezes the condition, and the conditions it's built upon: queries
+     * keep their normalized form, rendered SQL and parameter positions,
+     * so composing onto a condition once it's added to a query fails.
+     */
+    protected void freeze()
+    {
+        if  (!isFrozen())
+        {
+            setFrozen(true);
+            freezeComponents();
+        }
+    }
+
+    /**
+     * Freezes the conditions this one is built upon.
+     */
+    protected void freezeComponents()
+    {
+        @Nullable final Condition t_InnerCondition = getInnerCondition();
+
+        if  (t_InnerCondition != null)
+        {
+            t_InnerCondition.freeze();
+        }
+    }
+
     /**
      * Specifies the variable conditions.
      * @param collection the variable conditions.
@@ -137,45 +187,67 @@ public abstract class Condition
     }
 
     /**
-     * Retrieves the variable conditions.
+     * Retrieves the variable conditions, in rendering order.
      * @return such collection.
      */
     @NotNull
     public Collection<VariableCondition> getVariableConditions()
     {
-        return getVariableConditions(immutableGetVariableConditions());
+        @NotNull final Collection<VariableCondition> result =
+            new ArrayList<VariableCondition>();
+
+        collectVariableConditions(result);
+
+        return result;
     }
 
     /**
-     * Retrieves the variable conditions.
+     * Appends the variable conditions, in rendering order, to given
+     * collection. No intermediate collections are built.
+     * @param target the collection to fill.
+     */
+    public void collectVariableConditions(@NotNull final Collection<VariableCondition> target)
+    {
+        collectVariableConditions(
+            target, getInnerCondition(), immutableGetVariableConditions());
+    }
+
+    /**
+     * Appends the variable conditions, in rendering order, to given
+     * collection.
+     * @param target the collection to fill.
+     * @param innerCondition the inner condition.
      * @param explicitConditions the explicit/non-wrapped conditions.
-     * @return such collection.
      */
-    @NotNull
-    protected Collection<VariableCondition> getVariableConditions(
+    protected void collectVariableConditions(
+        @NotNull final Collection<VariableCondition> target,
+        @Nullable final Condition innerCondition,
         @Nullable final Collection<VariableCondition> explicitConditions)
     {
-        @NotNull final Collection<VariableCondition> result = new ArrayList<VariableCondition>();
-
-        final Condition t_InnerCondition = getInnerCondition();
-
-        if  (t_InnerCondition != null)
+        if  (innerCondition != null)
         {
-            @NotNull final Collection<VariableCondition> t_cInnerVariableConditions =
-                t_InnerCondition.getVariableConditions();
-
-            if  (t_cInnerVariableConditions.size() > 0)
-            {
-                result.addAll(t_cInnerVariableConditions);
-            }
+            innerCondition.collectVariableConditions(target);
+        }
+        else
+        {
+            collectOwnVariableConditions(target);
         }
 
         if  (explicitConditions != null)
         {
-            result.addAll(explicitConditions);
+            target.addAll(explicitConditions);
         }
+    }
 
-        return result;
+    /**
+     * Appends the variable conditions of this condition, ignoring
+     * any condition composed onto it.
+     * @param target the collection to fill.
+     */
+    protected void collectOwnVariableConditions(
+        @NotNull final Collection<VariableCondition> target)
+    {
+        // A plain condition is only its inner condition.
     }
 
     /**
@@ -183,6 +255,8 @@ public abstract class Condition
      * @param condition the condition to evaluate.
      * @param operator the operator.
      * @return the resulting condition.
+     * @throws IllegalStateException if the condition is already part of
+     * a query.
      */
     @NotNull
     public Condition operate(
@@ -211,23 +285,22 @@ public abstract class Condition
         @Nullable final Condition innerCondition,
         @NotNull final ConditionFactory conditionFactory)
     {
-        @Nullable Condition t_InnerCondition = innerCondition;
-
-        if  (t_InnerCondition != null)
+        if  (isFrozen())
         {
-            addVariableConditions(innerCondition.getVariableConditions());
+            throw new IllegalStateException("Condition already added to a query: " + this);
         }
-        else 
+
+        @Nullable Condition t_LeftCondition = innerCondition;
+
+        if  (t_LeftCondition == null)
         {
-            t_InnerCondition = this; // Subclasses override toString()
-        }                            //            |
-                                     //            v
-        @NotNull final String t_strPrefix =
-            "(" + t_InnerCondition.toString() + ") " + operator + " (";
-        @NotNull final String t_strSuffix = ")";
+            // The left side is this condition as it is now, not
+            // the composition it's about to become.
+            t_LeftCondition = conditionFactory.detach(this);
+        }
 
         setInnerCondition(
-            conditionFactory.wrap(condition, t_strPrefix, t_strSuffix));
+            conditionFactory.compose(t_LeftCondition, operator, condition));
 
         return this;
     }
@@ -236,6 +309,8 @@ public abstract class Condition
      * Requests AND evaluation with given condition.
      * @param condition the condition to evaluate.
      * @return the resulting condition.
+     * @throws IllegalStateException if the condition is already part of
+     * a query.
      */
     @NotNull
     public Condition and(@NotNull final Condition condition)
@@ -247,6 +322,8 @@ public abstract class Condition
      * Requests OR evaluation with given condition.
      * @param condition the condition to evaluate.
      * @return the resulting condition.
+     * @throws IllegalStateException if the condition is already part of
+     * a query.
      */
     @NotNull
     public Condition or(@NotNull final Condition condition)
@@ -300,14 +377,11 @@ public abstract class Condition
     @NotNull
     public String toSimplifiedString(@Nullable final Condition innerCondition)
     {
-        String result = "";
+        @NotNull final StringBuilder t_sbResult = new StringBuilder();
 
-        if  (innerCondition != null)
-        {
-            result = innerCondition.toSimplifiedString();
-        }
+        appendTo(t_sbResult, innerCondition, true);
 
-        return result;
+        return t_sbResult.toString();
     }
 
     /**
@@ -328,6 +402,74 @@ public abstract class Condition
     @NotNull
     protected String toString(@Nullable final Condition innerCondition)
     {
-        return innerCondition != null ? innerCondition.toString() : "";
+        @NotNull final StringBuilder t_sbResult = new StringBuilder();
+
+        appendTo(t_sbResult, innerCondition, false);
+
+        return t_sbResult.toString();
+    }
+
+    /**
+     * Appends a text version of the condition to given buffer.
+     * @param buffer the buffer.
+     * @param simplify if fields should appear
+     * without explicit table information.
+     */
+    public void appendTo(@NotNull final StringBuilder buffer, final boolean simplify)
+    {
+        appendTo(buffer, getInnerCondition(), simplify);
+    }
+
+    /**
+     * Appends a text version of the condition to given buffer.
+     * @param buffer the buffer.
+     * @param innerCondition the inner condition.
+     * @param simplify if fields should appear
+     * without explicit table information.
+     */
+    protected void appendTo(
+        @NotNull final StringBuilder buffer,
+        @Nullable final Condition innerCondition,
+        final boolean simplify)
+    {
+        if  (innerCondition != null)
+        {
+            innerCondition.appendTo(buffer, simplify);
+        }
+    }
+
+    /**
+     * Appends a text version of the condition to given buffer,
+     * ignoring any condition composed onto it.
+     * @param buffer the buffer.
+     * @param simplify if fields should appear
+     * without explicit table information.
+     */
+    protected void appendOwnTo(@NotNull final StringBuilder buffer, final boolean simplify)
+    {
+        // A plain condition is only its inner condition.
+    }
+
+    /**
+     * Appends the complete or simplified text associated with
+     * given field.
+     * @param buffer the buffer.
+     * @param field the field to serialize.
+     * @param simplify if fields should appear
+     * without explicit table information.
+     */
+    protected void appendTo(
+        @NotNull final StringBuilder buffer,
+        @Nullable final Field field,
+        final boolean simplify)
+    {
+        if  (field != null)
+        {
+            field.appendTo(buffer, simplify);
+        }
+        else
+        {
+            buffer.append("null");
+        }
     }
 }
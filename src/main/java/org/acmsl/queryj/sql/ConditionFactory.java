@@ -53,6 +53,7 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 
 /**
  * Has the responsibility of knowing how to create conditions.
@@ -221,6 +222,22 @@ public class ConditionFactory
         return new AtomicCondition(leftSideField, operator, value);
     }
 
+    /**
+     * Creates a condition comparing a field against a list of literal values.
+     * @param leftSideField the left-side field.
+     * @param operator the operator.
+     * @param values the values.
+     * @return such type of instance.
+     */
+    @NotNull
+    public Condition createValueListCondition(
+        @NotNull final Field leftSideField,
+        @NotNull final ConditionOperator operator,
+        @Nullable final String[] values)
+    {
+        return new ValueListCondition(leftSideField, operator, values);
+    }
+
     /**
      * Creates a variable condition.
      * @param field the field.
@@ -235,50 +252,798 @@ public class ConditionFactory
         return new VariableCondition(field, operator);
     }
 
-    /**
-     * Creates a wrapper condition.
-     * @param condition the condition to wrap.
-     * @param prefix the prefix.
-     * @param suffix the suffix.
-     * @return the wrapped condition.
-     */
-    @NotNull
-    public Condition wrap(
-        @NotNull final Condition condition, @NotNull final String prefix, @NotNull final String suffix)
-    {
-        return new _ConditionWrapper(condition, prefix, suffix);
+    /**
+     * Creates a variable condition which already knows the value of its
+     * parameter, available through {@link AtomicCondition#getRightSideObject()}.
+     * @param field the field.
+     * @param operator the operator.
+     * @param value the value.
+     * @return such type of instance.
+     */
+    @NotNull
+    public VariableCondition createBoundCondition(
+        @NotNull final Field field,
+        @NotNull final ConditionOperator operator,
+        @NotNull final Object value)
+    {
+        return new _BoundCondition(field, operator, value);
+    }
+
+    /**
+     * Creates a wrapper condition.
+     * @param condition the condition to wrap.
+     * @param prefix the prefix.
+     * @param suffix the suffix.
+     * @return the wrapped condition.
+     */
+    @NotNull
+    public Condition wrap(
+        @NotNull final Condition condition, @NotNull final String prefix, @NotNull final String suffix)
+    {
+        return new _ConditionWrapper(condition, prefix, suffix);
+    }
+
+    /**
+     * Creates a wrapper condition.
+     * @param condition the condition to wrap.
+     * @param prefix the prefix.
+     * @param suffix the suffix.
+     * @return the wrapped condition.
+     */
+    @NotNull
+    public Condition wrap(
+        @NotNull final AtomicCondition condition,
+        @NotNull final String prefix,
+        @NotNull final String suffix)
+    {
+        return new _AtomicConditionWrapper(condition, prefix, suffix);
+    }
+
+    /**
+     * Creates a wrapper condition.
+     * @param condition the condition to wrap.
+     * @param prefix the prefix.
+     * @param suffix the suffix.
+     * @return the wrapped condition.
+     */
+    @NotNull
+    public VariableCondition wrap(
+        @NotNull final VariableCondition condition,
+        @NotNull final String prefix,
+        @NotNull final String suffix)
+    {
+        return new _VariableConditionWrapper(condition, prefix, suffix);
+    }
+
+    /**
+     * Creates a condition combining given operands.
+     * @param leftCondition the left operand.
+     * @param operator the operator.
+     * @param rightCondition the right operand.
+     * @return the composed condition.
+     */
+    @NotNull
+    public Condition compose(
+        @NotNull final Condition leftCondition,
+        @NotNull final String operator,
+        @NotNull final Condition rightCondition)
+    {
+        return new _CompositeCondition(leftCondition, operator, rightCondition);
+    }
+
+    /**
+     * Creates a view of given condition which ignores
+     * any condition composed onto it afterwards.
+     * @param condition the condition.
+     * @return the detached view.
+     */
+    @NotNull
+    public Condition detach(@NotNull final Condition condition)
+    {
+        return new _DetachedCondition(condition);
+    }
+
+    /**
+     * Normalizes given condition: chains of the same operator are
+     * flattened, repeated literal atomic conditions within a chain are
+     * kept only once, and single-operand chains collapse to the operand.
+     * Placeholders are never merged, since each one gets bound on its own.
+     * The original condition is not modified.
+     * @param condition the condition.
+     * @return the normalized condition.
+     */
+    @NotNull
+    public Condition normalize(@NotNull final Condition condition)
+    {
+        @NotNull final Condition result;
+
+        if  (condition instanceof _CompositeCondition)
+        {
+            @NotNull final _CompositeCondition t_Composite = (_CompositeCondition) condition;
+
+            @NotNull final List<Condition> t_lOperands = new ArrayList<Condition>();
+
+            addOperand(t_Composite.getOperator(), t_Composite.getLeftCondition(), t_lOperands);
+            addOperand(t_Composite.getOperator(), t_Composite.getRightCondition(), t_lOperands);
+
+            if  (t_lOperands.size() == 1)
+            {
+                result = t_lOperands.get(0);
+            }
+            else
+            {
+                result = new _ChainCondition(t_Composite.getOperator(), t_lOperands);
+            }
+        }
+        else if  (   (condition.getInnerCondition() != null)
+                  && (   (condition.getClass() == AtomicCondition.class)
+                      || (condition.getClass() == VariableCondition.class)
+                      || (condition.getClass() == ValueListCondition.class)))
+        {
+            // Composed conditions render as their inner condition.
+            result = normalize(condition.getInnerCondition());
+        }
+        else
+        {
+            result = condition;
+        }
+
+        return result;
+    }
+
+    /**
+     * Replaces the typed literal values of given normalized condition with
+     * <code>?</code> placeholders. Each replaced condition keeps its value,
+     * available through {@link AtomicCondition#getRightSideObject()}, so it
+     * can be bound once the statement is prepared. Text values are kept as
+     * literals, since they're stored already quoted.
+     * @param condition the condition, as returned by {@link #normalize(Condition)}.
+     * @return the parameterized condition.
+     */
+    @NotNull
+    public Condition parameterize(@NotNull final Condition condition)
+    {
+        return parameterize(condition, false);
+    }
+
+    /**
+     * Replaces the typed literal values of given normalized condition with
+     * <code>?</code> placeholders.
+     * @param condition the condition, as returned by {@link #normalize(Condition)}.
+     * @param temporalOnly <code>true</code> to replace dates only.
+     * @return the parameterized condition.
+     * @see #parameterize(Condition)
+     */
+    @NotNull
+    public Condition parameterize(@NotNull final Condition condition, final boolean temporalOnly)
+    {
+        @NotNull final Condition result;
+
+        if  (condition instanceof _ChainCondition)
+        {
+            @NotNull final _ChainCondition t_Chain = (_ChainCondition) condition;
+
+            @NotNull final List<Condition> t_lOperands =
+                new ArrayList<Condition>(t_Chain.getOperands().size());
+
+            for  (@NotNull final Condition t_Operand : t_Chain.getOperands())
+            {
+                t_lOperands.add(parameterize(t_Operand, temporalOnly));
+            }
+
+            result = new _ChainCondition(t_Chain.getOperator(), t_lOperands);
+        }
+        else if  (condition instanceof _DetachedCondition)
+        {
+            @NotNull final Condition t_Condition = ((_DetachedCondition) condition).getCondition();
+
+            if  (isParameterizable(t_Condition, temporalOnly))
+            {
+                result = bind((AtomicCondition) t_Condition);
+            }
+            else
+            {
+                result = condition;
+            }
+        }
+        else if  (   (condition.getInnerCondition() == null)
+                  && (isParameterizable(condition, temporalOnly)))
+        {
+            result = bind((AtomicCondition) condition);
+        }
+        else
+        {
+            result = condition;
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks whether given condition compares a field against a typed value.
+     * @param condition the condition.
+     * @param temporalOnly <code>true</code> to accept dates only.
+     * @return <code>true</code> in such case.
+     */
+    protected boolean isParameterizable(
+        @NotNull final Condition condition, final boolean temporalOnly)
+    {
+        boolean result = false;
+
+        if  (condition.getClass() == AtomicCondition.class)
+        {
+            @NotNull final AtomicCondition t_Condition = (AtomicCondition) condition;
+
+            @Nullable final ConditionOperator t_Operator = t_Condition.getOperator();
+
+            result =
+                   (t_Condition.getLeftSideField() != null)
+                && (t_Operator != null)
+                && (t_Operator.getBindingCount() == 1)
+                && (t_Condition.getRightSideField() == null)
+                && (t_Condition.hasTypedRightSideValue())
+                && (   (!temporalOnly)
+                    || (t_Condition.hasTemporalRightSideValue()));
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates a variable condition bound to the value of given one.
+     * @param condition the condition.
+     * @return the bound condition.
+     */
+    @NotNull
+    protected VariableCondition bind(@NotNull final AtomicCondition condition)
+    {
+        return
+            createBoundCondition(
+                condition.getLeftSideField(),
+                condition.getOperator(),
+                condition.getRightSideObject());
+    }
+
+    /**
+     * Adds given operand to the chain, once.
+     * @param operator the chain operator.
+     * @param operand the operand.
+     * @param operands the chain operands.
+     */
+    protected void addOperand(
+        @NotNull final String operator,
+        @NotNull final Condition operand,
+        @NotNull final List<Condition> operands)
+    {
+        @NotNull final Condition t_Operand = normalize(operand);
+
+        if  (   (t_Operand instanceof _ChainCondition)
+             && (operator.equals(((_ChainCondition) t_Operand).getOperator())))
+        {
+            for  (@NotNull final Condition t_Item : ((_ChainCondition) t_Operand).getOperands())
+            {
+                addOperand(operator, t_Item, operands);
+            }
+        }
+        else if  (   (!isLiteral(t_Operand))
+                  || (!containsOperand(operands, t_Operand)))
+        {
+            operands.add(t_Operand);
+        }
+    }
+
+    /**
+     * Checks whether given operand is a literal atomic condition, whose
+     * values are all known.
+     * @param operand the operand.
+     * @return <code>true</code> in such case.
+     */
+    protected boolean isLiteral(@NotNull final Condition operand)
+    {
+        return toOperandKey(operand).getClass() == AtomicCondition.class;
+    }
+
+    /**
+     * Checks whether given operand is already within the chain.
+     * @param operands the chain operands.
+     * @param operand the operand.
+     * @return <code>true</code> in such case.
+     */
+    protected boolean containsOperand(
+        @NotNull final List<Condition> operands, @NotNull final Condition operand)
+    {
+        boolean result = false;
+
+        @NotNull final Condition t_Key = toOperandKey(operand);
+
+        for  (@NotNull final Condition t_Item : operands)
+        {
+            if  (t_Key.equals(toOperandKey(t_Item)))
+            {
+                result = true;
+                break;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Retrieves the condition whose equality identifies given operand.
+     * @param operand the operand.
+     * @return the detached condition, or the operand itself.
+     */
+    @NotNull
+    protected Condition toOperandKey(@NotNull final Condition operand)
+    {
+        @NotNull final Condition result;
+
+        if  (operand instanceof _DetachedCondition)
+        {
+            result = ((_DetachedCondition) operand).getCondition();
+        }
+        else
+        {
+            result = operand;
+        }
+
+        return result;
+    }
+
+    /**
+     * Combines several conditions with the same operator, as in
+     * <code>(a) AND (b) AND (c)</code>. It's the normalized form of
+     * {@link _CompositeCondition} chains.
+     * @author <a href="mailto:chous@acm-sl.org">Jose San Leandro</a>
+     */
+    protected static class _ChainCondition
+        extends  Condition
+    {
+        /**
+         * The operator.
+         */
+        private final String m__strOperator;
+
+        /**
+         * The operands.
+         */
+        private final List<Condition> m__lOperands;
+
+        /**
+         * Creates a chain with given information.
+         * @param operator the operator.
+         * @param operands the operands.
+         */
+        public _ChainCondition(
+            @NotNull final String operator, @NotNull final List<Condition> operands)
+        {
+            super();
+
+            m__strOperator = operator;
+            m__lOperands = operands;
+        }
+
+        /**
+         * Retrieves the operator.
+         * @return such operator.
+         */
+        @NotNull
+        public String getOperator()
+        {
+            return m__strOperator;
+        }
+
+        /**
+         * Retrieves the operands.
+         * @return such conditions.
+         */
+        @NotNull
+        public List<Condition> getOperands()
+        {
+            return m__lOperands;
+        }
+
+        /**
+         * Freezes the operands.
+         */
+        @Override
+        protected void freezeComponents()
+        {
+            for  (@NotNull final Condition t_Operand : getOperands())
+            {
+                t_Operand.freeze();
+            }
+        }
+
+        /**
+         * Collects the variable conditions of all operands,
+         * in rendering order.
+         * @param target the collection to fill.
+         */
+        @Override
+        protected void collectOwnVariableConditions(
+            @NotNull final Collection<VariableCondition> target)
+        {
+            for  (@NotNull final Condition t_Operand : getOperands())
+            {
+                t_Operand.collectVariableConditions(target);
+            }
+        }
+
+        /**
+         * Outputs a brief text version of the condition.
+         * @return such text.
+         */
+        @Override
+        @NotNull
+        public String toSimplifiedString()
+        {
+            @NotNull final StringBuilder t_sbResult = new StringBuilder();
+
+            appendTo(t_sbResult, true);
+
+            return t_sbResult.toString();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        @NotNull
+        public String toString()
+        {
+            @NotNull final StringBuilder t_sbResult = new StringBuilder();
+
+            appendTo(t_sbResult, false);
+
+            return t_sbResult.toString();
+        }
+
+        /**
+         * Appends a text version of the condition to given buffer.
+         * @param buffer the buffer.
+         * @param simplify if fields should appear
+         * without explicit table information.
+         */
+        @Override
+        public void appendTo(@NotNull final StringBuilder buffer, final boolean simplify)
+        {
+            appendOwnTo(buffer, simplify);
+        }
+
+        /**
+         * Appends a text version of the condition to given buffer.
+         * Composed conditions are never simplified.
+         * @param buffer the buffer.
+         * @param simplify ignored.
+         */
+        @Override
+        protected void appendOwnTo(@NotNull final StringBuilder buffer, final boolean simplify)
+        {
+            boolean t_bFirst = true;
+
+            for  (@NotNull final Condition t_Operand : getOperands())
+            {
+                if  (!t_bFirst)
+                {
+                    buffer.append(") ");
+                    buffer.append(getOperator());
+                    buffer.append(" (");
+                }
+                else
+                {
+                    buffer.append('(');
+                }
+
+                t_bFirst = false;
+
+                t_Operand.appendTo(buffer, false);
+            }
+
+            buffer.append(')');
+        }
+    }
+
+    /**
+     * Combines two conditions with an operator. It's rendered
+     * as <code>(left) operator (right)</code>, only when needed.
+     * @author <a href="mailto:chous@acm-sl.org">Jose San Leandro</a>
+     */
+    protected static class _CompositeCondition
+        extends  Condition
+    {
+        /**
+         * The left operand.
+         */
+        private final Condition m__LeftCondition;
+
+        /**
+         * The operator.
+         */
+        private final String m__strOperator;
+
+        /**
+         * The right operand.
+         */
+        private final Condition m__RightCondition;
+
+        /**
+         * Creates a composite condition with given information.
+         * @param leftCondition the left operand.
+         * @param operator the operator.
+         * @param rightCondition the right operand.
+         */
+        public _CompositeCondition(
+            @NotNull final Condition leftCondition,
+            @NotNull final String operator,
+            @NotNull final Condition rightCondition)
+        {
+            super();
+
+            m__LeftCondition = leftCondition;
+            m__strOperator = operator;
+            m__RightCondition = rightCondition;
+        }
+
+        /**
+         * Retrieves the left operand.
+         * @return such condition.
+         */
+        @NotNull
+        public Condition getLeftCondition()
+        {
+            return m__LeftCondition;
+        }
+
+        /**
+         * Retrieves the operator.
+         * @return such operator.
+         */
+        @NotNull
+        public String getOperator()
+        {
+            return m__strOperator;
+        }
+
+        /**
+         * Retrieves the right operand.
+         * @return such condition.
+         */
+        @NotNull
+        public Condition getRightCondition()
+        {
+            return m__RightCondition;
+        }
+
+        /**
+         * Freezes both sides.
+         */
+        @Override
+        protected void freezeComponents()
+        {
+            getLeftCondition().freeze();
+            getRightCondition().freeze();
+        }
+
+        /**
+         * Collects the variable conditions of both operands,
+         * in rendering order.
+         * @param target the collection to fill.
+         */
+        @Override
+        protected void collectOwnVariableConditions(
+            @NotNull final Collection<VariableCondition> target)
+        {
+            getLeftCondition().collectVariableConditions(target);
+            getRightCondition().collectVariableConditions(target);
+        }
+
+        /**
+         * Outputs a brief text version of the condition.
+         * @return such text.
+         */
+        @Override
+        @NotNull
+        public String toSimplifiedString()
+        {
+            @NotNull final StringBuilder t_sbResult = new StringBuilder();
+
+            appendTo(t_sbResult, true);
+
+            return t_sbResult.toString();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        @NotNull
+        public String toString()
+        {
+            @NotNull final StringBuilder t_sbResult = new StringBuilder();
+
+            appendTo(t_sbResult, false);
+
+            return t_sbResult.toString();
+        }
+
+        /**
+         * Appends a text version of the condition to given buffer.
+         * @param buffer the buffer.
+         * @param simplify if fields should appear
+         * without explicit table information.
+         */
+        @Override
+        public void appendTo(@NotNull final StringBuilder buffer, final boolean simplify)
+        {
+            appendOwnTo(buffer, simplify);
+        }
+
+        /**
+         * Appends a text version of the condition to given buffer.
+         * The left operand is never simplified.
+         * @param buffer the buffer.
+         * @param simplify if fields should appear
+         * without explicit table information.
+         */
+        @Override
+        protected void appendOwnTo(@NotNull final StringBuilder buffer, final boolean simplify)
+        {
+            buffer.append('(');
+            getLeftCondition().appendTo(buffer, false);
+            buffer.append(") ");
+            buffer.append(getOperator());
+            buffer.append(" (");
+            getRightCondition().appendTo(buffer, simplify);
+            buffer.append(')');
+        }
+    }
+
+    /**
+     * Renders a condition as it was before anything got composed onto it.
+     * @author <a href="mailto:chous@acm-sl.org">Jose San Leandro</a>
+     */
+    protected static class _DetachedCondition
+        extends  Condition
+    {
+        /**
+         * The condition.
+         */
+        private final Condition m__Condition;
+
+        /**
+         * Creates a detached view of given condition.
+         * @param condition the condition.
+         */
+        public _DetachedCondition(@NotNull final Condition condition)
+        {
+            super();
+
+            m__Condition = condition;
+        }
+
+        /**
+         * Retrieves the condition.
+         * @return such condition.
+         */
+        @NotNull
+        public Condition getCondition()
+        {
+            return m__Condition;
+        }
+
+        /**
+         * Freezes the wrapped condition.
+         */
+        @Override
+        protected void freezeComponents()
+        {
+            getCondition().freeze();
+        }
+
+        /**
+         * Outputs a brief text version of the condition.
+         * @return such text.
+         */
+        @Override
+        @NotNull
+        public String toSimplifiedString()
+        {
+            @NotNull final StringBuilder t_sbResult = new StringBuilder();
+
+            appendTo(t_sbResult, true);
+
+            return t_sbResult.toString();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        @NotNull
+        public String toString()
+        {
+            @NotNull final StringBuilder t_sbResult = new StringBuilder();
+
+            appendTo(t_sbResult, false);
+
+            return t_sbResult.toString();
+        }
+
+        /**
+         * Appends a text version of the condition to given buffer.
+         * @param buffer the buffer.
+         * @param simplify if fields should appear
+         * without explicit table information.
+         */
+        @Override
+        public void appendTo(@NotNull final StringBuilder buffer, final boolean simplify)
+        {
+            getCondition().appendOwnTo(buffer, simplify);
+        }
+
+        /**
+         * Collects the variable conditions of the condition itself.
+         * @param target the collection to fill.
+         */
+        @Override
+        public void collectVariableConditions(
+            @NotNull final Collection<VariableCondition> target)
+        {
+            getCondition().collectOwnVariableConditions(target);
+        }
     }
 
     /**
-     * Creates a wrapper condition.
-     * @param condition the condition to wrap.
-     * @param prefix the prefix.
-     * @param suffix the suffix.
-     * @return the wrapped condition.
+     * A variable condition which already knows the value of its parameter.
+     * @author <a href="mailto:chous@acm-sl.org">Jose San Leandro</a>
+     * @see ConditionFactory#parameterize(Condition)
      */
-    @NotNull
-    public Condition wrap(
-        @NotNull final AtomicCondition condition,
-        @NotNull final String prefix,
-        @NotNull final String suffix)
+    protected static class _BoundCondition
+        extends  VariableCondition
     {
-        return new _AtomicConditionWrapper(condition, prefix, suffix);
-    }
+        /**
+         * The value.
+         */
+        private final Object m__Value;
 
-    /**
-     * Creates a wrapper condition.
-     * @param condition the condition to wrap.
-     * @param prefix the prefix.
-     * @param suffix the suffix.
-     * @return the wrapped condition.
-     */
-    @NotNull
-    public VariableCondition wrap(
-        @NotNull final VariableCondition condition,
-        @NotNull final String prefix,
-        @NotNull final String suffix)
-    {
-        return new _VariableConditionWrapper(condition, prefix, suffix);
+        /**
+         * Creates a bound condition.
+         * @param field the field.
+         * @param operator the operator.
+         * @param value the value.
+         */
+        public _BoundCondition(
+            @NotNull final Field field,
+            @NotNull final ConditionOperator operator,
+            @NotNull final Object value)
+        {
+            super(field, operator);
+
+            m__Value = value;
+        }
+
+        /**
+         * Retrieves the value to bind.
+         * @return such value.
+         */
+        @Override
+        @NotNull
+        public Object getRightSideObject()
+        {
+            return m__Value;
+        }
+
+        /**
+         * Checks whether the value is to be bound. It always is, since
+         * unlike literal conditions, text values are kept unquoted.
+         * @return <code>true</code>.
+         */
+        @Override
+        public boolean hasTypedRightSideValue()
+        {
+            return true;
+        }
     }
 
     /**
@@ -348,6 +1113,15 @@ public class ConditionFactory
             return m__Condition;
         }
 
+        /**
+         * Freezes the wrapped condition.
+         */
+        @Override
+        protected void freezeComponents()
+        {
+            getCondition().freeze();
+        }
+
         /**
          * Specifies the prefix.
          * @param prefix such prefix.
@@ -408,54 +1182,14 @@ public class ConditionFactory
 
 
         /**
-         * Retrieves the variable conditions.
-         * @return such collection.
+         * Collects the variable conditions of the wrapped condition.
+         * @param target the collection to fill.
          */
         @Override
-        @NotNull
-        public Collection<VariableCondition> getVariableConditions()
-        {
-            return
-                getVariableConditions(
-                    super.getVariableConditions(),
-                    getCondition());
-        }
-
-        /**
-         * Retrieves the variable conditions.
-         * @param parentVariableConditions the variable conditions from the parent.
-         * @param condition the condition.
-         * @return such collection.
-         */
-        @NotNull
-        protected Collection<VariableCondition> getVariableConditions(
-            @Nullable final Collection<VariableCondition> parentVariableConditions,
-            @Nullable final Condition condition)
+        protected void collectOwnVariableConditions(
+            @NotNull final Collection<VariableCondition> target)
         {
-            @Nullable Collection<VariableCondition> result = parentVariableConditions;
-
-            if  (condition != null) 
-            {
-                @NotNull final Collection<VariableCondition> t_cVariableConditions =
-                    condition.getVariableConditions();
-
-                if  (t_cVariableConditions.size() > 0)
-                {
-                    if  (result == null)
-                    {
-                        result = new ArrayList<VariableCondition>();
-                    }
-
-                    result.addAll(t_cVariableConditions);
-                }
-            }
-
-            if  (result == null)
-            {
-                result = new ArrayList<VariableCondition>();
-            }
-
-            return result;
+            getCondition().collectVariableConditions(target);
         }
 
         /**
@@ -485,17 +1219,11 @@ public class ConditionFactory
             @Nullable final Condition condition,
             @NotNull final String suffix)
         {
-            @NotNull String result = "";
+            @NotNull final StringBuilder t_sbResult = new StringBuilder();
 
-            if  (condition != null)
-            {
-                result =
-                      prefix
-                    + condition.toSimplifiedString()
-                    + suffix;
-            }
+            appendTo(t_sbResult, prefix, condition, suffix, true);
 
-            return result;
+            return t_sbResult.toString();
         }
 
         /**
@@ -521,7 +1249,66 @@ public class ConditionFactory
             @NotNull final Condition condition,
             @NotNull final String suffix)
         {
-            return prefix + condition + suffix;
+            @NotNull final StringBuilder t_sbResult = new StringBuilder();
+
+            appendTo(t_sbResult, prefix, condition, suffix, false);
+
+            return t_sbResult.toString();
+        }
+
+        /**
+         * Appends a text version of the condition to given buffer.
+         * @param buffer the buffer.
+         * @param simplify if fields should appear
+         * without explicit table information.
+         */
+        @Override
+        public void appendTo(@NotNull final StringBuilder buffer, final boolean simplify)
+        {
+            appendTo(buffer, getPrefix(), getCondition(), getSuffix(), simplify);
+        }
+
+        /**
+         * Appends a text version of the condition to given buffer,
+         * ignoring any condition composed onto it.
+         * @param buffer the buffer.
+         * @param simplify if fields should appear
+         * without explicit table information.
+         */
+        @Override
+        protected void appendOwnTo(@NotNull final StringBuilder buffer, final boolean simplify)
+        {
+            appendTo(buffer, getPrefix(), getCondition(), getSuffix(), simplify);
+        }
+
+        /**
+         * Appends a text version of the condition to given buffer.
+         * @param buffer the buffer.
+         * @param prefix the prefix.
+         * @param condition the condition.
+         * @param suffix the suffix.
+         * @param simplify if fields should appear
+         * without explicit table information.
+         */
+        protected void appendTo(
+            @NotNull final StringBuilder buffer,
+            @NotNull final String prefix,
+            @Nullable final Condition condition,
+            @NotNull final String suffix,
+            final boolean simplify)
+        {
+            if  (condition != null)
+            {
+                buffer.append(prefix);
+                condition.appendTo(buffer, simplify);
+                buffer.append(suffix);
+            }
+            else if  (!simplify)
+            {
+                buffer.append(prefix);
+                buffer.append("null");
+                buffer.append(suffix);
+            }
         }
     }
 
@@ -597,6 +1384,15 @@ public class ConditionFactory
             return m__Condition;
         }
 
+        /**
+         * Freezes the wrapped condition.
+         */
+        @Override
+        protected void freezeComponents()
+        {
+            getCondition().freeze();
+        }
+
         /**
          * Specifies the prefix.
          * @param prefix such prefix.
@@ -776,56 +1572,45 @@ public class ConditionFactory
         }
 
         /**
-         * Retrieves the variable conditions.
-         * @return such collection.
+         * Retrieves the right-side value, as given.
+         * @return such value.
          */
         @Override
-        @NotNull
-        public Collection<VariableCondition> getVariableConditions()
+        @Nullable
+        public Object getRightSideObject()
         {
-            return
-                getVariableConditions(
-                    super.getVariableConditions(),
-                    getCondition());
+            return getRightSideObject(getCondition());
         }
 
         /**
-         * Retrieves the variable conditions.
-         * @param parentVariableConditions the parent's variable conditions.
+         * Retrieves the right-side value, as given.
          * @param condition the condition.
-         * @return such collection.
+         * @return such value.
          */
-        @NotNull
-        public Collection<VariableCondition> getVariableConditions(
-            @Nullable final Collection<VariableCondition> parentVariableConditions,
-            @Nullable final Condition condition)
+        @Nullable
+        protected Object getRightSideObject(@Nullable final AtomicCondition condition)
         {
-            @Nullable Collection<VariableCondition> result = parentVariableConditions;
-
-            if  (condition != null) 
-            {
-                final Collection<VariableCondition> t_cVariableConditions =
-                    condition.getVariableConditions();
+            @Nullable Object result = null;
 
-                if  (t_cVariableConditions.size() > 0)
-                {
-                    if  (result == null)
-                    {
-                        result = new ArrayList<VariableCondition>();
-                    }
-
-                    result.addAll(t_cVariableConditions);
-                }
-            }
-
-            if  (result == null)
+            if  (condition != null)
             {
-                result = new ArrayList<VariableCondition>();
+                result = condition.getRightSideObject();
             }
 
             return result;
         }
 
+        /**
+         * Collects the variable conditions of the wrapped condition.
+         * @param target the collection to fill.
+         */
+        @Override
+        protected void collectOwnVariableConditions(
+            @NotNull final Collection<VariableCondition> target)
+        {
+            getCondition().collectVariableConditions(target);
+        }
+
         /**
          * Outputs a brief text version of the condition.
          * @return such text.
@@ -851,17 +1636,11 @@ public class ConditionFactory
             @Nullable final Condition condition,
             @NotNull final String suffix)
         {
-            @NotNull String result = "";
+            @NotNull final StringBuilder t_sbResult = new StringBuilder();
 
-            if  (condition != null)
-            {
-                result =
-                      prefix
-                    + condition.toSimplifiedString()
-                    + suffix;
-            }
+            appendTo(t_sbResult, prefix, condition, suffix, true);
 
-            return result;
+            return t_sbResult.toString();
         }
 
         /**
@@ -887,7 +1666,66 @@ public class ConditionFactory
             @NotNull final Condition condition,
             @NotNull final String suffix)
         {
-            return prefix + condition + suffix;
+            @NotNull final StringBuilder t_sbResult = new StringBuilder();
+
+            appendTo(t_sbResult, prefix, condition, suffix, false);
+
+            return t_sbResult.toString();
+        }
+
+        /**
+         * Appends a text version of the condition to given buffer.
+         * @param buffer the buffer.
+         * @param simplify if fields should appear
+         * without explicit table information.
+         */
+        @Override
+        public void appendTo(@NotNull final StringBuilder buffer, final boolean simplify)
+        {
+            appendTo(buffer, getPrefix(), getCondition(), getSuffix(), simplify);
+        }
+
+        /**
+         * Appends a text version of the condition to given buffer,
+         * ignoring any condition composed onto it.
+         * @param buffer the buffer.
+         * @param simplify if fields should appear
+         * without explicit table information.
+         */
+        @Override
+        protected void appendOwnTo(@NotNull final StringBuilder buffer, final boolean simplify)
+        {
+            appendTo(buffer, getPrefix(), getCondition(), getSuffix(), simplify);
+        }
+
+        /**
+         * Appends a text version of the condition to given buffer.
+         * @param buffer the buffer.
+         * @param prefix the prefix.
+         * @param condition the condition.
+         * @param suffix the suffix.
+         * @param simplify if fields should appear
+         * without explicit table information.
+         */
+        protected void appendTo(
+            @NotNull final StringBuilder buffer,
+            @NotNull final String prefix,
+            @Nullable final Condition condition,
+            @NotNull final String suffix,
+            final boolean simplify)
+        {
+            if  (condition != null)
+            {
+                buffer.append(prefix);
+                condition.appendTo(buffer, simplify);
+                buffer.append(suffix);
+            }
+            else if  (!simplify)
+            {
+                buffer.append(prefix);
+                buffer.append("null");
+                buffer.append(suffix);
+            }
         }
 
         /**
@@ -900,12 +1738,13 @@ public class ConditionFactory
         }
 
         /**
-         * {@inheritDoc}
+         * Retrieves the hash code, which is the wrapped condition's.
+         * @return such code.
          */
         @Override
         public int hashCode()
         {
-            return super.hashCode();
+            return getCondition().hashCode();
         }
     }
 
@@ -981,6 +1820,15 @@ public class ConditionFactory
             return m__Condition;
         }
 
+        /**
+         * Freezes the wrapped condition.
+         */
+        @Override
+        protected void freezeComponents()
+        {
+            getCondition().freeze();
+        }
+
         /**
          * Specifies the prefix.
          * @param prefix such prefix.
@@ -1159,6 +2007,35 @@ public class ConditionFactory
             return result;
         }
 
+        /**
+         * Retrieves the right-side value, as given.
+         * @return such value.
+         */
+        @Override
+        @Nullable
+        public Object getRightSideObject()
+        {
+            return getRightSideObject(getCondition());
+        }
+
+        /**
+         * Retrieves the right-side value, as given.
+         * @param condition the condition.
+         * @return such value.
+         */
+        @Nullable
+        protected Object getRightSideObject(@Nullable final VariableCondition condition)
+        {
+            @Nullable Object result = null;
+
+            if  (condition != null)
+            {
+                result = condition.getRightSideObject();
+            }
+
+            return result;
+        }
+
         /**
          * Outputs a brief text version of the condition.
          * @return such text.
@@ -1186,17 +2063,11 @@ public class ConditionFactory
             @Nullable final VariableCondition condition,
             @NotNull final String suffix)
         {
-            @NotNull String result = "";
+            @NotNull final StringBuilder t_sbResult = new StringBuilder();
 
-            if  (condition != null)
-            {
-                result =
-                      prefix
-                    + condition.toSimplifiedString()
-                    + suffix;
-            }
+            appendTo(t_sbResult, prefix, condition, suffix, true);
 
-            return result;
+            return t_sbResult.toString();
         }
 
         /**
@@ -1222,7 +2093,76 @@ public class ConditionFactory
             @NotNull final Condition condition,
             @NotNull final String suffix)
         {
-            return prefix + condition + suffix;
+            @NotNull final StringBuilder t_sbResult = new StringBuilder();
+
+            appendTo(t_sbResult, prefix, condition, suffix, false);
+
+            return t_sbResult.toString();
+        }
+
+        /**
+         * Appends a text version of the condition to given buffer.
+         * @param buffer the buffer.
+         * @param simplify if fields should appear
+         * without explicit table information.
+         */
+        @Override
+        public void appendTo(@NotNull final StringBuilder buffer, final boolean simplify)
+        {
+            appendTo(buffer, getPrefix(), getCondition(), getSuffix(), simplify);
+        }
+
+        /**
+         * Appends a text version of the condition to given buffer,
+         * ignoring any condition composed onto it.
+         * @param buffer the buffer.
+         * @param simplify if fields should appear
+         * without explicit table information.
+         */
+        @Override
+        protected void appendOwnTo(@NotNull final StringBuilder buffer, final boolean simplify)
+        {
+            appendTo(buffer, getPrefix(), getCondition(), getSuffix(), simplify);
+        }
+
+        /**
+         * Appends a text version of the condition to given buffer.
+         * @param buffer the buffer.
+         * @param prefix the prefix.
+         * @param condition the condition.
+         * @param suffix the suffix.
+         * @param simplify if fields should appear
+         * without explicit table information.
+         */
+        protected void appendTo(
+            @NotNull final StringBuilder buffer,
+            @NotNull final String prefix,
+            @Nullable final Condition condition,
+            @NotNull final String suffix,
+            final boolean simplify)
+        {
+            if  (condition != null)
+            {
+                buffer.append(prefix);
+                condition.appendTo(buffer, simplify);
+                buffer.append(suffix);
+            }
+            else if  (!simplify)
+            {
+                buffer.append(prefix);
+                buffer.append("null");
+                buffer.append(suffix);
+            }
+        }
+
+        /**
+         * Retrieves the hash code, which is the wrapped condition's.
+         * @return such code.
+         */
+        @Override
+        public int hashCode()
+        {
+            return getCondition().hashCode();
         }
     }
 }
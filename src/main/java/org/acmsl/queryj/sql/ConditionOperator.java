@@ -39,6 +39,11 @@ package org.acmsl.queryj.sql;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+/*
+ * Importing some JDK classes.
+ */
+import java.util.Collection;
+
 /**
  * Represents operators used inside conditions.
  * @author <a href="mailto:chous@acm-sl.org">Jose San Leandro Armendariz</a>
@@ -50,6 +55,11 @@ public class ConditionOperator
      */
     private String m__strSymbol;
 
+    /**
+     * The cached hash code, or zero if not computed yet.
+     */
+    private int m__iHashCode;
+
     /**
      * Creates a operator using given information.
      * @param symbol the operator symbol.
@@ -63,29 +73,69 @@ public class ConditionOperator
      * Specifies the operator symbol.
      * @param symbol the symbol.
      */
-    protected final void immutableSetSymbol(@NotNull final String symbol)
+    private void immutableSetSymbol(@NotNull final String symbol)
     {
         m__strSymbol = symbol;
+        invalidateHashCode();
     }
 
     /**
-     * Specifies the operator symbol.
-     * @param symbol the symbol.
+     * Retrieves the operator symbol.
+     * @return such symbol.
      */
-    @SuppressWarnings("unused")
-    protected void setSymbol(@NotNull final String symbol)
+    @NotNull
+    public String getSymbol()
     {
-        immutableSetSymbol(symbol);
+        return m__strSymbol;
     }
 
     /**
-     * Retrieves the operator symbol.
-     * @return such symbol.
+     * Retrieves the placeholder text variable conditions use with
+     * this operator.
+     * @return <code>?</code>.
      */
     @NotNull
-    public String getSymbol()
+    public String getPlaceholders()
     {
-        return m__strSymbol;
+        return "?";
+    }
+
+    /**
+     * Appends the placeholder text variable conditions use with
+     * this operator.
+     * @param buffer the buffer.
+     */
+    public void appendPlaceholders(@NotNull final StringBuilder buffer)
+    {
+        buffer.append(getPlaceholders());
+    }
+
+    /**
+     * Retrieves how many parameters variable conditions bind with
+     * this operator.
+     * @return <code>1</code>.
+     */
+    public int getBindingCount()
+    {
+        return 1;
+    }
+
+    /**
+     * Appends the variable conditions given condition stands for,
+     * one per parameter.
+     * @param condition the condition using this operator.
+     * @param target the collection to fill.
+     */
+    public void collectVariableConditions(
+        @NotNull final VariableCondition condition,
+        @NotNull final Collection<VariableCondition> target)
+    {
+        final int t_iCount = getBindingCount();
+
+        for  (int t_iIndex = 0; t_iIndex < t_iCount; t_iIndex++)
+        {
+            target.add(condition);
+        }
     }
 
     /**
@@ -98,6 +148,14 @@ public class ConditionOperator
         return getSymbol();
     }
 
+    /**
+     * Discards the cached hash code.
+     */
+    protected final void invalidateHashCode()
+    {
+        m__iHashCode = 0;
+    }
+
     /**
      * Checks if given object is logically equal to this one.
      * @param candidate the object to check.
@@ -106,9 +164,11 @@ public class ConditionOperator
     @Override
     public boolean equals(@Nullable final Object candidate)
     {
-        boolean result = false;
+        boolean result = (candidate == this);
 
-        if (candidate instanceof ConditionOperator)
+        if  (   (!result)
+             && (candidate != null)
+             && (candidate.getClass() == getClass()))
         {
             result = equals(candidate, getSymbol());
         }
@@ -124,14 +184,9 @@ public class ConditionOperator
      */
     protected boolean equals(@Nullable final Object candidate, @Nullable final String symbol)
     {
-        boolean result = (candidate == null);
-
-        if  (!result) 
-        {
-            result = !(candidate instanceof ConditionOperator);
-        }
+        boolean result = false;
 
-        if  (!result)
+        if  (candidate instanceof ConditionOperator)
         {
             @NotNull final ConditionOperator t_Candidate = (ConditionOperator) candidate;
 
@@ -149,13 +204,22 @@ public class ConditionOperator
     }
 
     /**
-     * Retrieves the hash code.
+     * Retrieves the hash code. It's computed once.
      * @return such information.
      */
     @Override
     public int hashCode()
     {
-        return hashCode(getSymbol());
+        int result = m__iHashCode;
+
+        if  (result == 0)
+        {
+            result = hashCode(getSymbol());
+
+            m__iHashCode = result;
+        }
+
+        return result;
     }
 
     /**
@@ -165,7 +229,6 @@ public class ConditionOperator
      */
     protected int hashCode(@NotNull final String symbol)
     {
-        return (ConditionOperator.class + symbol).hashCode();
+        return symbol.hashCode();
     }
 }
-
@@ -36,7 +36,9 @@ package org.acmsl.queryj.sql;
 /*
  * Importing project classes.
  */
+import org.acmsl.queryj.sql.ArrayConditionOperator;
 import org.acmsl.queryj.sql.ConditionOperator;
+import org.acmsl.queryj.sql.MultipleConditionOperator;
 import org.acmsl.queryj.sql.NestedConditionOperator;
 
 /*
@@ -47,13 +49,77 @@ import org.acmsl.commons.patterns.Singleton;
 import org.jetbrains.annotations.NotNull;
 
 /**
- * Contains references to declared operators.
+ * Contains references to declared operators. Operators not bound
+ * to a query are shared instances.
  * @author <a href="mailto:chous@acm-sl.org">Jose San Leandro Armendariz</a>
  */
 public class ConditionOperatorRepository
     implements  Repository,
                 Singleton
 {
+    /**
+     * The equality operator.
+     */
+    protected static final ConditionOperator EQUALS = new ConditionOperator("=");
+
+    /**
+     * The unequality operator.
+     */
+    protected static final ConditionOperator NOT_EQUALS = new ConditionOperator("!=");
+
+    /**
+     * The greater-than operator.
+     */
+    protected static final ConditionOperator GREATER_THAN = new ConditionOperator(">");
+
+    /**
+     * The less-than operator.
+     */
+    protected static final ConditionOperator LESS_THAN = new ConditionOperator("<");
+
+    /**
+     * The null operator.
+     */
+    protected static final ConditionOperator IS_NULL = new ConditionOperator("is null");
+
+    /**
+     * The <code>like</code> operator.
+     */
+    protected static final ConditionOperator LIKE = new ConditionOperator("like");
+
+    /**
+     * The <code>not like</code> operator.
+     */
+    protected static final ConditionOperator NOT_LIKE = new ConditionOperator("not like");
+
+    /**
+     * The operator matching any element of an array parameter.
+     */
+    protected static final ConditionOperator IN_ARRAY = new ArrayConditionOperator("= ANY");
+
+    /**
+     * The operator matching no element of an array parameter.
+     */
+    protected static final ConditionOperator NOT_IN_ARRAY = new ArrayConditionOperator("<> ALL");
+
+    /**
+     * The largest binding count whose <code>in</code> and
+     * <code>not in</code> operators are shared.
+     */
+    public static final int MAX_CACHED_BINDING_COUNT = 64;
+
+    /**
+     * The shared <code>in</code> operators, by binding count.
+     */
+    protected static final MultipleConditionOperator[] IN =
+        buildMultipleOperators("in", MAX_CACHED_BINDING_COUNT);
+
+    /**
+     * The shared <code>not in</code> operators, by binding count.
+     */
+    protected static final MultipleConditionOperator[] NOT_IN =
+        buildMultipleOperators("not in", MAX_CACHED_BINDING_COUNT);
+
     /**
      * Singleton implemented to avoid the double-checked locking.
      */
@@ -88,7 +154,7 @@ public class ConditionOperatorRepository
     @NotNull
     public ConditionOperator getEquals()
     {
-        return new ConditionOperator("=");
+        return EQUALS;
     }
 
     /**
@@ -98,7 +164,7 @@ public class ConditionOperatorRepository
     @NotNull
     public ConditionOperator getNotEquals()
     {
-        return new ConditionOperator("!=");
+        return NOT_EQUALS;
     }
 
     /**
@@ -108,7 +174,7 @@ public class ConditionOperatorRepository
     @NotNull
     public ConditionOperator getGreaterThan()
     {
-        return new ConditionOperator(">");
+        return GREATER_THAN;
     }
 
     /**
@@ -118,7 +184,7 @@ public class ConditionOperatorRepository
     @NotNull
     public ConditionOperator getLessThan()
     {
-        return new ConditionOperator("<");
+        return LESS_THAN;
     }
 
     /**
@@ -128,7 +194,7 @@ public class ConditionOperatorRepository
     @NotNull
     public ConditionOperator getIsNull()
     {
-        return new ConditionOperator("is null");
+        return IS_NULL;
     }
 
     /**
@@ -161,7 +227,7 @@ public class ConditionOperatorRepository
     @NotNull
     public ConditionOperator getIn(final int count)
     {
-        return new MultipleConditionOperator("in", count);
+        return retrieveMultipleOperator(IN, "in", count);
     }
 
     /**
@@ -172,7 +238,126 @@ public class ConditionOperatorRepository
     @NotNull
     public ConditionOperator getNotIn(final int count)
     {
-        return new MultipleConditionOperator("not in", count);
+        return retrieveMultipleOperator(NOT_IN, "not in", count);
+    }
+
+    /**
+     * Builds the shared operators for binding counts up to given maximum.
+     * @param symbol the symbol.
+     * @param maxCount the maximum binding count.
+     * @return such operators, indexed by binding count.
+     */
+    @NotNull
+    protected static MultipleConditionOperator[] buildMultipleOperators(
+        @NotNull final String symbol, final int maxCount)
+    {
+        @NotNull final MultipleConditionOperator[] result =
+            new MultipleConditionOperator[maxCount + 1];
+
+        for  (int t_iIndex = 0; t_iIndex < result.length; t_iIndex++)
+        {
+            result[t_iIndex] = new MultipleConditionOperator(symbol, t_iIndex);
+        }
+
+        return result;
+    }
+
+    /**
+     * Retrieves the shared operator for given binding count, or
+     * a new one if the count is not cached.
+     * @param operators the shared operators.
+     * @param symbol the symbol.
+     * @param count the binding count.
+     * @return such operator.
+     */
+    @NotNull
+    protected ConditionOperator retrieveMultipleOperator(
+        @NotNull final MultipleConditionOperator[] operators,
+        @NotNull final String symbol,
+        final int count)
+    {
+        @NotNull final ConditionOperator result;
+
+        if  (   (count >= 0)
+             && (count < operators.length))
+        {
+            result = operators[count];
+        }
+        else
+        {
+            result = new MultipleConditionOperator(symbol, count);
+        }
+
+        return result;
+    }
+
+    /**
+     * Retrieves the belongs-to operator, with its binding count rounded
+     * up to a power of two so few distinct statements get prepared.
+     * @param count the number of values within the clause.
+     * @return such operator.
+     */
+    @NotNull
+    public ConditionOperator getBucketedIn(final int count)
+    {
+        return getIn(getBucketSize(count));
+    }
+
+    /**
+     * Retrieves the not-belongs-to operator, with its binding count rounded
+     * up to a power of two so few distinct statements get prepared.
+     * @param count the number of values within the clause.
+     * @return such operator.
+     */
+    @NotNull
+    public ConditionOperator getBucketedNotIn(final int count)
+    {
+        return getNotIn(getBucketSize(count));
+    }
+
+    /**
+     * Retrieves the smallest power of two not lower than given count.
+     * @param count the number of values.
+     * @return such bucket size, at least <code>1</code>.
+     */
+    public int getBucketSize(final int count)
+    {
+        int result = 1;
+
+        while  (   (result < count)
+                && (result > 0))
+        {
+            result <<= 1;
+        }
+
+        if  (result <= 0)
+        {
+            result = count;
+        }
+
+        return result;
+    }
+
+    /**
+     * Retrieves the belongs-to operator for an array parameter,
+     * i.e. <code>= ANY (?)</code>.
+     * @return such operator.
+     */
+    @NotNull
+    public ConditionOperator getInArray()
+    {
+        return IN_ARRAY;
+    }
+
+    /**
+     * Retrieves the not-belongs-to operator for an array parameter,
+     * i.e. <code>&lt;&gt; ALL (?)</code>.
+     * @return such operator.
+     */
+    @NotNull
+    public ConditionOperator getNotInArray()
+    {
+        return NOT_IN_ARRAY;
     }
 
     /**
@@ -182,7 +367,7 @@ public class ConditionOperatorRepository
     @NotNull
     public ConditionOperator getLike()
     {
-        return new ConditionOperator("like");
+        return LIKE;
     }
 
     /**
@@ -192,6 +377,6 @@ public class ConditionOperatorRepository
     @NotNull
     public ConditionOperator getNotLike()
     {
-        return new ConditionOperator("not like");
+        return NOT_LIKE;
     }
 }
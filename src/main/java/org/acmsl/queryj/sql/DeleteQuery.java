@@ -103,7 +103,6 @@ public class DeleteQuery
     public void where(@NotNull final VariableCondition variableCondition)
     {
         addCondition(variableCondition);
-        addVariableCondition(variableCondition);
     }
 
     // Serialization methods //
@@ -115,12 +114,21 @@ public class DeleteQuery
     @NotNull
     public String toString()
     {
-        return
-            toString(
-                getTable(),
-                getFields(),
-                getConditions(),
-                QueryUtils.getInstance());
+        @Nullable String result = getRenderedSql();
+
+        if  (result == null)
+        {
+            result =
+                toString(
+                    getTable(),
+                    getFields(),
+                    getConditions(),
+                    QueryUtils.getInstance());
+
+            setRenderedSql(result);
+        }
+
+        return result;
     }
 
     /**
@@ -137,19 +145,18 @@ public class DeleteQuery
         @Nullable final List conditions,
         @NotNull final QueryUtils queryUtils)
     {
-        @NotNull final StringBuilder t_sbResult = new StringBuilder();
+        @NotNull final StringBuilder t_sbResult = createRenderBuffer();
 
         t_sbResult.append("DELETE FROM ");
 
-        t_sbResult.append(table);
+        table.appendTo(t_sbResult);
 
         if  (   (conditions != null)
              && (conditions.size() > 0))
         {
             t_sbResult.append(" WHERE ");
 
-            t_sbResult.append(
-                queryUtils.concatenate(conditions, " AND ", true));
+            queryUtils.concatenate(t_sbResult, conditions, " AND ", true);
         }
 
         return t_sbResult.toString();
@@ -352,6 +352,73 @@ public abstract class Field
                 conditionOperatorRepository.getNotBelongsTo(query));
     }
 
+    /**
+     * Retrieves the variable condition to be able to filter for values
+     * within an array parameter, i.e. <code>= ANY (?)</code>. Bind it with
+     * {@link Query#setArray(VariableCondition, String, Object[])}.
+     * @return such kind of condition.
+     */
+    @NotNull
+    public VariableCondition inArray()
+    {
+        return
+            inArray(
+                ConditionFactory.getInstance(),
+                ConditionOperatorRepository.getInstance());
+    }
+
+    /**
+     * Retrieves the variable condition to be able to filter for values
+     * within an array parameter.
+     * @param conditionFactory the <code>ConditionFactory</code> instance.
+     * @param conditionOperatorRepository the
+     * <code>ConditionOperatorRepository</code> instance.
+     * @return such kind of condition.
+     */
+    @NotNull
+    protected VariableCondition inArray(
+        @NotNull final ConditionFactory conditionFactory,
+        @NotNull final ConditionOperatorRepository conditionOperatorRepository)
+    {
+        return
+            conditionFactory.createVariableCondition(
+                this, conditionOperatorRepository.getInArray());
+    }
+
+    /**
+     * Retrieves the variable condition to be able to filter for values
+     * outside an array parameter, i.e. <code>&lt;&gt; ALL (?)</code>. Bind it with
+     * {@link Query#setArray(VariableCondition, String, Object[])}.
+     * @return such kind of condition.
+     */
+    @SuppressWarnings("unused")
+    @NotNull
+    public VariableCondition notInArray()
+    {
+        return
+            notInArray(
+                ConditionFactory.getInstance(),
+                ConditionOperatorRepository.getInstance());
+    }
+
+    /**
+     * Retrieves the variable condition to be able to filter for values
+     * outside an array parameter.
+     * @param conditionFactory the <code>ConditionFactory</code> instance.
+     * @param conditionOperatorRepository the
+     * <code>ConditionOperatorRepository</code> instance.
+     * @return such kind of condition.
+     */
+    @NotNull
+    protected VariableCondition notInArray(
+        @NotNull final ConditionFactory conditionFactory,
+        @NotNull final ConditionOperatorRepository conditionOperatorRepository)
+    {
+        return
+            conditionFactory.createVariableCondition(
+                this, conditionOperatorRepository.getNotInArray());
+    }
+
     /**
      * Retrieves the variable condition to be able to filter for null values.
      * @return such kind of condition.
@@ -407,13 +474,7 @@ public abstract class Field
     {
         @NotNull final StringBuilder result = new StringBuilder();
 
-        if  (table != null) 
-        {
-            result.append(table);
-            result.append(".");
-        }
-
-        result.append(name);
+        appendTo(result, table, name);
 
         return result.toString();
     }
@@ -426,4 +487,41 @@ public abstract class Field
     {
         return getName();
     }
+
+    /**
+     * Appends a text version of the field to given buffer.
+     * @param buffer the buffer.
+     * @param simplify whether to omit the table information.
+     */
+    public void appendTo(@NotNull final StringBuilder buffer, final boolean simplify)
+    {
+        if  (simplify)
+        {
+            buffer.append(toSimplifiedString());
+        }
+        else
+        {
+            appendTo(buffer, getTable(), getName());
+        }
+    }
+
+    /**
+     * Appends a text version of the field to given buffer.
+     * @param buffer the buffer.
+     * @param table the table.
+     * @param name the name.
+     */
+    protected void appendTo(
+        @NotNull final StringBuilder buffer,
+        @Nullable final Table table,
+        @NotNull final String name)
+    {
+        if  (table != null) 
+        {
+            table.appendTo(buffer);
+            buffer.append('.');
+        }
+
+        buffer.append(name);
+    }
 }
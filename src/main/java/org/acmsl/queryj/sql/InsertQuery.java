@@ -35,15 +35,18 @@ package org.acmsl.queryj.sql;
  * Importing Jetbrains annotations.
  */
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /*
  * Importing some JDK classes.
  */
 import java.math.BigDecimal;
+import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
-import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -53,12 +56,265 @@ import java.util.List;
 public class InsertQuery
     extends  WriteQuery
 {
+    /**
+     * The value rows, in multi-row mode.
+     */
+    private List<_ValueSlots> m__lRows;
+
+    /**
+     * The maximum number of parameters per statement, or <code>0</code>
+     * if unlimited.
+     */
+    private int m__iMaxParameters;
+
+    /**
+     * The slots of the columns declared as parameters.
+     */
+    private BitSet m__ParameterColumns;
+
     /**
      * Constructs a query.
      */
     public InsertQuery()
     {
         super();
+        immutableSetRows(new ArrayList<_ValueSlots>());
+        immutableSetParameterColumns(new BitSet());
+    }
+
+    /**
+     * Specifies the value rows.
+     * @param rows such rows.
+     */
+    private void immutableSetRows(@NotNull final List<_ValueSlots> rows)
+    {
+        m__lRows = rows;
+    }
+
+    /**
+     * Specifies the value rows.
+     * @param rows such rows.
+     */
+    @SuppressWarnings("unused")
+    protected void setRows(@NotNull final List<_ValueSlots> rows)
+    {
+        immutableSetRows(rows);
+        invalidateRenderedSql();
+    }
+
+    /**
+     * Retrieves the value rows.
+     * @return such rows.
+     */
+    @NotNull
+    protected List<_ValueSlots> getRows()
+    {
+        return m__lRows;
+    }
+
+    /**
+     * Specifies the slots of the columns declared as parameters.
+     * @param columns such slots.
+     */
+    protected final void immutableSetParameterColumns(@NotNull final BitSet columns)
+    {
+        m__ParameterColumns = columns;
+    }
+
+    /**
+     * Retrieves the slots of the columns declared as parameters, through
+     * {@link #value(Field)}.
+     * @return such slots.
+     */
+    @NotNull
+    protected BitSet getParameterColumns()
+    {
+        return m__ParameterColumns;
+    }
+
+    /**
+     * Specifies the maximum number of parameters per statement.
+     * @param max such number, or <code>0</code> if unlimited.
+     */
+    protected final void immutableSetMaxParameters(final int max)
+    {
+        m__iMaxParameters = max;
+    }
+
+    /**
+     * Specifies the maximum number of parameters per statement, used by
+     * {@link #toStatements()} to split multi-row inserts.
+     * @param max such number, or <code>0</code> if unlimited.
+     */
+    public void setMaxParameters(final int max)
+    {
+        immutableSetMaxParameters(max);
+    }
+
+    /**
+     * Retrieves the maximum number of parameters per statement.
+     * @return such number, or <code>0</code> if unlimited.
+     */
+    public int getMaxParameters()
+    {
+        return m__iMaxParameters;
+    }
+
+    /**
+     * Checks whether the query renders several value rows.
+     * @return <code>true</code> once {@link #addRow()} or
+     * {@link #addPlaceholderRows(int)} has been called.
+     */
+    public boolean isMultiRow()
+    {
+        return !getRows().isEmpty();
+    }
+
+    /**
+     * Closes the current value row, switching to multi-row mode. The values
+     * of the next row are specified using the same <code>value</code>
+     * methods, which no longer add new columns.
+     */
+    public void addRow()
+    {
+        @NotNull final _ValueSlots t_Values = getValueSlots();
+
+        unbindValues(t_Values);
+
+        getRows().add(t_Values.copy());
+
+        t_Values.clear();
+
+        invalidateRenderedSql();
+    }
+
+    /**
+     * Adds given number of rows with a placeholder for every column
+     * declared through {@link #value(Field)}.
+     * Parameters of row <i>r</i> (starting at 0) are bound at
+     * {@link #retrieveParameterIndex(int, VariableCondition)}.
+     * @param count the number of rows.
+     */
+    public void addPlaceholderRows(final int count)
+    {
+        for  (int t_iIndex = 0; t_iIndex < count; t_iIndex++)
+        {
+            getRows().add(new _ValueSlots(0));
+        }
+
+        invalidateRenderedSql();
+    }
+
+    /**
+     * Retrieves the index of a parameter in given row.
+     * @param row the row, starting at 0.
+     * @param condition the variable condition.
+     * @return the parameter index.
+     * @throws SQLException if the condition doesn't belong to this query,
+     * or the row specifies a value for its column.
+     */
+    public int retrieveParameterIndex(final int row, @NotNull final VariableCondition condition)
+        throws  SQLException
+    {
+        return retrieveParameterIndex(row, 0, condition);
+    }
+
+    /**
+     * Retrieves the index of a parameter in given row, within the
+     * statement starting at given row.
+     * @param row the row, starting at 0.
+     * @param firstRow the first row of the statement, as returned by
+     * {@link #retrieveStatementFirstRows()}.
+     * @param condition the variable condition.
+     * @return the parameter index.
+     * @throws SQLException if the condition doesn't belong to this query,
+     * or the row specifies a value for its column.
+     */
+    public int retrieveParameterIndex(
+        final int row, final int firstRow, @NotNull final VariableCondition condition)
+        throws  SQLException
+    {
+        return retrieveParameterIndex(row, firstRow, condition, getFields(), retrieveRows());
+    }
+
+    /**
+     * Retrieves the index of a parameter in given row, within the
+     * statement starting at given row. Rows may mix values and
+     * placeholders, so the parameters of each one get counted.
+     * @param row the row, starting at 0.
+     * @param firstRow the first row of the statement.
+     * @param condition the variable condition.
+     * @param fields the fields.
+     * @param rows the value rows.
+     * @return the parameter index.
+     * @throws SQLException if the condition doesn't belong to this query,
+     * or the row specifies a value for its column.
+     */
+    protected int retrieveParameterIndex(
+        final int row,
+        final int firstRow,
+        @NotNull final VariableCondition condition,
+        @NotNull final List<Field> fields,
+        @NotNull final List<_ValueSlots> rows)
+        throws  SQLException
+    {
+        // Fails if the condition doesn't belong to this query.
+        retrieveVariableConditionIndex(condition);
+
+        int result = 0;
+
+        for  (int t_iIndex = firstRow; t_iIndex < row; t_iIndex++)
+        {
+            result += countParameters(fields, rows.get(t_iIndex));
+        }
+
+        @NotNull final _ValueSlots t_Values = rows.get(row);
+
+        @Nullable final Field t_Field = condition.getLeftSideField();
+
+        final int t_iSlot = (t_Field != null) ? getFieldIndex(t_Field) - 1 : -1;
+
+        if  (   (t_iSlot < 0)
+             || (!isParameter(t_Values, t_iSlot)))
+        {
+            throw new SQLException("No parameter for " + condition + " in row " + row);
+        }
+
+        for  (int t_iSlotIndex = 0; t_iSlotIndex <= t_iSlot; t_iSlotIndex++)
+        {
+            if  (   (fields.get(t_iSlotIndex) != null)
+                 && (isParameter(t_Values, t_iSlotIndex)))
+            {
+                result++;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks whether the values specified from now on can be bound as
+     * parameters. Rows of multi-row inserts always render their values.
+     * @return <code>true</code> unless it's a multi-row insert.
+     */
+    @Override
+    protected boolean canBindValues()
+    {
+        return !isMultiRow();
+    }
+
+    /**
+     * Adds a new field, unless it's already a column of a multi-row insert.
+     * @param field the field to add.
+     */
+    @Override
+    protected void addField(@NotNull final Field field)
+    {
+        if  (   (!isMultiRow())
+             || (getFieldIndex(field) < 1))
+        {
+            super.addField(field);
+        }
     }
 
     /**
@@ -298,13 +554,19 @@ public class InsertQuery
     }
 
     /**
-     * Specifies the value of a field.
+     * Declares a field as a parameter. Rows of multi-row inserts render
+     * a placeholder for it unless they specify its value.
      * @param field the field.
      */
     public void value(@NotNull final Field field)
     {
-        addField(field);
-        addVariableCondition(field.equals());
+        if  (   (!isMultiRow())
+             || (getFieldIndex(field) < 1))
+        {
+            addField(field);
+            addVariableCondition(field.equals());
+            getParameterColumns().set(getFieldIndex(field) - 1);
+        }
     }
 
     /**
@@ -325,18 +587,209 @@ public class InsertQuery
     @Override
     @NotNull
     public String toString()
+    {
+        @Nullable String result = getRenderedSql();
+
+        if  (result == null)
+        {
+            result =
+                toString(
+                    getTable(),
+                    getFields(),
+                    QueryUtils.getInstance());
+
+            setRenderedSql(result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Outputs a text version of the query, in SQL format.
+     * @param table the table.
+     * @param fields the fields.
+     * @param queryUtils the {@link QueryUtils} instance.
+     * @return the SQL query.
+     */
+    @NotNull
+    protected String toString(
+        @NotNull final Table table,
+        @NotNull final List<Field> fields,
+        @NotNull final QueryUtils queryUtils)
+    {
+        @NotNull final List<_ValueSlots> t_lRows = retrieveRows();
+
+        return toString(table, fields, t_lRows, 0, t_lRows.size(), queryUtils);
+    }
+
+    /**
+     * Outputs the query as one or more statements, each one with at most
+     * {@link #getMaxParameters()} parameters. Parameters of each statement
+     * are bound at {@link #retrieveParameterIndex(int, int, VariableCondition)},
+     * using the first rows given by {@link #retrieveStatementFirstRows()}.
+     * @return the SQL statements.
+     */
+    @NotNull
+    public List<String> toStatements()
     {
         return
-            toString(
+            toStatements(
                 getTable(),
                 getFields(),
+                retrieveRows(),
+                getMaxParameters(),
                 QueryUtils.getInstance());
     }
 
+    /**
+     * Outputs the query as one or more statements, each one with at most
+     * given number of parameters.
+     * @param table the table.
+     * @param fields the fields.
+     * @param rows the value rows.
+     * @param maxParameters the maximum number of parameters per statement,
+     * or <code>0</code> if unlimited.
+     * @param queryUtils the {@link QueryUtils} instance.
+     * @return the SQL statements.
+     */
+    @NotNull
+    protected List<String> toStatements(
+        @NotNull final Table table,
+        @NotNull final List<Field> fields,
+        @NotNull final List<_ValueSlots> rows,
+        final int maxParameters,
+        @NotNull final QueryUtils queryUtils)
+    {
+        @NotNull final List<Integer> t_lFirstRows =
+            retrieveStatementFirstRows(fields, rows, maxParameters);
+
+        @NotNull final List<String> result = new ArrayList<String>(t_lFirstRows.size());
+
+        final int t_iCount = t_lFirstRows.size();
+
+        for  (int t_iIndex = 0; t_iIndex < t_iCount; t_iIndex++)
+        {
+            final int t_iLastRow =
+                (t_iIndex + 1 < t_iCount) ? t_lFirstRows.get(t_iIndex + 1) : rows.size();
+
+            result.add(
+                toString(
+                    table, fields, rows, t_lFirstRows.get(t_iIndex), t_iLastRow, queryUtils));
+        }
+
+        return result;
+    }
+
+    /**
+     * Retrieves the first row of each statement returned by
+     * {@link #toStatements()}.
+     * @return such rows, in the same order.
+     */
+    @NotNull
+    public List<Integer> retrieveStatementFirstRows()
+    {
+        return
+            retrieveStatementFirstRows(getFields(), retrieveRows(), getMaxParameters());
+    }
+
+    /**
+     * Splits given rows so that no statement has more than given number
+     * of parameters.
+     * @param fields the fields.
+     * @param rows the value rows.
+     * @param maxParameters the maximum number of parameters per statement,
+     * or <code>0</code> if unlimited.
+     * @return the first row of each statement.
+     */
+    @NotNull
+    protected List<Integer> retrieveStatementFirstRows(
+        @NotNull final List<Field> fields,
+        @NotNull final List<_ValueSlots> rows,
+        final int maxParameters)
+    {
+        @NotNull final List<Integer> result = new ArrayList<Integer>();
+
+        final int t_iCount = rows.size();
+
+        int t_iFirstRow = 0;
+        int t_iParameters = 0;
+
+        result.add(t_iFirstRow);
+
+        for  (int t_iIndex = 0; t_iIndex < t_iCount; t_iIndex++)
+        {
+            final int t_iRowParameters = countParameters(fields, rows.get(t_iIndex));
+
+            if  (   (maxParameters > 0)
+                 && (t_iIndex > t_iFirstRow)
+                 && (t_iParameters + t_iRowParameters > maxParameters))
+            {
+                t_iFirstRow = t_iIndex;
+                t_iParameters = 0;
+
+                result.add(t_iFirstRow);
+            }
+
+            t_iParameters += t_iRowParameters;
+        }
+
+        return result;
+    }
+
+    /**
+     * Retrieves the rows to render: the value rows in multi-row mode, or
+     * the current values otherwise.
+     * @return such rows.
+     */
+    @NotNull
+    protected List<_ValueSlots> retrieveRows()
+    {
+        @NotNull final List<_ValueSlots> result;
+
+        if  (isMultiRow())
+        {
+            result = getRows();
+        }
+        else
+        {
+            result = Collections.singletonList(getValueSlots());
+        }
+
+        return result;
+    }
+
+    /**
+     * Counts the placeholders of given row.
+     * @param fields the fields.
+     * @param values the row values.
+     * @return such count.
+     */
+    protected int countParameters(
+        @NotNull final List<Field> fields, @NotNull final _ValueSlots values)
+    {
+        int result = 0;
+
+        final int t_iCount = fields.size();
+
+        for  (int t_iSlot = 0; t_iSlot < t_iCount; t_iSlot++)
+        {
+            if  (   (fields.get(t_iSlot) != null)
+                 && (isParameter(values, t_iSlot)))
+            {
+                result++;
+            }
+        }
+
+        return result;
+    }
+
     /**
      * Outputs a text version of the query, in SQL format.
      * @param table the table.
      * @param fields the fields.
+     * @param rows the value rows.
+     * @param firstRow the first row to render.
+     * @param lastRow the row after the last one to render.
      * @param queryUtils the {@link QueryUtils} instance.
      * @return the SQL query.
      */
@@ -344,63 +797,154 @@ public class InsertQuery
     protected String toString(
         @NotNull final Table table,
         @NotNull final List<Field> fields,
+        @NotNull final List<_ValueSlots> rows,
+        final int firstRow,
+        final int lastRow,
         @NotNull final QueryUtils queryUtils)
     {
-        @NotNull final StringBuilder t_sbResult = new StringBuilder();
+        @NotNull final StringBuilder t_sbResult = createRenderBuffer();
 
-        t_sbResult.append("INSERT INTO ");
+        appendInsert(t_sbResult, table, fields, rows, firstRow, lastRow);
 
-        t_sbResult.append(table);
+        return t_sbResult.toString();
+    }
 
-        t_sbResult.append(" ( ");
+    /**
+     * Appends the <code>INSERT</code> statement to a buffer.
+     * @param buffer the buffer.
+     * @param table the table.
+     * @param fields the fields.
+     * @param rows the value rows.
+     * @param firstRow the first row to render.
+     * @param lastRow the row after the last one to render.
+     */
+    protected void appendInsert(
+        @NotNull final StringBuilder buffer,
+        @NotNull final Table table,
+        @NotNull final List<Field> fields,
+        @NotNull final List<_ValueSlots> rows,
+        final int firstRow,
+        final int lastRow)
+    {
+        buffer.append("INSERT INTO ");
 
-        @NotNull final List<String> t_alBriefFields = new ArrayList<String>();
-        @NotNull final List<String> t_alValues = new ArrayList<String>();
+        table.appendTo(buffer);
 
-        final Iterator<Field> t_FieldIterator = fields.iterator();
+        buffer.append(" ( ");
 
-        while  (t_FieldIterator.hasNext())
-        {
-            @NotNull final Field t_Field = t_FieldIterator.next();
+        boolean t_bFirst = true;
 
+        for  (@Nullable final Field t_Field : fields)
+        {
             if  (t_Field != null)
             {
-                t_alBriefFields.add(t_Field.toSimplifiedString());
+                if  (!t_bFirst)
+                {
+                    buffer.append(", ");
+                }
 
-                @NotNull String t_strValue;
+                t_bFirst = false;
 
-                final Object t_Value = getValue(t_Field);
+                t_Field.appendTo(buffer, true);
+            }
+        }
 
-                if  (t_Value == null)
-                {
-                    t_strValue = "?";
-                }
-                else 
-                {
-                    if  (shouldBeEscaped(t_Value))
-                    {
-                        t_strValue = "'" + t_Value + "'";
-                    }
-                    else
-                    {
-                        t_strValue = "" + t_Value;
-                    }
-                }
+        buffer.append(" ) VALUES ");
+
+        appendRows(buffer, fields, rows, firstRow, lastRow);
+    }
 
-                t_alValues.add(t_strValue);
+    /**
+     * Appends the value rows to a buffer, each one within parentheses.
+     * @param buffer the buffer.
+     * @param fields the fields.
+     * @param rows the value rows.
+     * @param firstRow the first row to render.
+     * @param lastRow the row after the last one to render.
+     */
+    protected void appendRows(
+        @NotNull final StringBuilder buffer,
+        @NotNull final List<Field> fields,
+        @NotNull final List<_ValueSlots> rows,
+        final int firstRow,
+        final int lastRow)
+    {
+        for  (int t_iIndex = firstRow; t_iIndex < lastRow; t_iIndex++)
+        {
+            if  (t_iIndex > firstRow)
+            {
+                buffer.append(", ");
             }
+
+            buffer.append("( ");
+
+            appendValues(buffer, fields, rows.get(t_iIndex));
+
+            buffer.append(" )");
         }
+    }
 
-        t_sbResult.append(
-            queryUtils.concatenate(t_alBriefFields, ", "));
+    /**
+     * Appends the values of given row to a buffer.
+     * @param buffer the buffer.
+     * @param fields the fields.
+     * @param values the row values.
+     */
+    protected void appendValues(
+        @NotNull final StringBuilder buffer,
+        @NotNull final List<Field> fields,
+        @NotNull final _ValueSlots values)
+    {
+        boolean t_bFirst = true;
 
-        t_sbResult.append(" ) VALUES ( ");
+        final int t_iCount = fields.size();
 
-        t_sbResult.append(
-            queryUtils.concatenate(t_alValues, ", "));
+        for  (int t_iSlot = 0; t_iSlot < t_iCount; t_iSlot++)
+        {
+            if  (fields.get(t_iSlot) != null)
+            {
+                if  (!t_bFirst)
+                {
+                    buffer.append(", ");
+                }
 
-        t_sbResult.append(" )");
+                t_bFirst = false;
 
-        return t_sbResult.toString();
+                if  (   (values.isPlaceholder(t_iSlot))
+                     && (!isParameter(values, t_iSlot)))
+                {
+                    appendUnsetValue(buffer);
+                }
+                else
+                {
+                    appendValue(buffer, values, t_iSlot);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether given slot of a row renders a parameter: either it's
+     * bound as such, or it has no value and its column is declared as a
+     * parameter.
+     * @param values the row values.
+     * @param slot the slot.
+     * @return <code>true</code> in such case.
+     */
+    protected boolean isParameter(@NotNull final _ValueSlots values, final int slot)
+    {
+        return
+               (values.getKind(slot) == _ValueSlots.PARAMETER)
+            || (   (values.getKind(slot) == _ValueSlots.UNSET)
+                && (getParameterColumns().get(slot)));
+    }
+
+    /**
+     * Appends the value of a column a row doesn't specify.
+     * @param buffer the buffer.
+     */
+    protected void appendUnsetValue(@NotNull final StringBuilder buffer)
+    {
+        buffer.append("DEFAULT");
     }
 }
@@ -50,6 +50,11 @@ public class MultipleConditionOperator
      */
     private int m__iBindingCount;
 
+    /**
+     * The placeholder list, built on demand.
+     */
+    private String m__strPlaceholders;
+
     /**
      * Creates a multiple-condition operator using given information.
      * @param symbol the symbol.
@@ -68,25 +73,75 @@ public class MultipleConditionOperator
     private void immutableSetBindingCount(final int count)
     {
         m__iBindingCount = count;
+        m__strPlaceholders = null;
+        invalidateHashCode();
     }
 
     /**
-     * Specifies the binding count.
-     * @param count the count.
+     * Retrieves the binding count.
+     * @return such count.
      */
-    @SuppressWarnings("unused")
-    protected void setBindingCount(final int count)
+    @Override
+    public int getBindingCount()
     {
-        immutableSetBindingCount(count);
+        return m__iBindingCount;
     }
 
     /**
-     * Retrieves the binding count.
-     * @return such count.
+     * Checks whether the operator excludes the values, as in
+     * <code>not in (?, ?)</code>.
+     * @return <code>true</code> in such case.
      */
-    public int getBindingCount()
+    public boolean isExclusion()
     {
-        return m__iBindingCount;
+        return "not in".equals(getSymbol());
+    }
+
+    /**
+     * Retrieves the placeholder list, i.e. <code>(?, ?, ?)</code>.
+     * @return such list.
+     */
+    @Override
+    @NotNull
+    public String getPlaceholders()
+    {
+        String result = m__strPlaceholders;
+
+        if  (result == null)
+        {
+            result = buildPlaceholders(getBindingCount());
+
+            m__strPlaceholders = result;
+        }
+
+        return result;
+    }
+
+    /**
+     * Builds the placeholder list.
+     * @param count the binding count.
+     * @return such list.
+     */
+    @NotNull
+    protected String buildPlaceholders(final int count)
+    {
+        @NotNull final StringBuilder t_sbResult = new StringBuilder(2 + 3 * count);
+
+        t_sbResult.append('(');
+
+        for  (int t_iIndex = 0; t_iIndex < count; t_iIndex++)
+        {
+            if  (t_iIndex > 0)
+            {
+                t_sbResult.append(", ");
+            }
+
+            t_sbResult.append('?');
+        }
+
+        t_sbResult.append(')');
+
+        return t_sbResult.toString();
     }
 
     /**
@@ -110,12 +165,8 @@ public class MultipleConditionOperator
     {
         boolean result = super.equals(candidate);
 
-        if  (!result) 
-        {
-            result = !(candidate instanceof MultipleConditionOperator);
-        }
-
-        if  (!result)
+        if  (   (result)
+             && (candidate != this))
         {
             @NotNull final MultipleConditionOperator t_Candidate =
                 (MultipleConditionOperator) candidate;
@@ -128,22 +179,23 @@ public class MultipleConditionOperator
 
     /**
      * Retrieves the hash code.
+     * @param symbol the symbol.
      * @return such information.
      */
     @Override
-    public int hashCode()
+    protected int hashCode(@NotNull final String symbol)
     {
-        return hashCode(getBindingCount());
+        return hashCode(symbol, getBindingCount());
     }
 
     /**
      * Retrieves the hash code.
+     * @param symbol the symbol.
      * @param count the binding count.
      * @return such information.
      */
-    protected int hashCode(final int count)
+    protected int hashCode(@NotNull final String symbol, final int count)
     {
-        return (MultipleConditionOperator.class + "[" + count + "]").hashCode();
+        return 31 * symbol.hashCode() + count;
     }
 }
-
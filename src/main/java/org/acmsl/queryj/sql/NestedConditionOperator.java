@@ -40,8 +40,19 @@ package org.acmsl.queryj.sql;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+/*
+ * Importing some JDK classes.
+ */
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Represents condition operators involving nested queries SQL statements.
+ * The nested query is taken as it is when the operator gets created: its
+ * SQL and its variable conditions are kept, so that the enclosing query
+ * renders and binds the same statement, and changes made to the nested
+ * query afterwards are ignored.
  * @author <a href="mailto:chous@acm-sl.org">Jose San Leandro Armendariz</a>
  */
 public class NestedConditionOperator
@@ -52,6 +63,16 @@ public class NestedConditionOperator
      */
     private SelectQuery m__Query;
 
+    /**
+     * The nested query SQL, parenthesized.
+     */
+    private String m__strPlaceholders;
+
+    /**
+     * The nested query variable conditions.
+     */
+    private List<VariableCondition> m__lVariableConditions;
+
     /**
      * Creates a nested operator using given information.
      * @param symbol the symbol.
@@ -70,6 +91,10 @@ public class NestedConditionOperator
     protected final void immutableSetQuery(@NotNull final SelectQuery query)
     {
         m__Query = query;
+        m__strPlaceholders = "(" + query + ")";
+        m__lVariableConditions =
+            new ArrayList<VariableCondition>(query.getVariableConditions());
+        invalidateHashCode();
     }
 
     /**
@@ -91,8 +116,66 @@ public class NestedConditionOperator
         return m__Query;
     }
 
+    /**
+     * Retrieves the nested query variable conditions, as they were when
+     * the operator was created.
+     * @return such conditions.
+     */
+    @NotNull
+    protected List<VariableCondition> getVariableConditions()
+    {
+        return m__lVariableConditions;
+    }
+
+    /**
+     * Retrieves the nested query, parenthesized, as it was when the
+     * operator was created.
+     * @return such text.
+     */
+    @Override
+    @NotNull
+    public String getPlaceholders()
+    {
+        return m__strPlaceholders;
+    }
+
+    /**
+     * Appends the nested query, parenthesized, to given buffer.
+     * @param buffer the buffer.
+     */
+    @Override
+    public void appendPlaceholders(@NotNull final StringBuilder buffer)
+    {
+        buffer.append(getPlaceholders());
+    }
+
+    /**
+     * Retrieves how many parameters the nested query binds.
+     * @return such count.
+     */
+    @Override
+    public int getBindingCount()
+    {
+        return getVariableConditions().size();
+    }
+
+    /**
+     * Appends the nested query's variable conditions to given collection.
+     * @param condition the condition using this operator.
+     * @param target the collection to fill.
+     */
+    @Override
+    public void collectVariableConditions(
+        @NotNull final VariableCondition condition,
+        @NotNull final Collection<VariableCondition> target)
+    {
+        target.addAll(getVariableConditions());
+    }
+
     /**
      * Checks if given object is logically equal to this one.
+     * Nested queries are compared by identity, and their SQL as it was
+     * when each operator was created.
      * @param candidate the object to check.
      * @return <code>true</code> if both objects are logically equal.
      */
@@ -112,31 +195,15 @@ public class NestedConditionOperator
     {
         boolean result = super.equals(candidate);
 
-        if  (!result) 
-        {
-            result = !(candidate instanceof NestedConditionOperator);
-        }
-
-        if  (!result)
+        if  (   (result)
+             && (candidate != this))
         {
             @NotNull final NestedConditionOperator t_Candidate =
                 (NestedConditionOperator) candidate;
 
-            result = (t_Candidate.getQuery() == query);
-
-            if  (!result)
-            {
-                result = (t_Candidate.getQuery() != null);
-
-                if  (result) 
-                {
-                    result = (t_Candidate.getQuery().equals(query));
-                }
-                else
-                {
-                    result = (query == null);
-                }
-            }
+            result =
+                   (t_Candidate.getQuery() == query)
+                && (t_Candidate.getPlaceholders().equals(getPlaceholders()));
         }
 
         return result;
@@ -144,22 +211,23 @@ public class NestedConditionOperator
 
     /**
      * Retrieves the hash code.
+     * @param symbol the symbol.
      * @return such information.
      */
     @Override
-    public int hashCode()
+    protected int hashCode(@NotNull final String symbol)
     {
-        return hashCode(getQuery());
+        return hashCode(symbol, getQuery());
     }
 
     /**
-     * Retrieves the hash code.
+     * Retrieves the hash code, without rendering the query.
+     * @param symbol the symbol.
      * @param query the select query.
      * @return such information.
      */
-    protected int hashCode(@NotNull final SelectQuery query)
+    protected int hashCode(@NotNull final String symbol, @NotNull final SelectQuery query)
     {
-        return (NestedConditionOperator.class + query.toString()).hashCode();
+        return 31 * symbol.hashCode() + System.identityHashCode(query);
     }
 }
-
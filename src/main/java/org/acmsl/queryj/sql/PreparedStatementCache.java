@@ -0,0 +1,495 @@
+//;-*- mode: java -*-
+/*
+                        QueryJ
+
+    Copyright (C) 2002-today  Jose San Leandro Armendariz
+                              chous@acm-sl.org
+
+    This library is free software; you can redistribute it and/or
+    modify it under the terms of the GNU General Public
+    License as published by the Free Software Foundation; either
+    version 2 of the License, or any later version.
+
+    This library is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+    General Public License for more details.
+
+    You should have received a copy of the GNU General Public
+    License along with this library; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Thanks to ACM S.L. for distributing this library under the GPL license.
+    Contact info: jose.sanleandro@acm-sl.com
+
+ ******************************************************************************
+ *
+ * Filename: PreparedStatementCache.java
+ *
+ * Author: Jose San Leandro Armendariz
+ *
+ * Description: Bounded LRU cache of idle prepared statements.
+ *
+ */
+package org.acmsl.queryj.sql;
+
+/*
+ * Importing JetBrains annotations.
+ */
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/*
+ * Importing Commons-Logging classes.
+ */
+import org.apache.commons.logging.LogFactory;
+
+/*
+ * Importing some JDK classes.
+ */
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of idle prepared statements, keyed by connection, SQL
+ * text and result set flags. Statements are taken out of the cache while in
+ * use, and given back on {@link Query#close()}. Statements evicted from the
+ * cache get closed.
+ * @author <a href="mailto:chous@acm-sl.org">Jose San Leandro Armendariz</a>
+ * @see Query#useStatementCache(PreparedStatementCache)
+ */
+public class PreparedStatementCache
+{
+    /**
+     * Flag value meaning the driver default is used.
+     */
+    public static final int DRIVER_DEFAULT = -1;
+
+    /**
+     * The idle statements.
+     */
+    private final Map<_Key, PreparedStatement> m__mStatements;
+
+    /**
+     * Creates a cache holding up to given number of idle statements.
+     * @param maxSize the maximum size.
+     */
+    public PreparedStatementCache(final int maxSize)
+    {
+        m__mStatements = new _LruMap(maxSize);
+    }
+
+    /**
+     * Retrieves the idle statements.
+     * @return such statements.
+     */
+    @NotNull
+    protected Map<_Key, PreparedStatement> getStatements()
+    {
+        return m__mStatements;
+    }
+
+    /**
+     * Builds the key for given statement settings.
+     * @param connection the connection.
+     * @param sql the SQL text.
+     * @param resultSetType the result set type, or {@link #DRIVER_DEFAULT}.
+     * @param resultSetConcurrency the result set concurrency, or
+     * {@link #DRIVER_DEFAULT}.
+     * @param resultSetHoldability the result set holdability, or
+     * {@link #DRIVER_DEFAULT}.
+     * @return the key.
+     */
+    @NotNull
+    protected _Key buildKey(
+        @NotNull final Connection connection,
+        @NotNull final String sql,
+        final int resultSetType,
+        final int resultSetConcurrency,
+        final int resultSetHoldability)
+    {
+        return
+            new _Key(
+                connection,
+                sql,
+                resultSetType,
+                resultSetConcurrency,
+                resultSetHoldability);
+    }
+
+    /**
+     * Takes an idle statement out of the cache, or prepares a new one.
+     * @param key the key, as built by {@link #buildKey}.
+     * @return the statement.
+     * @throws SQLException if the statement cannot be prepared.
+     */
+    @NotNull
+    protected PreparedStatement retrieve(@NotNull final _Key key)
+        throws  SQLException
+    {
+        @Nullable PreparedStatement result;
+
+        synchronized (this)
+        {
+            result = getStatements().remove(key);
+        }
+
+        if  (result == null)
+        {
+            result = prepare(key);
+        }
+
+        return result;
+    }
+
+    /**
+     * Prepares a new statement.
+     * @param key the key.
+     * @return the statement.
+     * @throws SQLException if the statement cannot be prepared.
+     */
+    @NotNull
+    protected PreparedStatement prepare(@NotNull final _Key key)
+        throws  SQLException
+    {
+        @NotNull final PreparedStatement result;
+
+        if  (key.getResultSetType() == DRIVER_DEFAULT)
+        {
+            result = key.getConnection().prepareStatement(key.getSql());
+        }
+        else if  (key.getResultSetHoldability() == DRIVER_DEFAULT)
+        {
+            result =
+                key.getConnection().prepareStatement(
+                    key.getSql(),
+                    key.getResultSetType(),
+                    key.getResultSetConcurrency());
+        }
+        else
+        {
+            result =
+                key.getConnection().prepareStatement(
+                    key.getSql(),
+                    key.getResultSetType(),
+                    key.getResultSetConcurrency(),
+                    key.getResultSetHoldability());
+        }
+
+        return result;
+    }
+
+    /**
+     * Gives an statement back to the cache, once its user is done with it,
+     * closing its open result set and clearing its parameters and batch.
+     * Callers must not give back statements whose settings were changed.
+     * @param key the key, as built by {@link #buildKey}.
+     * @param statement the statement.
+     * @throws SQLException if the statement cannot be reset.
+     */
+    protected void release(@NotNull final _Key key, @NotNull final PreparedStatement statement)
+        throws  SQLException
+    {
+        @Nullable final PreparedStatement t_Previous;
+
+        if  (statement.isClosed())
+        {
+            t_Previous = null;
+        }
+        else
+        {
+            @Nullable final ResultSet t_ResultSet = statement.getResultSet();
+
+            if  (t_ResultSet != null)
+            {
+                t_ResultSet.close();
+            }
+
+            statement.clearParameters();
+            statement.clearBatch();
+
+            synchronized (this)
+            {
+                t_Previous = getStatements().put(key, statement);
+            }
+        }
+
+        if  (   (t_Previous != null)
+             && (t_Previous != statement))
+        {
+            close(t_Previous);
+        }
+    }
+
+    /**
+     * Closes and discards all idle statements of given connection.
+     * Should be called before closing or returning the connection to a pool.
+     * @param connection the connection.
+     */
+    public void clear(@NotNull final Connection connection)
+    {
+        @NotNull final List<PreparedStatement> t_lEvicted = new ArrayList<PreparedStatement>();
+
+        synchronized (this)
+        {
+            @NotNull final Iterator<Map.Entry<_Key, PreparedStatement>> t_Entries =
+                getStatements().entrySet().iterator();
+
+            while  (t_Entries.hasNext())
+            {
+                @NotNull final Map.Entry<_Key, PreparedStatement> t_Entry = t_Entries.next();
+
+                if  (t_Entry.getKey().getConnection() == connection)
+                {
+                    t_lEvicted.add(t_Entry.getValue());
+                    t_Entries.remove();
+                }
+            }
+        }
+
+        for  (@NotNull final PreparedStatement t_Statement : t_lEvicted)
+        {
+            close(t_Statement);
+        }
+    }
+
+    /**
+     * Closes and discards all idle statements.
+     */
+    public void clear()
+    {
+        @NotNull final List<PreparedStatement> t_lEvicted;
+
+        synchronized (this)
+        {
+            t_lEvicted = new ArrayList<PreparedStatement>(getStatements().values());
+            getStatements().clear();
+        }
+
+        for  (@NotNull final PreparedStatement t_Statement : t_lEvicted)
+        {
+            close(t_Statement);
+        }
+    }
+
+    /**
+     * Retrieves the number of idle statements.
+     * @return such number.
+     */
+    public synchronized int size()
+    {
+        return getStatements().size();
+    }
+
+    /**
+     * Closes given statement, logging any error.
+     * @param statement the statement.
+     */
+    protected void close(@NotNull final PreparedStatement statement)
+    {
+        try
+        {
+            statement.close();
+        }
+        catch  (@NotNull final SQLException sqlException)
+        {
+            LogFactory.getLog(PreparedStatementCache.class).warn(
+                "Cannot close evicted statement.",
+                sqlException);
+        }
+    }
+
+    /**
+     * Access-ordered map closing the statements it evicts.
+     */
+    protected class _LruMap
+        extends  LinkedHashMap<_Key, PreparedStatement>
+    {
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The maximum size.
+         */
+        private final int m__iMaxSize;
+
+        /**
+         * Creates a map holding up to given number of entries.
+         * @param maxSize the maximum size.
+         */
+        public _LruMap(final int maxSize)
+        {
+            super(16, 0.75f, true);
+            m__iMaxSize = maxSize;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected boolean removeEldestEntry(
+            @NotNull final Map.Entry<_Key, PreparedStatement> eldest)
+        {
+            final boolean result = size() > m__iMaxSize;
+
+            if  (result)
+            {
+                close(eldest.getValue());
+            }
+
+            return result;
+        }
+    }
+
+    /**
+     * Cache key: connection (by identity), SQL text and result set flags.
+     */
+    protected static class _Key
+    {
+        /**
+         * The connection.
+         */
+        @NotNull
+        private final Connection m__Connection;
+
+        /**
+         * The SQL text.
+         */
+        @NotNull
+        private final String m__strSql;
+
+        /**
+         * The result set type.
+         */
+        private final int m__iResultSetType;
+
+        /**
+         * The result set concurrency.
+         */
+        private final int m__iResultSetConcurrency;
+
+        /**
+         * The result set holdability.
+         */
+        private final int m__iResultSetHoldability;
+
+        /**
+         * The precomputed hash code.
+         */
+        private final int m__iHashCode;
+
+        /**
+         * Creates a key.
+         * @param connection the connection.
+         * @param sql the SQL text.
+         * @param resultSetType the result set type.
+         * @param resultSetConcurrency the result set concurrency.
+         * @param resultSetHoldability the result set holdability.
+         */
+        public _Key(
+            @NotNull final Connection connection,
+            @NotNull final String sql,
+            final int resultSetType,
+            final int resultSetConcurrency,
+            final int resultSetHoldability)
+        {
+            m__Connection = connection;
+            m__strSql = sql;
+            m__iResultSetType = resultSetType;
+            m__iResultSetConcurrency = resultSetConcurrency;
+            m__iResultSetHoldability = resultSetHoldability;
+
+            int t_iHash = System.identityHashCode(connection);
+            t_iHash = 31 * t_iHash + sql.hashCode();
+            t_iHash = 31 * t_iHash + resultSetType;
+            t_iHash = 31 * t_iHash + resultSetConcurrency;
+            t_iHash = 31 * t_iHash + resultSetHoldability;
+            m__iHashCode = t_iHash;
+        }
+
+        /**
+         * Retrieves the connection.
+         * @return such connection.
+         */
+        @NotNull
+        public Connection getConnection()
+        {
+            return m__Connection;
+        }
+
+        /**
+         * Retrieves the SQL text.
+         * @return such text.
+         */
+        @NotNull
+        public String getSql()
+        {
+            return m__strSql;
+        }
+
+        /**
+         * Retrieves the result set type.
+         * @return such flag.
+         */
+        public int getResultSetType()
+        {
+            return m__iResultSetType;
+        }
+
+        /**
+         * Retrieves the result set concurrency.
+         * @return such flag.
+         */
+        public int getResultSetConcurrency()
+        {
+            return m__iResultSetConcurrency;
+        }
+
+        /**
+         * Retrieves the result set holdability.
+         * @return such flag.
+         */
+        public int getResultSetHoldability()
+        {
+            return m__iResultSetHoldability;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode()
+        {
+            return m__iHashCode;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(@Nullable final Object candidate)
+        {
+            boolean result = false;
+
+            if  (candidate instanceof _Key)
+            {
+                @NotNull final _Key t_Candidate = (_Key) candidate;
+
+                result =
+                    (   (m__Connection == t_Candidate.m__Connection)
+                     && (m__iResultSetType == t_Candidate.m__iResultSetType)
+                     && (m__iResultSetConcurrency == t_Candidate.m__iResultSetConcurrency)
+                     && (m__iResultSetHoldability == t_Candidate.m__iResultSetHoldability)
+                     && (m__strSql.equals(t_Candidate.m__strSql)));
+            }
+
+            return result;
+        }
+    }
+}
@@ -67,9 +67,12 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.BitSet;
 import java.util.Calendar;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Represents queries to access persistent data.
@@ -103,15 +106,78 @@ public abstract class Query
      */
     private List<VariableCondition> m__lVariableConditions;
 
+    /**
+     * The field positions.
+     */
+    private _PositionIndex<Field> m__FieldPositions;
+
+    /**
+     * The variable condition positions.
+     */
+    private _PositionIndex<VariableCondition> m__VariableConditionPositions;
+
+    /**
+     * The rendered SQL, until the query structure changes. Conditions
+     * get frozen once added, so they cannot change it behind the query.
+     */
+    private String m__strRenderedSql;
+
+    /**
+     * The length of the last rendered SQL, used to size render buffers.
+     */
+    private int m__iRenderedLength;
+
+    /**
+     * The optional statement cache.
+     */
+    private PreparedStatementCache m__StatementCache;
+
+    /**
+     * The cache key of the current statement, if it came from the cache.
+     */
+    private PreparedStatementCache._Key m__StatementCacheKey;
+
+    /**
+     * Whether the current statement settings differ from the driver's
+     * defaults, so it cannot go back to the cache.
+     */
+    private boolean m__bStatementCustomized;
+
+    /**
+     * The SQL the current statement was prepared from.
+     */
+    private String m__strPreparedSql;
+
+    /**
+     * The positions of the parameters bound so far.
+     */
+    private BitSet m__BoundParameters;
+
+    /**
+     * Whether typed literal values are sent as parameters.
+     */
+    private boolean m__bAutoParameterize;
+
+    /**
+     * Whether date values are sent as parameters.
+     */
+    private boolean m__bTemporalParameters;
+
     /**
      * Constructs a query.
      */
     public Query()
     {
+        immutableSetFieldPositions(
+            new _PositionIndex<Field>(new IdentityHashMap<Field, Integer>()));
+        immutableSetVariableConditionPositions(
+            new _PositionIndex<VariableCondition>(
+                new HashMap<VariableCondition, Integer>()));
         immutableSetFields(new ArrayList<Field>());
         immutableSetTables(new ArrayList<Table>());
         immutableSetConditions(new ArrayList<Condition>());
         immutableSetVariableConditions(new ArrayList<VariableCondition>());
+        immutableSetBoundParameters(new BitSet());
     }
 
     /**
@@ -119,7 +185,7 @@ public abstract class Query
      * @param statement the prepared statement.
      */
     protected final void immutableSetPreparedStatement(
-        @NotNull final PreparedStatement statement)
+        @Nullable final PreparedStatement statement)
     {
         m__PreparedStatement = statement;
     }
@@ -143,6 +209,215 @@ public abstract class Query
         return m__PreparedStatement;
     }
 
+    /**
+     * Specifies the statement cache.
+     * @param cache such cache.
+     */
+    protected final void immutableSetStatementCache(@Nullable final PreparedStatementCache cache)
+    {
+        m__StatementCache = cache;
+    }
+
+    /**
+     * Specifies the statement cache.
+     * @param cache such cache.
+     */
+    protected void setStatementCache(@Nullable final PreparedStatementCache cache)
+    {
+        immutableSetStatementCache(cache);
+    }
+
+    /**
+     * Retrieves the statement cache.
+     * @return such cache, or <code>null</code> if statements are not cached.
+     */
+    @Nullable
+    protected PreparedStatementCache getStatementCache()
+    {
+        return m__StatementCache;
+    }
+
+    /**
+     * Makes this query take its statements from given cache, and give them
+     * back on {@link #close()} instead of closing them.
+     * @param cache the statement cache, or <code>null</code> to disable
+     * caching.
+     */
+    public void useStatementCache(@Nullable final PreparedStatementCache cache)
+    {
+        setStatementCache(cache);
+    }
+
+    /**
+     * Specifies the cache key of the current statement.
+     * @param key such key.
+     */
+    protected final void immutableSetStatementCacheKey(
+        @Nullable final PreparedStatementCache._Key key)
+    {
+        m__StatementCacheKey = key;
+    }
+
+    /**
+     * Specifies the cache key of the current statement.
+     * @param key such key.
+     */
+    protected void setStatementCacheKey(@Nullable final PreparedStatementCache._Key key)
+    {
+        immutableSetStatementCacheKey(key);
+    }
+
+    /**
+     * Retrieves the cache key of the current statement.
+     * @return such key, or <code>null</code> if it wasn't taken from the cache.
+     */
+    @Nullable
+    protected PreparedStatementCache._Key getStatementCacheKey()
+    {
+        return m__StatementCacheKey;
+    }
+
+    /**
+     * Specifies whether the current statement settings have been changed.
+     * @param flag such condition.
+     */
+    protected final void immutableSetStatementCustomized(final boolean flag)
+    {
+        m__bStatementCustomized = flag;
+    }
+
+    /**
+     * Specifies whether the current statement settings have been changed.
+     * @param flag such condition.
+     */
+    protected void setStatementCustomized(final boolean flag)
+    {
+        immutableSetStatementCustomized(flag);
+    }
+
+    /**
+     * Checks whether the current statement settings have been changed,
+     * i.e. max rows, timeouts, fetch hints, escape processing or cursor name.
+     * Such statements get closed instead of given back to the cache.
+     * @return such condition.
+     */
+    protected boolean isStatementCustomized()
+    {
+        return m__bStatementCustomized;
+    }
+
+    /**
+     * Specifies the SQL the current statement was prepared from.
+     * @param sql such SQL.
+     */
+    protected final void immutableSetPreparedSql(@Nullable final String sql)
+    {
+        m__strPreparedSql = sql;
+    }
+
+    /**
+     * Specifies the SQL the current statement was prepared from.
+     * @param sql such SQL.
+     */
+    protected void setPreparedSql(@Nullable final String sql)
+    {
+        immutableSetPreparedSql(sql);
+    }
+
+    /**
+     * Retrieves the SQL the current statement was prepared from.
+     * @return such SQL, or <code>null</code> if the statement wasn't
+     * prepared by this query.
+     */
+    @Nullable
+    protected String getPreparedSql()
+    {
+        return m__strPreparedSql;
+    }
+
+    /**
+     * Specifies the positions of the bound parameters.
+     * @param parameters such positions.
+     */
+    private void immutableSetBoundParameters(@NotNull final BitSet parameters)
+    {
+        m__BoundParameters = parameters;
+    }
+
+    /**
+     * Retrieves the positions of the bound parameters.
+     * @return such positions.
+     */
+    @NotNull
+    protected BitSet getBoundParameters()
+    {
+        return m__BoundParameters;
+    }
+
+    /**
+     * Annotates given parameter as bound.
+     * @param index the parameter index.
+     */
+    protected void markParameterBound(final int index)
+    {
+        if  (index > 0)
+        {
+            getBoundParameters().set(index);
+        }
+    }
+
+    /**
+     * Checks all variable conditions have been bound.
+     * @throws SQLException if any parameter is missing.
+     */
+    protected void checkParameters()
+        throws  SQLException
+    {
+        checkParameters(getVariableConditions(), getBoundParameters());
+    }
+
+    /**
+     * Checks all variable conditions have been bound.
+     * @param variableConditions the variable conditions.
+     * @param boundParameters the positions of the bound parameters.
+     * @throws SQLException if any parameter is missing.
+     */
+    protected void checkParameters(
+        @NotNull final List<VariableCondition> variableConditions,
+        @NotNull final BitSet boundParameters)
+      throws  SQLException
+    {
+        @Nullable StringBuilder t_sbMissing = null;
+
+        final int t_iCount = variableConditions.size();
+
+        for  (int t_iIndex = 1; t_iIndex <= t_iCount; t_iIndex++)
+        {
+            if  (!boundParameters.get(t_iIndex))
+            {
+                if  (t_sbMissing == null)
+                {
+                    t_sbMissing = new StringBuilder("Missing parameter value for ");
+                }
+                else
+                {
+                    t_sbMissing.append(", ");
+                }
+
+                t_sbMissing.append('#');
+                t_sbMissing.append(t_iIndex);
+                t_sbMissing.append(" (");
+                t_sbMissing.append(variableConditions.get(t_iIndex - 1));
+                t_sbMissing.append(')');
+            }
+        }
+
+        if  (t_sbMissing != null)
+        {
+            throw new SQLException(t_sbMissing.toString(), "07001"); // "Wrong number of parameters"
+        }
+    }
+
     /**
      * Retrieves the statement, and throws an SQLException indicating
      * JDBC API has been incorrectly used since the statement wasn't
@@ -180,6 +455,7 @@ public abstract class Query
     protected void setFields(@NotNull final List<Field> list)
     {
         immutableSetFields(list);
+        invalidateRenderedSql();
     }
 
     /**
@@ -198,6 +474,7 @@ public abstract class Query
     protected void addField(@NotNull final Field field)
     {
         addField(field, getFields());
+        invalidateRenderedSql();
     }
 
     /**
@@ -210,15 +487,35 @@ public abstract class Query
         fields.add(field);
     }
 
+    /**
+     * Specifies the field positions.
+     * @param positions such positions.
+     */
+    private void immutableSetFieldPositions(
+        @NotNull final _PositionIndex<Field> positions)
+    {
+        m__FieldPositions = positions;
+    }
+
+    /**
+     * Retrieves the field positions.
+     * @return such positions.
+     */
+    @NotNull
+    protected _PositionIndex<Field> getFieldPositions()
+    {
+        return m__FieldPositions;
+    }
+
     /**
      * Retrieves the position of given field on the query.
      * @param field the field to find.
-     * @return its position, or <code>-1</code> if such field doesn't belong to
+     * @return its position, or <code>0</code> if such field doesn't belong to
      * this query.
      */
     protected int getFieldIndex(@NotNull final Field field)
     {
-        return getIndex(getFields(), field);
+        return getFieldPositions().getPosition(getFields(), field);
     }
 
     /**
@@ -237,6 +534,7 @@ public abstract class Query
     protected void setTables(@NotNull final List<Table> list)
     {
         immutableSetTables(list);
+        invalidateRenderedSql();
     }
 
     /**
@@ -256,6 +554,7 @@ public abstract class Query
     protected void addTable(@NotNull final Table table)
     {
         addTable(table, getTables());
+        invalidateRenderedSql();
     }
 
     /**
@@ -284,6 +583,7 @@ public abstract class Query
     protected void setConditions(@NotNull final List<Condition> list)
     {
         immutableSetConditions(list);
+        invalidateRenderedSql();
     }
 
     /**
@@ -321,6 +621,7 @@ public abstract class Query
             processNestedVariableConditions
             ?  getVariableConditions()
             :  null);
+        invalidateRenderedSql();
     }
 
     /**
@@ -335,16 +636,273 @@ public abstract class Query
         @NotNull final List<Condition> conditions,
         @Nullable final List<VariableCondition> variableConditions)
     {
-        conditions.add(condition);
+        addCondition(
+            condition, conditions, variableConditions, ConditionFactory.getInstance());
+    }
+
+    /**
+     * Adds a new condition, in its normalized form. It's ignored if
+     * the query already includes it, unless it has placeholders. The
+     * condition gets {@link Condition#isFrozen() frozen}: composing onto it
+     * afterwards fails, instead of going unnoticed by the query. Its typed values become parameters
+     * if the query is {@link #isAutoParameterized() auto-parameterized},
+     * and its dates if it {@link #isUsingTemporalParameters() says so}.
+     * @param condition the condition to add.
+     * @param conditions the conditions.
+     * @param variableConditions the variable conditions, or <code>null</code> if
+     * no nested conditions process is desired.
+     * @param conditionFactory the {@link ConditionFactory} instance.
+     * @see ConditionFactory#normalize(Condition)
+     */
+    protected final void addCondition(
+        @NotNull final Condition condition,
+        @NotNull final List<Condition> conditions,
+        @Nullable final List<VariableCondition> variableConditions,
+        @NotNull final ConditionFactory conditionFactory)
+    {
+        condition.freeze();
+
+        @NotNull Condition t_Condition = conditionFactory.normalize(condition);
+
+        if  (isAutoParameterized())
+        {
+            t_Condition = conditionFactory.parameterize(t_Condition);
+        }
+        else if  (isUsingTemporalParameters())
+        {
+            t_Condition = conditionFactory.parameterize(t_Condition, true);
+        }
+
+        @NotNull final List<VariableCondition> t_lVariableConditions =
+            new ArrayList<VariableCondition>();
+
+        t_Condition.collectVariableConditions(t_lVariableConditions);
+
+        // Placeholders are never merged: each one gets bound on its own.
+        if  (   (!t_lVariableConditions.isEmpty())
+             || (!conditions.contains(t_Condition)))
+        {
+            conditions.add(t_Condition);
+
+            if  (variableConditions != null)
+            {
+                variableConditions.addAll(t_lVariableConditions);
+            }
+        }
+    }
+
+    /**
+     * Specifies whether typed literal values are sent as parameters.
+     * @param flag such flag.
+     */
+    protected final void immutableSetAutoParameterize(final boolean flag)
+    {
+        m__bAutoParameterize = flag;
+    }
+
+    /**
+     * Specifies whether typed literal values are sent as parameters.
+     * @param flag such flag.
+     */
+    protected void setAutoParameterize(final boolean flag)
+    {
+        immutableSetAutoParameterize(flag);
+    }
+
+    /**
+     * Checks whether typed literal values are sent as parameters.
+     * @return <code>true</code> in such case.
+     */
+    public boolean isAutoParameterized()
+    {
+        return m__bAutoParameterize;
+    }
+
+    /**
+     * Specifies whether conditions comparing a field against a number or
+     * a date, added from now on, should render a <code>?</code> placeholder
+     * instead of the literal value. So do the column values of write
+     * queries, text included. The values are bound automatically
+     * whenever the statement gets prepared, or its parameters cleared, so
+     * queries differing only in such values share the same SQL.
+     * @param flag such flag.
+     * @see ConditionFactory#parameterize(Condition)
+     * @see WriteQuery#shouldBind(Object)
+     */
+    public void useAutoParameterization(final boolean flag)
+    {
+        setAutoParameterize(flag);
+    }
+
+    /**
+     * Specifies whether date values are sent as parameters.
+     * @param flag such flag.
+     */
+    protected final void immutableSetTemporalParameters(final boolean flag)
+    {
+        m__bTemporalParameters = flag;
+    }
+
+    /**
+     * Specifies whether date values are sent as parameters.
+     * @param flag such flag.
+     */
+    protected void setTemporalParameters(final boolean flag)
+    {
+        immutableSetTemporalParameters(flag);
+    }
+
+    /**
+     * Checks whether date values are sent as parameters.
+     * @return <code>true</code> in such case.
+     */
+    public boolean isUsingTemporalParameters()
+    {
+        return m__bTemporalParameters;
+    }
+
+    /**
+     * Specifies whether {@link java.util.Calendar} and {@link java.util.Date}
+     * values specified from now on should be bound as {@link Timestamp}
+     * (or {@link Date}) parameters instead of being rendered as literals.
+     * Unlike {@link #useAutoParameterization(boolean)}, other values are
+     * still rendered.
+     * @param flag such flag.
+     */
+    public void useTemporalParameters(final boolean flag)
+    {
+        setTemporalParameters(flag);
+    }
+
+    /**
+     * Binds the values of the conditions parameterized automatically.
+     * @throws SQLException if any value cannot be bound.
+     */
+    protected void bindAutoParameters()
+        throws  SQLException
+    {
+        @NotNull final List<VariableCondition> t_lVariableConditions = getVariableConditions();
+
+        final int t_iCount = t_lVariableConditions.size();
+
+        for  (int t_iIndex = 0; t_iIndex < t_iCount; t_iIndex++)
+        {
+            @NotNull final VariableCondition t_Condition = t_lVariableConditions.get(t_iIndex);
+
+            if  (t_Condition.hasTypedRightSideValue())
+            {
+                bindAutoParameter(t_iIndex + 1, t_Condition.getRightSideObject());
+            }
+        }
+    }
+
+    /**
+     * Binds given value using the setter matching its type.
+     * @param index the parameter index.
+     * @param value the value.
+     * @throws SQLException if the value cannot be bound.
+     */
+    protected void bindAutoParameter(final int index, @Nullable final Object value)
+        throws  SQLException
+    {
+        if  (value instanceof String)
+        {
+            setString(index, (String) value);
+        }
+        else if  (value instanceof Integer)
+        {
+            setInt(index, (Integer) value);
+        }
+        else if  (value instanceof Long)
+        {
+            setLong(index, (Long) value);
+        }
+        else if  (value instanceof Double)
+        {
+            setDouble(index, (Double) value);
+        }
+        else if  (value instanceof BigDecimal)
+        {
+            setBigDecimal(index, (BigDecimal) value);
+        }
+        else if  (value instanceof Date)
+        {
+            setDate(index, (Date) value);
+        }
+        else if  (QueryUtils.getInstance().isTemporal(value))
+        {
+            setTimestamp(index, QueryUtils.getInstance().toJdbcTemporal(value));
+        }
+        else
+        {
+            setObject(index, value);
+        }
+    }
+
+    /**
+     * Specifies the rendered SQL.
+     * @param sql such SQL.
+     */
+    protected final void immutableSetRenderedSql(@Nullable final String sql)
+    {
+        m__strRenderedSql = sql;
 
-        if  (variableConditions != null)
+        if  (sql != null)
         {
-            addVariableConditions(
-                condition.getVariableConditions(),
-                variableConditions);
+            m__iRenderedLength = sql.length();
         }
     }
 
+    /**
+     * Specifies the rendered SQL.
+     * @param sql such SQL.
+     */
+    protected void setRenderedSql(@Nullable final String sql)
+    {
+        immutableSetRenderedSql(sql);
+    }
+
+    /**
+     * Retrieves the rendered SQL.
+     * @return such SQL, or <code>null</code> if the query structure has
+     * changed since it was last rendered.
+     * @see Condition#isFrozen()
+     */
+    @Nullable
+    protected String getRenderedSql()
+    {
+        return m__strRenderedSql;
+    }
+
+    /**
+     * Retrieves the length of the last rendered SQL.
+     * @return such length, or <code>0</code> if never rendered.
+     */
+    protected int getRenderedLength()
+    {
+        return m__iRenderedLength;
+    }
+
+    /**
+     * Creates the buffer to render the query into, sized after the
+     * previous rendering.
+     * @return such buffer.
+     */
+    @NotNull
+    protected StringBuilder createRenderBuffer()
+    {
+        return new StringBuilder(Math.max(128, getRenderedLength() + 64));
+    }
+
+    /**
+     * Discards the rendered SQL, so that it gets rebuilt the next time
+     * it's needed.
+     */
+    protected void invalidateRenderedSql()
+    {
+        setRenderedSql(null);
+    }
+
     /**
      * Specifies new variable condition collection.
      * @param list the new list.
@@ -374,6 +932,72 @@ public abstract class Query
         return m__lVariableConditions;
     }
 
+    /**
+     * Specifies the variable condition positions.
+     * @param positions such positions.
+     */
+    private void immutableSetVariableConditionPositions(
+        @NotNull final _PositionIndex<VariableCondition> positions)
+    {
+        m__VariableConditionPositions = positions;
+    }
+
+    /**
+     * Retrieves the variable condition positions.
+     * @return such positions.
+     */
+    @NotNull
+    protected _PositionIndex<VariableCondition> getVariableConditionPositions()
+    {
+        return m__VariableConditionPositions;
+    }
+
+    /**
+     * Retrieves the position of given variable condition on the query.
+     * @param condition the variable condition to find.
+     * @return its position, or <code>0</code> if such condition doesn't
+     * belong to this query.
+     */
+    protected int getVariableConditionIndex(@NotNull final VariableCondition condition)
+    {
+        return
+            getVariableConditionPositions().getPosition(
+                getVariableConditions(), condition);
+    }
+
+    /**
+     * Retrieves the position of given variable condition on the query.
+     * @param condition the variable condition to find.
+     * @return its position.
+     * @throws SQLException if the condition is not found.
+     */
+    protected int retrieveVariableConditionIndex(@NotNull final VariableCondition condition)
+        throws  SQLException
+    {
+        return retrieveVariableConditionIndex(condition, 0);
+    }
+
+    /**
+     * Retrieves the position of given variable condition on the query.
+     * @param condition the variable condition to find.
+     * @param index the concrete index, if the condition refers to an array.
+     * @return its position.
+     * @throws SQLException if the condition is not found.
+     */
+    protected int retrieveVariableConditionIndex(
+        @NotNull final VariableCondition condition, final int index)
+      throws  SQLException
+    {
+        final int result = getVariableConditionIndex(condition);
+
+        if  (result < 1)
+        {
+            throw new SQLException("Field or Condition not found!");
+        }
+
+        return result + index;
+    }
+
     /**
      * Adds a new variable condition.
      * @param variableCondition the variable condition to add.
@@ -393,50 +1017,39 @@ public abstract class Query
         @NotNull final VariableCondition variableCondition,
         @NotNull final List<VariableCondition> variableConditions)
     {
-        addVariableConditions(
-            variableCondition,
-            variableCondition.getVariableConditions(),
-            variableConditions);
+        variableCondition.collectVariableConditions(variableConditions);
     }
 
     /**
-     * Adds given new variable conditions.
-     * @param newVariableConditions the variable conditions to add.
-     * @param variableConditions the variable conditions.
+     * Inserts a variable condition at given position.
+     * @param index the position, starting at 0.
+     * @param variableCondition the variable condition.
      */
-    protected final void addVariableConditions(
-        @NotNull final Collection<VariableCondition> newVariableConditions,
-        @NotNull final List<VariableCondition> variableConditions)
+    protected void insertVariableCondition(
+        final int index, @NotNull final VariableCondition variableCondition)
     {
-        addVariableConditions(null, newVariableConditions, variableConditions);
+        getVariableConditions().add(index, variableCondition);
+        getVariableConditionPositions().reset();
     }
 
     /**
-     * Adds given new variable conditions.
-     * @param variableCondition the variable condition (optional).
-     * @param newVariableConditions the variable conditions to add.
-     * @param variableConditions the variable conditions.
+     * Removes given variable condition, compared by identity.
+     * @param variableCondition the variable condition.
      */
-    protected final void addVariableConditions(
-        @Nullable final VariableCondition variableCondition,
-        @Nullable final Collection<VariableCondition> newVariableConditions,
-        @NotNull final List<VariableCondition> variableConditions)
+    protected void removeVariableCondition(@NotNull final VariableCondition variableCondition)
     {
-        int offset = 0;
+        @NotNull final List<VariableCondition> t_lVariableConditions = getVariableConditions();
 
-        if  (variableCondition != null)
-        {
-            offset = 1;
-        }
+        final int t_iCount = t_lVariableConditions.size();
 
-        if  (   (newVariableConditions != null)
-             && (newVariableConditions.size() > offset))
+        for  (int t_iIndex = 0; t_iIndex < t_iCount; t_iIndex++)
         {
-            variableConditions.addAll(newVariableConditions);
-        }
-        else if  (variableCondition != null)
-        {
-            variableConditions.add(variableCondition);
+            if  (t_lVariableConditions.get(t_iIndex) == variableCondition)
+            {
+                t_lVariableConditions.remove(t_iIndex);
+                getVariableConditionPositions().reset();
+                break;
+            }
         }
     }
 
@@ -565,7 +1178,15 @@ public abstract class Query
     public PreparedStatement prepareStatement(@NotNull final Connection connection)
         throws  SQLException
     {
-        setPreparedStatement(connection.prepareStatement(toString()));
+        setPreparedStatement(
+            createPreparedStatement(
+                connection,
+                PreparedStatementCache.DRIVER_DEFAULT,
+                PreparedStatementCache.DRIVER_DEFAULT,
+                PreparedStatementCache.DRIVER_DEFAULT,
+                getStatementCache()));
+
+        bindAutoParameters();
 
         return this;
     }
@@ -587,10 +1208,14 @@ public abstract class Query
       throws  SQLException
     {
         setPreparedStatement(
-            connection.prepareStatement(
-                toString(),
+            createPreparedStatement(
+                connection,
                 resultSetType,
-                resultSetConcurrency));
+                resultSetConcurrency,
+                PreparedStatementCache.DRIVER_DEFAULT,
+                getStatementCache()));
+
+        bindAutoParameters();
 
         return this;
     }
@@ -613,26 +1238,161 @@ public abstract class Query
       throws  SQLException
     {
         setPreparedStatement(
-            connection.prepareStatement(
-                toString(),
+            createPreparedStatement(
+                connection,
                 resultSetType,
                 resultSetConcurrency,
-                resultSetHoldability));
+                resultSetHoldability,
+                getStatementCache()));
+
+        bindAutoParameters();
 
         return this;
     }
 
+    /**
+     * Creates a statement using given flags, or takes it from the cache.
+     * Any statement the query still holds is given back to the cache, or
+     * closed, first.
+     * @param connection the JDBC connection.
+     * @param resultSetType one of the ResultSet type flags, or
+     * {@link PreparedStatementCache#DRIVER_DEFAULT}.
+     * @param resultSetConcurrency one of the ResultSet concurrency flags, or
+     * {@link PreparedStatementCache#DRIVER_DEFAULT}.
+     * @param resultSetHoldability one of the ResultSet holdability flags, or
+     * {@link PreparedStatementCache#DRIVER_DEFAULT}.
+     * @param cache the statement cache, or <code>null</code>.
+     * @return the statement.
+     * @throws SQLException if an error occurs.
+     */
+    @NotNull
+    protected PreparedStatement createPreparedStatement(
+        @NotNull final Connection connection,
+        final int resultSetType,
+        final int resultSetConcurrency,
+        final int resultSetHoldability,
+        @Nullable final PreparedStatementCache cache)
+      throws  SQLException
+    {
+        @NotNull final PreparedStatement result;
+
+        @Nullable final PreparedStatement t_Current = getPreparedStatement();
+
+        if  (t_Current != null)
+        {
+            close(t_Current, cache, getStatementCacheKey());
+        }
+
+        getBoundParameters().clear();
+
+        setPreparedSql(toString());
+
+        if  (cache != null)
+        {
+            @NotNull final PreparedStatementCache._Key t_Key =
+                cache.buildKey(
+                    connection,
+                    toString(),
+                    resultSetType,
+                    resultSetConcurrency,
+                    resultSetHoldability);
+
+            result = cache.retrieve(t_Key);
+
+            setStatementCacheKey(t_Key);
+        }
+        else if  (resultSetType == PreparedStatementCache.DRIVER_DEFAULT)
+        {
+            result = connection.prepareStatement(toString());
+        }
+        else if  (resultSetHoldability == PreparedStatementCache.DRIVER_DEFAULT)
+        {
+            result =
+                connection.prepareStatement(
+                    toString(),
+                    resultSetType,
+                    resultSetConcurrency);
+        }
+        else
+        {
+            result =
+                connection.prepareStatement(
+                    toString(),
+                    resultSetType,
+                    resultSetConcurrency,
+                    resultSetHoldability);
+        }
+
+        return result;
+    }
+
+    /**
+     * Freezes the current structure of the query into an immutable form
+     * which can be shared among threads.
+     * @return the compiled query.
+     */
+    @NotNull
+    public CompiledQuery compile()
+    {
+        return new CompiledQuery(toString(), getFields(), getVariableConditions());
+    }
+
     // Implementation of java.sql.Statement //
 
     /**
-     * See java.sql.Statement#close().
+     * See java.sql.Statement#close(). Closing a query with no statement,
+     * or whose statement went back to the cache already, has no effect.
      * @see java.sql.Statement#close()
      * @throws SQLException if an error occurs.
      */
     public void close()
         throws  SQLException
     {
-        retrievePreparedStatement().close();
+        @Nullable final PreparedStatement t_Statement = getPreparedStatement();
+
+        if  (t_Statement != null)
+        {
+            close(t_Statement, getStatementCache(), getStatementCacheKey());
+        }
+    }
+
+    /**
+     * Closes given statement, or gives it back to the cache it was taken from.
+     * @param statement the statement.
+     * @param cache the statement cache, or <code>null</code>.
+     * @param key the cache key of the statement, or <code>null</code>.
+     * @throws SQLException if an error occurs.
+     */
+    protected void close(
+        @NotNull final PreparedStatement statement,
+        @Nullable final PreparedStatementCache cache,
+        @Nullable final PreparedStatementCache._Key key)
+      throws  SQLException
+    {
+        final boolean t_bCustomized = isStatementCustomized();
+
+        setStatementCustomized(false);
+        setPreparedSql(null);
+
+        if  (   (cache != null)
+             && (key != null))
+        {
+            immutableSetPreparedStatement(null);
+            setStatementCacheKey(null);
+
+            if  (t_bCustomized)
+            {
+                statement.close();
+            }
+            else
+            {
+                cache.release(key, statement);
+            }
+        }
+        else
+        {
+            statement.close();
+        }
     }
 
     /**
@@ -746,6 +1506,7 @@ public abstract class Query
         throws  SQLException
     {
         retrievePreparedStatement().setMaxFieldSize(size);
+        setStatementCustomized(true);
     }
 
     /**
@@ -773,6 +1534,7 @@ public abstract class Query
         throws  SQLException
     {
         retrievePreparedStatement().setMaxRows(max);
+        setStatementCustomized(true);
     }
 
     /**
@@ -787,6 +1549,7 @@ public abstract class Query
         throws  SQLException
     {
         retrievePreparedStatement().setEscapeProcessing(flag);
+        setStatementCustomized(true);
     }
 
     /**
@@ -813,6 +1576,7 @@ public abstract class Query
         throws SQLException
     {
         retrievePreparedStatement().setQueryTimeout(timeout);
+        setStatementCustomized(true);
     }
 
     /**
@@ -837,6 +1601,7 @@ public abstract class Query
         throws  SQLException
     {
         retrievePreparedStatement().setCursorName(name);
+        setStatementCustomized(true);
     }
 
     /**
@@ -893,6 +1658,7 @@ public abstract class Query
         throws  SQLException
     {
         retrievePreparedStatement().setFetchDirection(direction);
+        setStatementCustomized(true);
     }
 
     /**
@@ -919,6 +1685,7 @@ public abstract class Query
         throws  SQLException
     {
         retrievePreparedStatement().setFetchSize(size);
+        setStatementCustomized(true);
     }
 
     /**
@@ -1014,6 +1781,8 @@ public abstract class Query
     public void setTime(final int index, final Time time)
         throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement().setTime(index, time);
     }
 
@@ -1031,6 +1800,8 @@ public abstract class Query
         final int index, final Time time, final Calendar calendar)
       throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement().setTime(index, time, calendar);
     }
 
@@ -1075,6 +1846,8 @@ public abstract class Query
     public void setBoolean(final int index, final boolean flag)
         throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement().setBoolean(index, flag);
     }
 
@@ -1089,6 +1862,8 @@ public abstract class Query
     public void setByte(final int index, final byte b)
         throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement().setByte(index, b);
     }
 
@@ -1103,6 +1878,8 @@ public abstract class Query
     public void setShort(final int index, final short s)
         throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement().setShort(index, s);
     }
 
@@ -1117,6 +1894,8 @@ public abstract class Query
     public void setInt(final int index, final int value)
         throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement().setInt(index, value);
     }
 
@@ -1131,6 +1910,8 @@ public abstract class Query
     public void setLong(final int index, final long value)
         throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement().setLong(index, value);
     }
 
@@ -1145,6 +1926,8 @@ public abstract class Query
     public void setFloat(final int index, final float value)
         throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement().setFloat(index, value);
     }
 
@@ -1159,6 +1942,8 @@ public abstract class Query
     public void setDouble(final int index, final double value)
         throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement().setDouble(index, value);
     }
 
@@ -1214,6 +1999,8 @@ public abstract class Query
     public void setNull(final int index, final int sqlType)
         throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement().setNull(index, sqlType);
     }
 
@@ -1233,6 +2020,8 @@ public abstract class Query
         final int index, final int sqlType, final String typeName)
       throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement().setNull(index, sqlType, typeName);
     }
 
@@ -1247,6 +2036,8 @@ public abstract class Query
     public void setString(final int index, final String value)
         throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement().setString(index, value);
     }
 
@@ -1258,7 +2049,9 @@ public abstract class Query
     public void clearParameters()
         throws  SQLException
     {
+        getBoundParameters().clear();
         retrievePreparedStatement().clearParameters();
+        bindAutoParameters();
     }
 
     /**
@@ -1272,6 +2065,8 @@ public abstract class Query
     public void setArray(final int index, final Array value)
         throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement().setArray(index, value);
     }
 
@@ -1292,6 +2087,8 @@ public abstract class Query
         final int length)
       throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement().setAsciiStream(index, inputStream, length);
     }
 
@@ -1306,6 +2103,8 @@ public abstract class Query
     public void setBigDecimal(final int index, final BigDecimal value)
         throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement().setBigDecimal(index, value);
     }
 
@@ -1326,6 +2125,8 @@ public abstract class Query
         final int length)
       throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement()
             .setBinaryStream(index, inputStream, length);
     }
@@ -1341,6 +2142,8 @@ public abstract class Query
     public void setBlob(final int index, final Blob value)
         throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement().setBlob(index, value);
     }
 
@@ -1355,6 +2158,8 @@ public abstract class Query
     public void setBytes(final int index, final byte[] value)
         throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement().setBytes(index, value);
     }
 
@@ -1375,6 +2180,8 @@ public abstract class Query
         final int length)
       throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement().setCharacterStream(index, reader, length);
     }
 
@@ -1389,6 +2196,8 @@ public abstract class Query
     public void setClob(final int index, final Clob value)
         throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement().setClob(index, value);
     }
 
@@ -1403,6 +2212,8 @@ public abstract class Query
     public void setClob(final int index, @NotNull final String value)
         throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement().setCharacterStream(
             index, new StringReader(value), value.length());
     }
@@ -1418,6 +2229,8 @@ public abstract class Query
     public void setDate(final int index, final Date value)
         throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement().setDate(index, value);
     }
 
@@ -1432,7 +2245,7 @@ public abstract class Query
     public void setDate(@NotNull final VariableCondition condition, @NotNull final Date value)
         throws  SQLException
     {
-        setDate(retrieveIndex(getVariableConditions(), condition), value);
+        setDate(retrieveVariableConditionIndex(condition), value);
     }
 
     /**
@@ -1449,6 +2262,8 @@ public abstract class Query
         final int index, @NotNull final Date value, @NotNull final Calendar calendar)
       throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement().setDate(index, value, calendar);
     }
 
@@ -1481,6 +2296,8 @@ public abstract class Query
         @NotNull final PreparedStatement preparedStatement)
       throws  SQLException
     {
+        markParameterBound(index);
+
         if  (value != null)
         {
             preparedStatement.setDate(index, new Date(value.getTime()));
@@ -1503,7 +2320,7 @@ public abstract class Query
     public void setDate(final VariableCondition condition, final java.util.Date value)
         throws  SQLException
     {
-        setDate(retrieveIndex(getVariableConditions(), condition), value);
+        setDate(retrieveVariableConditionIndex(condition), value);
     }
 
     /**
@@ -1528,6 +2345,8 @@ public abstract class Query
         final int scale)
       throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement().setObject(index, value, sqlType, scale);
     }
 
@@ -1546,6 +2365,8 @@ public abstract class Query
         final int index, final Object value, final int sqlType)
       throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement().setObject(index, value, sqlType);
     }
 
@@ -1560,6 +2381,8 @@ public abstract class Query
     public void setObject(final int index, final Object value)
         throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement().setObject(index, value);
     }
 
@@ -1574,6 +2397,8 @@ public abstract class Query
     public void setRef(final int index, final Ref value)
         throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement().setRef(index, value);
     }
 
@@ -1588,6 +2413,8 @@ public abstract class Query
     public void setTimestamp(final int index, final Timestamp value)
         throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement().setTimestamp(index, value);
     }
 
@@ -1605,6 +2432,8 @@ public abstract class Query
         final int index, final Timestamp value, final Calendar calendar)
       throws  SQLException
     {
+        markParameterBound(index);
+
         retrievePreparedStatement().setTimestamp(index, value, calendar);
     }
 
@@ -1637,6 +2466,8 @@ public abstract class Query
         @NotNull final PreparedStatement preparedStatement)
         throws  SQLException
     {
+        markParameterBound(index);
+
         if  (value != null)
         {
             preparedStatement.setTimestamp(
@@ -1683,6 +2514,8 @@ public abstract class Query
         @NotNull final PreparedStatement preparedStatement)
       throws  SQLException
     {
+        markParameterBound(index);
+
         if  (value != null)
         {
             preparedStatement.setTimestamp(
@@ -1727,6 +2560,8 @@ public abstract class Query
         @NotNull final PreparedStatement preparedStatement)
       throws  SQLException
     {
+        markParameterBound(index);
+
         preparedStatement.setUnicodeStream(index, inputStream, length);
     }
 
@@ -1757,7 +2592,7 @@ public abstract class Query
     public void setTime(@NotNull final VariableCondition condition, @NotNull final Time value)
         throws  SQLException
     {
-        setTime(retrieveIndex(getVariableConditions(), condition), value);
+        setTime(retrieveVariableConditionIndex(condition), value);
     }
 
     /**
@@ -1796,7 +2631,7 @@ public abstract class Query
       throws  SQLException
     {
         setTime(
-            retrieveIndex(getVariableConditions(), condition),
+            retrieveVariableConditionIndex(condition),
             value,
             calendar);
     }
@@ -1827,7 +2662,7 @@ public abstract class Query
         @NotNull final VariableCondition condition, final boolean value)
       throws  SQLException
     {
-        setBoolean(retrieveIndex(getVariableConditions(), condition), value);
+        setBoolean(retrieveVariableConditionIndex(condition), value);
     }
 
     /**
@@ -1855,7 +2690,7 @@ public abstract class Query
     public void setByte(@NotNull final VariableCondition condition, final byte value)
         throws  SQLException
     {
-        setByte(retrieveIndex(getVariableConditions(), condition), value);
+        setByte(retrieveVariableConditionIndex(condition), value);
     }
 
     /**
@@ -1883,7 +2718,7 @@ public abstract class Query
     public void setShort(@NotNull final VariableCondition condition, final short value)
         throws  SQLException
     {
-        setShort(retrieveIndex(getVariableConditions(), condition), value);
+        setShort(retrieveVariableConditionIndex(condition), value);
     }
 
     /**
@@ -1917,6 +2752,8 @@ public abstract class Query
         @NotNull final PreparedStatement preparedStatement)
         throws  SQLException
     {
+        markParameterBound(index);
+
         if  (value != null)
         {
             preparedStatement.setInt(index, value.intValue());
@@ -1966,7 +2803,7 @@ public abstract class Query
     public void setInt(@NotNull final VariableCondition condition, final int value)
         throws  SQLException
     {
-        setInt(retrieveIndex(getVariableConditions(), condition), value);
+        setInt(retrieveVariableConditionIndex(condition), value);
     }
 
     /**
@@ -1980,7 +2817,7 @@ public abstract class Query
     public void setInt(@NotNull final VariableCondition condition, @NotNull final Integer value)
         throws  SQLException
     {
-        setInt(retrieveIndex(getVariableConditions(), condition), value);
+        setInt(retrieveVariableConditionIndex(condition), value);
     }
 
     /**
@@ -2014,6 +2851,8 @@ public abstract class Query
         @NotNull final PreparedStatement preparedStatement)
       throws  SQLException
     {
+        markParameterBound(index);
+
         if  (value != null)
         {
             preparedStatement.setLong(index, value.longValue());
@@ -2063,7 +2902,7 @@ public abstract class Query
     public void setLong(@NotNull final VariableCondition condition, final long value)
         throws  SQLException
     {
-        setLong(retrieveIndex(getVariableConditions(), condition), value);
+        setLong(retrieveVariableConditionIndex(condition), value);
     }
 
     /**
@@ -2078,7 +2917,7 @@ public abstract class Query
         @NotNull final VariableCondition condition, @Nullable final Long value)
         throws  SQLException
     {
-        setLong(retrieveIndex(getVariableConditions(), condition), value);
+        setLong(retrieveVariableConditionIndex(condition), value);
     }
 
     /**
@@ -2106,7 +2945,7 @@ public abstract class Query
     public void setFloat(@NotNull final VariableCondition condition, final float value)
         throws  SQLException
     {
-        setFloat(retrieveIndex(getVariableConditions(), condition), value);
+        setFloat(retrieveVariableConditionIndex(condition), value);
     }
 
     /**
@@ -2140,6 +2979,8 @@ public abstract class Query
         @NotNull final PreparedStatement preparedStatement)
       throws  SQLException
     {
+        markParameterBound(index);
+
         if  (value != null)
         {
             preparedStatement.setDouble(index, value.doubleValue());
@@ -2190,7 +3031,7 @@ public abstract class Query
         @NotNull final VariableCondition condition, final double value)
       throws  SQLException
     {
-        setDouble(retrieveIndex(getVariableConditions(), condition), value);
+        setDouble(retrieveVariableConditionIndex(condition), value);
     }
 
     /**
@@ -2205,7 +3046,7 @@ public abstract class Query
         @NotNull final VariableCondition condition, @Nullable final Double value)
       throws  SQLException
     {
-        setDouble(retrieveIndex(getVariableConditions(), condition), value);
+        setDouble(retrieveVariableConditionIndex(condition), value);
     }
 
     /**
@@ -2236,7 +3077,7 @@ public abstract class Query
     public void setNull(@NotNull final VariableCondition condition, final int sqlType)
         throws  SQLException
     {
-        setNull(retrieveIndex(getVariableConditions(), condition), sqlType);
+        setNull(retrieveVariableConditionIndex(condition), sqlType);
     }
 
     /**
@@ -2280,7 +3121,7 @@ public abstract class Query
       throws  SQLException
     {
         setNull(
-            retrieveIndex(getVariableConditions(), condition),
+            retrieveVariableConditionIndex(condition),
             sqlType,
             typeName);
     }
@@ -2327,26 +3168,64 @@ public abstract class Query
         @NotNull final VariableCondition condition, @Nullable final String value)
       throws  SQLException
     {
-        setString(retrieveIndex(getVariableConditions(), condition), value);
+        setString(retrieveVariableConditionIndex(condition), value);
     }
 
     /**
      * Specifies the value of an array of String parameters,
      * associated with a previously specified variable condition.
+     * If the condition has more placeholders than values, the remaining
+     * ones are bound to the last value, or to <code>null</code> if there
+     * are no values at all. Since <code>not in (null)</code> never matches,
+     * callers must drop not-in conditions whose value list is empty.
      * @param condition the variable condition.
      * @param values the String values.
-     * @throws SQLException if an error occurs.
+     * @throws SQLException if an error occurs, if there're more values
+     * than placeholders, or if there're no values for a not-in condition.
      */
     public void setStrings(
-        final VariableCondition condition, @Nullable final String[] values)
+        @NotNull final VariableCondition condition, @Nullable final String[] values)
       throws  SQLException
     {
-        final int t_iCount = (values != null) ? values.length : 0;
+        final int t_iValueCount = (values != null) ? values.length : 0;
+
+        int t_iCount = t_iValueCount;
+
+        @Nullable final ConditionOperator t_Operator = condition.getOperator();
+
+        if  (t_Operator instanceof MultipleConditionOperator)
+        {
+            t_iCount = condition.getBindingCount();
+
+            if  (t_iValueCount > t_iCount)
+            {
+                throw
+                    new SQLException(
+                          "Too many values (" + t_iValueCount + ") for "
+                        + t_iCount + " placeholders: " + condition);
+            }
+
+            if  (   (t_iValueCount == 0)
+                 && (((MultipleConditionOperator) t_Operator).isExclusion()))
+            {
+                throw
+                    new SQLException(
+                        "No values to exclude, the condition would never match: " + condition);
+            }
+        }
+
+        final int t_iPosition = (t_iCount > 0) ? retrieveVariableConditionIndex(condition) : 0;
+
+        @Nullable String t_strValue = null;
 
         for (int t_iIndex = 0; t_iIndex < t_iCount; t_iIndex++)
         {
-            setString(
-                retrieveIndex(getVariableConditions(), condition, t_iIndex), values[t_iIndex]);
+            if  (t_iIndex < t_iValueCount)
+            {
+                t_strValue = values[t_iIndex];
+            }
+
+            setString(t_iPosition + t_iIndex, t_strValue);
         }
     }
 
@@ -2376,7 +3255,29 @@ public abstract class Query
     public void setArray(final VariableCondition condition, final Array value)
         throws  SQLException
     {
-        setArray(retrieveIndex(getVariableConditions(), condition), value);
+        setArray(retrieveVariableConditionIndex(condition), value);
+    }
+
+    /**
+     * Specifies the value of an Array parameter, built from given
+     * elements through the statement's connection, and
+     * associated with a previously specified variable condition.
+     * @param condition the variable condition.
+     * @param typeName the SQL name of the element type, as
+     * understood by the driver.
+     * @param elements the elements.
+     * @see java.sql.Connection#createArrayOf(String,Object[])
+     * @throws SQLException if an error occurs.
+     */
+    public void setArray(
+        @NotNull final VariableCondition condition,
+        @NotNull final String typeName,
+        @NotNull final Object[] elements)
+      throws  SQLException
+    {
+        setArray(
+            condition,
+            retrievePreparedStatement().getConnection().createArrayOf(typeName, elements));
     }
 
     /**
@@ -2418,7 +3319,7 @@ public abstract class Query
       throws  SQLException
     {
         setAsciiStream(
-            retrieveIndex(getVariableConditions(), condition),
+            retrieveVariableConditionIndex(condition),
             inputStream,
             length);
     }
@@ -2453,7 +3354,7 @@ public abstract class Query
       throws  SQLException
     {
         setBigDecimal(
-            retrieveIndex(getVariableConditions(), condition), value);
+            retrieveVariableConditionIndex(condition), value);
     }
 
     /**
@@ -2495,7 +3396,7 @@ public abstract class Query
       throws  SQLException
     {
         setBinaryStream(
-            retrieveIndex(getVariableConditions(), condition),
+            retrieveVariableConditionIndex(condition),
             inputStream,
             length);
     }
@@ -2526,7 +3427,7 @@ public abstract class Query
     public void setBlob(@NotNull final VariableCondition condition, @NotNull final Blob value)
         throws  SQLException
     {
-        setBlob(retrieveIndex(getVariableConditions(), condition), value);
+        setBlob(retrieveVariableConditionIndex(condition), value);
     }
 
     /**
@@ -2555,7 +3456,7 @@ public abstract class Query
     public void setBytes(@NotNull final VariableCondition condition, @NotNull final byte[] value)
         throws  SQLException
     {
-        setBytes(retrieveIndex(getVariableConditions(), condition), value);
+        setBytes(retrieveVariableConditionIndex(condition), value);
     }
 
     /**
@@ -2597,7 +3498,7 @@ public abstract class Query
       throws  SQLException
     {
         setCharacterStream(
-            retrieveIndex(getVariableConditions(), condition), reader, length);
+            retrieveVariableConditionIndex(condition), reader, length);
     }
 
     /**
@@ -2641,7 +3542,7 @@ public abstract class Query
     public void setClob(@NotNull final VariableCondition condition, @NotNull final Clob value)
         throws  SQLException
     {
-        setClob(retrieveIndex(getVariableConditions(), condition), value);
+        setClob(retrieveVariableConditionIndex(condition), value);
     }
 
     /**
@@ -2655,7 +3556,7 @@ public abstract class Query
     public void setClob(@NotNull final VariableCondition condition, @NotNull final String value)
         throws  SQLException
     {
-        setClob(retrieveIndex(getVariableConditions(), condition), value);
+        setClob(retrieveVariableConditionIndex(condition), value);
     }
 
     /**
@@ -2708,8 +3609,7 @@ public abstract class Query
       throws  SQLException
     {
         setDate(
-            retrieveIndex(
-                getVariableConditions(), condition), value, calendar);
+            retrieveVariableConditionIndex(condition), value, calendar);
     }
 
     /**
@@ -2761,7 +3661,7 @@ public abstract class Query
       throws  SQLException
     {
         setObject(
-            retrieveIndex(getVariableConditions(), condition),
+            retrieveVariableConditionIndex(condition),
             value,
             sqlType,
             scale);
@@ -2804,7 +3704,7 @@ public abstract class Query
       throws  SQLException
     {
         setObject(
-            retrieveIndex(getVariableConditions(), condition), value, sqlType);
+            retrieveVariableConditionIndex(condition), value, sqlType);
     }
 
     /**
@@ -2834,7 +3734,7 @@ public abstract class Query
         @NotNull final VariableCondition condition, @NotNull final Object value)
       throws  SQLException
     {
-        setObject(retrieveIndex(getVariableConditions(), condition), value);
+        setObject(retrieveVariableConditionIndex(condition), value);
     }
 
     /**
@@ -2863,7 +3763,7 @@ public abstract class Query
     public void setRef(@NotNull final VariableCondition condition, @NotNull final Ref value)
         throws  SQLException
     {
-        setRef(retrieveIndex(getVariableConditions(), condition), value);
+        setRef(retrieveVariableConditionIndex(condition), value);
     }
 
     /**
@@ -2893,7 +3793,7 @@ public abstract class Query
         @NotNull final VariableCondition condition, @NotNull final Timestamp value)
       throws  SQLException
     {
-        setTimestamp(retrieveIndex(getVariableConditions(), condition), value);
+        setTimestamp(retrieveVariableConditionIndex(condition), value);
     }
 
     /**
@@ -2932,7 +3832,7 @@ public abstract class Query
       throws  SQLException
     {
         setTimestamp(
-            retrieveIndex(getVariableConditions(), condition),
+            retrieveVariableConditionIndex(condition),
             value,
             calendar);
     }
@@ -2967,8 +3867,7 @@ public abstract class Query
       throws  SQLException
     {
         setTimestamp(
-            retrieveIndex(
-                getVariableConditions(), condition),
+            retrieveVariableConditionIndex(condition),
             (value != null) ? new java.util.Date(value.getTime()) : null);
     }
 
@@ -3011,7 +3910,7 @@ public abstract class Query
       throws  SQLException
     {
         setTimestamp(
-            retrieveIndex(getVariableConditions(), condition),
+            retrieveVariableConditionIndex(condition),
             (value != null) ? new Timestamp(value.getTime()) : null,
             calendar);
     }
@@ -3058,7 +3957,7 @@ public abstract class Query
       throws  SQLException
     {
         setUnicodeStream(
-            retrieveIndex(getVariableConditions(), condition),
+            retrieveVariableConditionIndex(condition),
             inputStream,
             length);
     }
@@ -3244,6 +4143,8 @@ public abstract class Query
     public void setURL(final int parameterIndex, @NotNull final URL url)
         throws  SQLException
     {
+        markParameterBound(parameterIndex);
+
         retrievePreparedStatement().setURL(parameterIndex, url);
     }
 
@@ -3283,6 +4184,8 @@ public abstract class Query
         final int index, @NotNull final Reader reader, @NotNull final PreparedStatement preparedStatement)
       throws SQLException
     {
+        markParameterBound(index);
+
         preparedStatement.setClob(index, reader);
     }
 
@@ -3310,6 +4213,8 @@ public abstract class Query
         @NotNull final PreparedStatement preparedStatement)
       throws SQLException
     {
+        markParameterBound(index);
+
         preparedStatement.setClob(index, reader, length);
     }
 
@@ -3333,6 +4238,8 @@ public abstract class Query
         final int index, @NotNull final Reader reader, @NotNull final PreparedStatement preparedStatement)
       throws SQLException
     {
+        markParameterBound(index);
+
         preparedStatement.setNClob(index, reader);
     }
 
@@ -3360,6 +4267,8 @@ public abstract class Query
         @NotNull final PreparedStatement preparedStatement)
       throws SQLException
     {
+        markParameterBound(index);
+
         preparedStatement.setClob(index, reader, length);
     }
 
@@ -3385,6 +4294,8 @@ public abstract class Query
         @NotNull final PreparedStatement preparedStatement)
       throws SQLException
     {
+        markParameterBound(index);
+
         preparedStatement.setNClob(index, nclob);
     }
 
@@ -3408,6 +4319,8 @@ public abstract class Query
         final int index, final InputStream stream, @NotNull final PreparedStatement preparedStatement)
       throws SQLException
     {
+        markParameterBound(index);
+
         preparedStatement.setBlob(index, stream);
     }
 
@@ -3435,6 +4348,8 @@ public abstract class Query
         @NotNull final PreparedStatement preparedStatement)
       throws SQLException
     {
+        markParameterBound(index);
+
         preparedStatement.setBlob(index, stream, length);
     }
 
@@ -3458,6 +4373,8 @@ public abstract class Query
         final int index, final Reader reader, @NotNull final PreparedStatement preparedStatement)
       throws SQLException
     {
+        markParameterBound(index);
+
         preparedStatement.setNCharacterStream(index, reader);
     }
 
@@ -3485,6 +4402,8 @@ public abstract class Query
         @NotNull final PreparedStatement preparedStatement)
       throws SQLException
     {
+        markParameterBound(index);
+
         preparedStatement.setNCharacterStream(index, reader, length);
     }
 
@@ -3508,6 +4427,8 @@ public abstract class Query
         final int index, final Reader reader, @NotNull final PreparedStatement preparedStatement)
       throws SQLException
     {
+        markParameterBound(index);
+
         preparedStatement.setCharacterStream(index, reader);
     }
 
@@ -3535,6 +4456,8 @@ public abstract class Query
         @NotNull final PreparedStatement preparedStatement)
       throws SQLException
     {
+        markParameterBound(index);
+
         preparedStatement.setCharacterStream(index, reader, length);
     }
 
@@ -3558,6 +4481,8 @@ public abstract class Query
         final int index, final InputStream stream, @NotNull final PreparedStatement preparedStatement)
       throws SQLException
     {
+        markParameterBound(index);
+
         preparedStatement.setBinaryStream(index, stream);
     }
 
@@ -3585,6 +4510,8 @@ public abstract class Query
         @NotNull final PreparedStatement preparedStatement)
       throws SQLException
     {
+        markParameterBound(index);
+
         preparedStatement.setBinaryStream(index, stream, length);
     }
 
@@ -3608,6 +4535,8 @@ public abstract class Query
         final int index, final InputStream stream, @NotNull final PreparedStatement preparedStatement)
       throws SQLException
     {
+        markParameterBound(index);
+
         preparedStatement.setAsciiStream(index, stream);
     }
 
@@ -3635,6 +4564,8 @@ public abstract class Query
         @NotNull final PreparedStatement preparedStatement)
       throws SQLException
     {
+        markParameterBound(index);
+
         preparedStatement.setAsciiStream(index, stream, length);
     }
 
@@ -3658,6 +4589,8 @@ public abstract class Query
         final int index, final SQLXML sqlXml, @NotNull final PreparedStatement preparedStatement)
       throws SQLException
     {
+        markParameterBound(index);
+
         preparedStatement.setSQLXML(index, sqlXml);
     }
 
@@ -3684,6 +4617,8 @@ public abstract class Query
         @NotNull final PreparedStatement preparedStatement)
       throws SQLException
     {
+        markParameterBound(index);
+
         preparedStatement.setNString(index, nstring);
     }
 
@@ -3707,6 +4642,8 @@ public abstract class Query
         final int index, final RowId rowId, @NotNull final PreparedStatement preparedStatement)
       throws SQLException
     {
+        markParameterBound(index);
+
         preparedStatement.setRowId(index, rowId);
     }
 
@@ -3843,4 +4780,118 @@ public abstract class Query
     {
         // TODO
     }
+
+    /**
+     * Keeps track of the positions of the items of a list, so they can be
+     * resolved without scanning it. Items are indexed lazily, as the list
+     * grows, and only the first occurrence of each item counts.
+     * @param <T> the item type.
+     */
+    protected static class _PositionIndex<T>
+    {
+        /**
+         * The positions, starting at 1.
+         */
+        private Map<T, Integer> m__mPositions;
+
+        /**
+         * The indexed list.
+         */
+        private List<T> m__lItems;
+
+        /**
+         * How many items have been indexed so far.
+         */
+        private int m__iIndexedCount;
+
+        /**
+         * Creates a position index backed by given map.
+         * @param positions the map holding the positions.
+         */
+        public _PositionIndex(@NotNull final Map<T, Integer> positions)
+        {
+            immutableSetPositions(positions);
+        }
+
+        /**
+         * Specifies the positions.
+         * @param positions such map.
+         */
+        private void immutableSetPositions(@NotNull final Map<T, Integer> positions)
+        {
+            m__mPositions = positions;
+        }
+
+        /**
+         * Retrieves the positions.
+         * @return such map.
+         */
+        @NotNull
+        protected Map<T, Integer> getPositions()
+        {
+            return m__mPositions;
+        }
+
+        /**
+         * Discards the positions indexed so far, for lists changed
+         * other than by appending items.
+         */
+        public void reset()
+        {
+            getPositions().clear();
+            m__iIndexedCount = 0;
+        }
+
+        /**
+         * Retrieves the position of given item.
+         * @param list the list the item belongs to.
+         * @param item the item.
+         * @return its position, or <code>0</code> if the item is not in the
+         * list.
+         */
+        public int getPosition(@NotNull final List<T> list, @Nullable final T item)
+        {
+            return getPosition(list, item, getPositions());
+        }
+
+        /**
+         * Retrieves the position of given item.
+         * @param list the list the item belongs to.
+         * @param item the item.
+         * @param positions the positions.
+         * @return its position, or <code>0</code> if the item is not in the
+         * list.
+         */
+        protected int getPosition(
+            @NotNull final List<T> list,
+            @Nullable final T item,
+            @NotNull final Map<T, Integer> positions)
+        {
+            final int t_iCount = list.size();
+
+            if  (   (list != m__lItems)
+                 || (t_iCount < m__iIndexedCount))
+            {
+                positions.clear();
+                m__lItems = list;
+                m__iIndexedCount = 0;
+            }
+
+            for  (int t_iIndex = m__iIndexedCount; t_iIndex < t_iCount; t_iIndex++)
+            {
+                @Nullable final T t_Item = list.get(t_iIndex);
+
+                if  (!positions.containsKey(t_Item))
+                {
+                    positions.put(t_Item, t_iIndex + 1);
+                }
+            }
+
+            m__iIndexedCount = t_iCount;
+
+            @Nullable final Integer result = positions.get(item);
+
+            return (result != null) ? result : 0;
+        }
+    }
 }
@@ -108,6 +108,16 @@ public class QueryFactory
         return new UpdateQuery();
     }
 
+    /**
+     * Creates an upsert query.
+     * @return such query.
+     */
+    @NotNull
+    public UpsertQuery createUpsertQuery()
+    {
+        return new UpsertQuery();
+    }
+
     /**
      * Creates a delete query.
      * @return such query.
@@ -62,6 +62,8 @@ import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -91,6 +93,11 @@ public class QueryResultSet
      */
     private int m__iTempFetchSize = -1; 
 
+    /**
+     * The column ordinals of the query fields.
+     */
+    private Map<Field, Integer> m__mFieldOrdinals;
+
     /**
      * Builds a query result set with given references.
      * @param query the query.
@@ -100,6 +107,159 @@ public class QueryResultSet
     {
         immutableSetQuery(query);
         immutableSetResultSet(resultSet);
+        immutableSetFieldOrdinals(buildFieldOrdinals(query));
+    }
+
+    /**
+     * Builds a query result set with given references, optionally checking
+     * the field ordinals against the result set metadata.
+     * @param query the query.
+     * @param resultSet the wrapped result set.
+     * @param checkMetaData whether to check the column names reported by the
+     * {@link ResultSetMetaData} against the field names.
+     * @throws SQLException if the metadata cannot be retrieved.
+     */
+    public QueryResultSet(
+        @NotNull final Query query,
+        @NotNull final ResultSet resultSet,
+        final boolean checkMetaData)
+      throws  SQLException
+    {
+        this(query, resultSet);
+
+        if  (checkMetaData)
+        {
+            checkFieldOrdinals(
+                getFieldOrdinals(), resultSet.getMetaData(), resultSet);
+        }
+    }
+
+    /**
+     * Specifies the field ordinals.
+     * @param ordinals such ordinals.
+     */
+    protected final void immutableSetFieldOrdinals(@NotNull final Map<Field, Integer> ordinals)
+    {
+        m__mFieldOrdinals = ordinals;
+    }
+
+    /**
+     * Specifies the field ordinals.
+     * @param ordinals such ordinals.
+     */
+    @SuppressWarnings("unused")
+    protected void setFieldOrdinals(@NotNull final Map<Field, Integer> ordinals)
+    {
+        immutableSetFieldOrdinals(ordinals);
+    }
+
+    /**
+     * Retrieves the field ordinals.
+     * @return such ordinals.
+     */
+    @NotNull
+    protected Map<Field, Integer> getFieldOrdinals()
+    {
+        return m__mFieldOrdinals;
+    }
+
+    /**
+     * Snapshots the column ordinal of each field of given query.
+     * @param query the query.
+     * @return the ordinals, per field.
+     */
+    @NotNull
+    protected Map<Field, Integer> buildFieldOrdinals(@Nullable final Query query)
+    {
+        @NotNull final Map<Field, Integer> result = new IdentityHashMap<Field, Integer>();
+
+        if  (query != null)
+        {
+            @NotNull final List<Field> t_lFields = query.getFields();
+
+            final int t_iCount = t_lFields.size();
+
+            for  (int t_iIndex = 0; t_iIndex < t_iCount; t_iIndex++)
+            {
+                @Nullable final Field t_Field = t_lFields.get(t_iIndex);
+
+                if  (   (t_Field != null)
+                     && (!result.containsKey(t_Field)))
+                {
+                    result.put(t_Field, t_iIndex + 1);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks the field ordinals against the result set metadata. Fields whose
+     * column name doesn't match get their ordinal looked up by name.
+     * @param ordinals the field ordinals.
+     * @param metaData the result set metadata.
+     * @param resultSet the result set.
+     * @throws SQLException if any field cannot be found in the result set.
+     */
+    protected void checkFieldOrdinals(
+        @NotNull final Map<Field, Integer> ordinals,
+        @Nullable final ResultSetMetaData metaData,
+        @NotNull final ResultSet resultSet)
+      throws  SQLException
+    {
+        if  (metaData != null)
+        {
+            final int t_iColumnCount = metaData.getColumnCount();
+
+            for  (@NotNull final Map.Entry<Field, Integer> t_Entry : ordinals.entrySet())
+            {
+                @NotNull final String t_strName = t_Entry.getKey().getName();
+
+                final int t_iOrdinal = t_Entry.getValue();
+
+                if  (   (t_iOrdinal > t_iColumnCount)
+                     || (!t_strName.equalsIgnoreCase(metaData.getColumnLabel(t_iOrdinal))))
+                {
+                    t_Entry.setValue(resultSet.findColumn(t_strName));
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves the column ordinal of given field.
+     * @param field the field.
+     * @return such ordinal, or <code>0</code> if the field is unknown.
+     */
+    protected int getFieldIndex(@NotNull final Field field)
+    {
+        return getFieldIndex(field, getQuery());
+    }
+
+    /**
+     * Retrieves the column ordinal of given field.
+     * @param field the field.
+     * @param query the query.
+     * @return such ordinal, or <code>0</code> if the field is unknown.
+     */
+    protected int getFieldIndex(@NotNull final Field field, @NotNull final Query query)
+    {
+        final int result;
+
+        @Nullable final Integer t_Ordinal =
+            (query == getQuery()) ? getFieldOrdinals().get(field) : null;
+
+        if  (t_Ordinal != null)
+        {
+            result = t_Ordinal;
+        }
+        else
+        {
+            result = query.getFieldIndex(field);
+        }
+
+        return result;
     }
 
     /**
@@ -3929,7 +4089,7 @@ public class QueryResultSet
         @NotNull final Field field, @NotNull final Query query, @NotNull final ResultSet resultSet)
       throws  SQLException
     {
-        return resultSet.getBytes(query.getFieldIndex(field));
+        return resultSet.getBytes(getFieldIndex(field, query));
     }
 
     /**
@@ -3958,7 +4118,7 @@ public class QueryResultSet
         @NotNull final Field field, @NotNull final Query query, @NotNull final ResultSet resultSet)
         throws  SQLException
     {
-        return resultSet.getBoolean(query.getFieldIndex(field));
+        return resultSet.getBoolean(getFieldIndex(field, query));
     }
 
     /**
@@ -3987,7 +4147,7 @@ public class QueryResultSet
         @NotNull final Field field, @NotNull final Query query, @NotNull final ResultSet resultSet)
       throws  SQLException
     {
-        return resultSet.getLong(query.getFieldIndex(field));
+        return resultSet.getLong(getFieldIndex(field, query));
     }
 
     /**
@@ -4017,7 +4177,7 @@ public class QueryResultSet
         @NotNull final Field field, @NotNull final Query query, @NotNull final ResultSet resultSet)
       throws  SQLException
     {
-        return resultSet.getObject(query.getFieldIndex(field));
+        return resultSet.getObject(getFieldIndex(field, query));
     }
 
     /**
@@ -4058,7 +4218,7 @@ public class QueryResultSet
         @NotNull final ResultSet resultSet)
       throws  SQLException
     {
-        return resultSet.getObject(query.getFieldIndex(field), map);
+        return resultSet.getObject(getFieldIndex(field, query), map);
     }
 
     /**
@@ -4089,7 +4249,7 @@ public class QueryResultSet
         @NotNull final Field field, @NotNull final Query query, @NotNull final ResultSet resultSet)
         throws  SQLException
     {
-        return resultSet.getRef(query.getFieldIndex(field));
+        return resultSet.getRef(getFieldIndex(field, query));
     }
 
     /**
@@ -4120,7 +4280,7 @@ public class QueryResultSet
         @NotNull final Field field, @NotNull final Query query, @NotNull final ResultSet resultSet)
         throws  SQLException
     {
-        return resultSet.getTime(query.getFieldIndex(field));
+        return resultSet.getTime(getFieldIndex(field, query));
     }
 
     /**
@@ -4158,7 +4318,7 @@ public class QueryResultSet
         @NotNull final ResultSet resultSet)
       throws  SQLException
     {
-        return resultSet.getTime(query.getFieldIndex(field), calendar);
+        return resultSet.getTime(getFieldIndex(field, query), calendar);
     }
 
     /**
@@ -4190,7 +4350,7 @@ public class QueryResultSet
         @NotNull final Field field, @NotNull final Query query, @NotNull final ResultSet resultSet)
       throws  SQLException
     {
-        return resultSet.getDate(query.getFieldIndex(field));
+        return resultSet.getDate(getFieldIndex(field, query));
     }
 
     /**
@@ -4229,7 +4389,7 @@ public class QueryResultSet
         @NotNull final ResultSet resultSet)
       throws  SQLException
     {
-        return resultSet.getDate(query.getFieldIndex(field), calendar);
+        return resultSet.getDate(getFieldIndex(field, query), calendar);
     }
 
     /**
@@ -4257,7 +4417,7 @@ public class QueryResultSet
         @NotNull final Field field, @NotNull final Query query, @NotNull final ResultSet resultSet)
       throws  SQLException
     {
-        return resultSet.getByte(query.getFieldIndex(field));
+        return resultSet.getByte(getFieldIndex(field, query));
     }
 
     /**
@@ -4285,7 +4445,7 @@ public class QueryResultSet
         @NotNull final Field field, @NotNull final Query query, @NotNull final ResultSet resultSet)
       throws  SQLException
     {
-        return resultSet.getShort(query.getFieldIndex(field));
+        return resultSet.getShort(getFieldIndex(field, query));
     }
 
     /**
@@ -4313,7 +4473,7 @@ public class QueryResultSet
         @NotNull final Field field, @NotNull final Query query, @NotNull final ResultSet resultSet)
       throws  SQLException
     {
-        return resultSet.getInt(query.getFieldIndex(field));
+        return resultSet.getInt(getFieldIndex(field, query));
     }
 
     /**
@@ -4341,7 +4501,7 @@ public class QueryResultSet
         @NotNull final Field field, @NotNull final Query query, @NotNull final ResultSet resultSet)
       throws  SQLException
     {
-        return resultSet.getFloat(query.getFieldIndex(field));
+        return resultSet.getFloat(getFieldIndex(field, query));
     }
 
     /**
@@ -4371,7 +4531,7 @@ public class QueryResultSet
         @NotNull final Field field, @NotNull final Query query, @NotNull final ResultSet resultSet)
       throws  SQLException
     {
-        return resultSet.getDouble(query.getFieldIndex(field));
+        return resultSet.getDouble(getFieldIndex(field, query));
     }
 
     /**
@@ -4408,7 +4568,7 @@ public class QueryResultSet
     {
         return
             queryUtils.clobToString(
-                resultSet.getClob(query.getFieldIndex(field)));
+                resultSet.getClob(getFieldIndex(field, query)));
     }
 
     /**
@@ -4437,7 +4597,7 @@ public class QueryResultSet
         @NotNull final Field field, @NotNull final Query query, @NotNull final ResultSet resultSet)
       throws  SQLException
     {
-        return resultSet.getString(query.getFieldIndex(field));
+        return resultSet.getString(getFieldIndex(field, query));
     }
 
     /**
@@ -4467,7 +4627,7 @@ public class QueryResultSet
         @NotNull final Field field, @NotNull final Query query, @NotNull final ResultSet resultSet)
       throws  SQLException
     {
-        return resultSet.getArray(query.getFieldIndex(field));
+        return resultSet.getArray(getFieldIndex(field, query));
     }
 
     /**
@@ -4497,7 +4657,7 @@ public class QueryResultSet
         @NotNull final Field field, @NotNull final Query query, @NotNull final ResultSet resultSet)
       throws  SQLException
     {
-        return resultSet.getAsciiStream(query.getFieldIndex(field));
+        return resultSet.getAsciiStream(getFieldIndex(field, query));
     }
 
     /**
@@ -4538,7 +4698,7 @@ public class QueryResultSet
         @NotNull final ResultSet resultSet)
       throws  SQLException
     {
-        return resultSet.getBigDecimal(query.getFieldIndex(field), scale);
+        return resultSet.getBigDecimal(getFieldIndex(field, query), scale);
     }
 
     /**
@@ -4568,7 +4728,7 @@ public class QueryResultSet
         @NotNull final Field field, @NotNull final Query query, @NotNull final ResultSet resultSet)
         throws  SQLException
     {
-        return resultSet.getBigDecimal(query.getFieldIndex(field));
+        return resultSet.getBigDecimal(getFieldIndex(field, query));
     }
 
     /**
@@ -4598,7 +4758,7 @@ public class QueryResultSet
         @NotNull final Field field, @NotNull final Query query, @NotNull final ResultSet resultSet)
         throws  SQLException
     {
-        return resultSet.getBinaryStream(query.getFieldIndex(field));
+        return resultSet.getBinaryStream(getFieldIndex(field, query));
     }
 
     /**
@@ -4630,7 +4790,7 @@ public class QueryResultSet
         @NotNull final Field field, @NotNull final Query query, @NotNull final ResultSet resultSet)
       throws  SQLException
     {
-        return resultSet.getBlob(query.getFieldIndex(field));
+        return resultSet.getBlob(getFieldIndex(field, query));
     }
 
     /**
@@ -4660,7 +4820,7 @@ public class QueryResultSet
         @NotNull final Field field, @NotNull final Query query, @NotNull final ResultSet resultSet)
       throws  SQLException
     {
-        return resultSet.getClob(query.getFieldIndex(field));
+        return resultSet.getClob(getFieldIndex(field, query));
     }
 
     /**
@@ -4691,7 +4851,7 @@ public class QueryResultSet
         @NotNull final Field field, @NotNull final Query query, @NotNull final ResultSet resultSet)
         throws  SQLException
     {
-        return resultSet.getTimestamp(query.getFieldIndex(field));
+        return resultSet.getTimestamp(getFieldIndex(field, query));
     }
 
     /**
@@ -4729,7 +4889,7 @@ public class QueryResultSet
         @NotNull final ResultSet resultSet)
       throws  SQLException
     {
-        return resultSet.getTimestamp(query.getFieldIndex(field), calendar);
+        return resultSet.getTimestamp(getFieldIndex(field, query), calendar);
     }
 
     /**
@@ -4760,7 +4920,7 @@ public class QueryResultSet
         @NotNull final Field field, @NotNull final Query query, @NotNull final ResultSet resultSet)
       throws  SQLException
     {
-        return resultSet.getUnicodeStream(query.getFieldIndex(field));
+        return resultSet.getUnicodeStream(getFieldIndex(field, query));
     }
 
     /**
@@ -4790,7 +4950,7 @@ public class QueryResultSet
         @NotNull final Field field, @NotNull final Query query, @NotNull final ResultSet resultSet)
       throws  SQLException
     {
-        return resultSet.getCharacterStream(query.getFieldIndex(field));
+        return resultSet.getCharacterStream(getFieldIndex(field, query));
     }
 
     // New methods from JDK 1.4 //
@@ -4808,7 +4968,7 @@ public class QueryResultSet
     public URL getURL(@NotNull final Field field)
         throws  SQLException
     {
-        final int t_iFieldIndex = getQuery().getFieldIndex(field);
+        final int t_iFieldIndex = getFieldIndex(field);
 
         return getResultSetOrDie().getURL(t_iFieldIndex);
     }
@@ -4823,7 +4983,7 @@ public class QueryResultSet
     public int findColumn(@NotNull final Field field)
         throws  SQLException
     {
-        return getQuery().getFieldIndex(field);
+        return getFieldIndex(field);
     }
 
     /**
@@ -4840,7 +5000,7 @@ public class QueryResultSet
         final int length)
       throws  SQLException
     {
-        final int t_iFieldIndex = getQuery().getFieldIndex(field);
+        final int t_iFieldIndex = getFieldIndex(field);
 
         getResultSetOrDie().updateAsciiStream(t_iFieldIndex, value, length);
     }
@@ -4856,7 +5016,7 @@ public class QueryResultSet
     public void updateBigDecimal(@NotNull final Field field, @NotNull final BigDecimal value)
         throws  SQLException
     {
-        final int t_iFieldIndex = getQuery().getFieldIndex(field);
+        final int t_iFieldIndex = getFieldIndex(field);
 
         getResultSetOrDie().updateBigDecimal(t_iFieldIndex, value);
     }
@@ -4875,7 +5035,7 @@ public class QueryResultSet
         final int length)
       throws  SQLException
     {
-        final int t_iFieldIndex = getQuery().getFieldIndex(field);
+        final int t_iFieldIndex = getFieldIndex(field);
 
         getResultSetOrDie().updateBinaryStream(t_iFieldIndex, value, length);
     }
@@ -4890,7 +5050,7 @@ public class QueryResultSet
     public void updateBoolean(final Field field, final boolean value)
         throws  SQLException
     {
-        final int t_iFieldIndex = getQuery().getFieldIndex(field);
+        final int t_iFieldIndex = getFieldIndex(field);
 
         getResultSetOrDie().updateBoolean(t_iFieldIndex, value);
     }
@@ -4905,7 +5065,7 @@ public class QueryResultSet
     public void updateByte(@NotNull final Field field, final byte value)
         throws  SQLException
     {
-        final int t_iFieldIndex = getQuery().getFieldIndex(field);
+        final int t_iFieldIndex = getFieldIndex(field);
 
         getResultSetOrDie().updateByte(t_iFieldIndex, value);
     }
@@ -4920,7 +5080,7 @@ public class QueryResultSet
     public void updateBytes(final Field field, final byte[] value)
         throws  SQLException
     {
-        final int t_iFieldIndex = getQuery().getFieldIndex(field);
+        final int t_iFieldIndex = getFieldIndex(field);
 
         getResultSetOrDie().updateBytes(t_iFieldIndex, value);
     }
@@ -4939,7 +5099,7 @@ public class QueryResultSet
         final int length)
       throws  SQLException
     {
-        final int t_iFieldIndex = getQuery().getFieldIndex(field);
+        final int t_iFieldIndex = getFieldIndex(field);
 
         getResultSetOrDie().updateCharacterStream(t_iFieldIndex, value, length);
     }
@@ -4954,7 +5114,7 @@ public class QueryResultSet
     public void updateDate(@NotNull final Field field, @NotNull final Date value)
         throws  SQLException
     {
-        final int t_iFieldIndex = getQuery().getFieldIndex(field);
+        final int t_iFieldIndex = getFieldIndex(field);
 
         getResultSetOrDie().updateDate(t_iFieldIndex, value);
     }
@@ -4969,7 +5129,7 @@ public class QueryResultSet
     public void updateDouble(@NotNull final Field field, final double value)
         throws  SQLException
     {
-        final int t_iFieldIndex = getQuery().getFieldIndex(field);
+        final int t_iFieldIndex = getFieldIndex(field);
 
         getResultSetOrDie().updateDouble(t_iFieldIndex, value);
     }
@@ -4984,7 +5144,7 @@ public class QueryResultSet
     public void updateFloat(@NotNull final Field field, final float value)
         throws  SQLException
     {
-        final int t_iFieldIndex = getQuery().getFieldIndex(field);
+        final int t_iFieldIndex = getFieldIndex(field);
 
         getResultSetOrDie().updateFloat(t_iFieldIndex, value);
     }
@@ -4999,7 +5159,7 @@ public class QueryResultSet
     public void updateInt(@NotNull final Field field, final int value)
         throws  SQLException
     {
-        final int t_iFieldIndex = getQuery().getFieldIndex(field);
+        final int t_iFieldIndex = getFieldIndex(field);
 
         getResultSetOrDie().updateInt(t_iFieldIndex, value);
     }
@@ -5014,7 +5174,7 @@ public class QueryResultSet
     public void updateLong(@NotNull final Field field, final long value)
         throws  SQLException
     {
-        final int t_iFieldIndex = getQuery().getFieldIndex(field);
+        final int t_iFieldIndex = getFieldIndex(field);
 
         getResultSetOrDie().updateLong(t_iFieldIndex, value);
     }
@@ -5028,7 +5188,7 @@ public class QueryResultSet
     public void updateNull(@NotNull final Field field)
         throws  SQLException
     {
-        final int t_iFieldIndex = getQuery().getFieldIndex(field);
+        final int t_iFieldIndex = getFieldIndex(field);
 
         getResultSetOrDie().updateNull(t_iFieldIndex);
     }
@@ -5047,7 +5207,7 @@ public class QueryResultSet
         @NotNull final Field field, @NotNull final Object value, final int scale)
       throws  SQLException
     {
-        final int t_iFieldIndex = getQuery().getFieldIndex(field);
+        final int t_iFieldIndex = getFieldIndex(field);
 
         getResultSetOrDie().updateObject(t_iFieldIndex, value, scale);
     }
@@ -5062,7 +5222,7 @@ public class QueryResultSet
     public void updateObject(@NotNull final Field field, @NotNull final Object value)
         throws  SQLException
     {
-        final int t_iFieldIndex = getQuery().getFieldIndex(field);
+        final int t_iFieldIndex = getFieldIndex(field);
 
         getResultSetOrDie().updateObject(t_iFieldIndex, value);
     }
@@ -5077,7 +5237,7 @@ public class QueryResultSet
     public void updateShort(@NotNull final Field field, final short value)
         throws  SQLException
     {
-        final int t_iFieldIndex = getQuery().getFieldIndex(field);
+        final int t_iFieldIndex = getFieldIndex(field);
 
         getResultSetOrDie().updateShort(t_iFieldIndex, value);
     }
@@ -5092,7 +5252,7 @@ public class QueryResultSet
     public void updateString(@NotNull final Field field, @NotNull final String value)
         throws  SQLException
     {
-        final int t_iFieldIndex = getQuery().getFieldIndex(field);
+        final int t_iFieldIndex = getFieldIndex(field);
 
         getResultSetOrDie().updateString(t_iFieldIndex, value);
     }
@@ -5107,7 +5267,7 @@ public class QueryResultSet
     public void updateTime(@NotNull final Field field, @NotNull final Time value)
         throws  SQLException
     {
-        final int t_iFieldIndex = getQuery().getFieldIndex(field);
+        final int t_iFieldIndex = getFieldIndex(field);
 
         getResultSetOrDie().updateTime(t_iFieldIndex, value);
     }
@@ -5122,7 +5282,7 @@ public class QueryResultSet
     public void updateTimestamp(@NotNull final Field field, @NotNull final Timestamp value)
         throws  SQLException
     {
-        final int t_iFieldIndex = getQuery().getFieldIndex(field);
+        final int t_iFieldIndex = getFieldIndex(field);
 
         getResultSetOrDie().updateTimestamp(t_iFieldIndex, value);
     }
@@ -5139,7 +5299,7 @@ public class QueryResultSet
     public void updateRef(@NotNull final Field field, @NotNull final Ref value)
         throws  SQLException
     {
-        final int t_iFieldIndex = getQuery().getFieldIndex(field);
+        final int t_iFieldIndex = getFieldIndex(field);
 
         getResultSetOrDie().updateRef(t_iFieldIndex, value);
     }
@@ -5154,7 +5314,7 @@ public class QueryResultSet
     public void updateBlob(@NotNull final Field field, @NotNull final Blob value)
         throws  SQLException
     {
-        final int t_iFieldIndex = getQuery().getFieldIndex(field);
+        final int t_iFieldIndex = getFieldIndex(field);
 
         getResultSetOrDie().updateBlob(t_iFieldIndex, value);
     }
@@ -5169,7 +5329,7 @@ public class QueryResultSet
     public void updateClob(@NotNull final Field field, @NotNull final Clob value)
         throws  SQLException
     {
-        final int t_iFieldIndex = getQuery().getFieldIndex(field);
+        final int t_iFieldIndex = getFieldIndex(field);
 
         getResultSetOrDie().updateClob(t_iFieldIndex, value);
     }
@@ -5184,7 +5344,7 @@ public class QueryResultSet
     public void updateArray(@NotNull final Field field, @NotNull final Array value)
         throws  SQLException
     {
-        final int t_iFieldIndex = getQuery().getFieldIndex(field);
+        final int t_iFieldIndex = getFieldIndex(field);
 
         getResultSetOrDie().updateArray(t_iFieldIndex, value);
     }
@@ -45,8 +45,12 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.sql.Clob;
 import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Calendar;
 import java.util.Collection;
+import java.util.GregorianCalendar;
 import java.util.Iterator;
+import java.util.TimeZone;
 
 /*
  * Importing some Commons-Logging classes.
@@ -78,6 +82,20 @@ public class QueryUtils
         public static final QueryUtils SINGLETON = new QueryUtils();
     }
 
+    /**
+     * The calendars used to format dates, one per thread. They're always
+     * Gregorian, whatever the default locale.
+     */
+    private static final ThreadLocal<Calendar> CALENDARS =
+        new ThreadLocal<Calendar>()
+        {
+            @Override
+            protected Calendar initialValue()
+            {
+                return new GregorianCalendar();
+            }
+        };
+
     /**
      * Protected constructor to avoid accidental instantiation.
      */
@@ -118,23 +136,70 @@ public class QueryUtils
     {
         @NotNull final StringBuilder t_sbResult = new StringBuilder();
 
+        concatenate(t_sbResult, items, separator, simplify);
+
+        return t_sbResult.toString();
+    }
+
+    /**
+     * Appends all elements of given collection to a buffer, using a
+     * separator.
+     * @param buffer the buffer.
+     * @param items the collection.
+     * @param separator the separator.
+     * @param simplify if any fields in given collection should appear
+     * without explicit table information.
+     */
+    public void concatenate(
+        @NotNull final StringBuilder buffer,
+        @Nullable final Collection<?> items,
+        @NotNull final String separator,
+        final boolean simplify)
+    {
         if  (items != null) 
         {
             final Iterator<?> t_itItems = items.iterator();
 
             if  (t_itItems.hasNext()) 
             {
-                t_sbResult.append(concatenate(t_itItems.next(), simplify));
+                append(buffer, t_itItems.next(), simplify);
             }
             
             while  (t_itItems.hasNext())
             {
-                t_sbResult.append(separator);
-                t_sbResult.append(concatenate(t_itItems.next(), simplify));
+                buffer.append(separator);
+                append(buffer, t_itItems.next(), simplify);
             }
         }
+    }
 
-        return t_sbResult.toString();
+    /**
+     * Appends a concrete item to given buffer, without intermediate
+     * strings for fields, tables and conditions.
+     * @param buffer the buffer.
+     * @param item the item.
+     * @param simplify if fields should appear
+     * without explicit table information.
+     */
+    protected void append(
+        @NotNull final StringBuilder buffer, @Nullable final Object item, final boolean simplify)
+    {
+        if  (item instanceof Field)
+        {
+            ((Field) item).appendTo(buffer, simplify);
+        }
+        else if  (item instanceof Condition)
+        {
+            ((Condition) item).appendTo(buffer, simplify);
+        }
+        else if  (item instanceof Table)
+        {
+            ((Table) item).appendTo(buffer);
+        }
+        else
+        {
+            buffer.append(item);
+        }
     }
 
     /**
@@ -174,6 +239,202 @@ public class QueryUtils
         return result;
     }
 
+    /**
+     * Appends given text to the buffer, surrounded by given quote
+     * character. Quote characters within the text get doubled.
+     * @param buffer the buffer.
+     * @param text the text.
+     * @param quote the quote character.
+     */
+    public void appendQuoted(
+        @NotNull final StringBuilder buffer, @NotNull final String text, final char quote)
+    {
+        buffer.append(quote);
+
+        int t_iStart = 0;
+
+        int t_iQuote = text.indexOf(quote);
+
+        while  (t_iQuote >= 0)
+        {
+            buffer.append(text, t_iStart, t_iQuote + 1);
+            buffer.append(quote);
+
+            t_iStart = t_iQuote + 1;
+            t_iQuote = text.indexOf(quote, t_iStart);
+        }
+
+        buffer.append(text, t_iStart, text.length());
+        buffer.append(quote);
+    }
+
+    /**
+     * Checks whether given value is a date: a {@link Calendar} or a
+     * {@link java.util.Date}, including its JDBC subclasses.
+     * @param value the value.
+     * @return <code>true</code> in such case.
+     */
+    public boolean isTemporal(@Nullable final Object value)
+    {
+        return (value instanceof Calendar) || (value instanceof java.util.Date);
+    }
+
+    /**
+     * Converts given date into the value to bind as a JDBC parameter:
+     * {@link java.sql.Date} and {@link Timestamp} are kept as they are,
+     * anything else becomes a {@link Timestamp}.
+     * @param value the date.
+     * @return such value.
+     */
+    @NotNull
+    public java.util.Date toJdbcTemporal(@NotNull final Object value)
+    {
+        @NotNull final java.util.Date result;
+
+        if  (   (value instanceof java.sql.Date)
+             || (value instanceof Timestamp))
+        {
+            result = (java.util.Date) value;
+        }
+        else
+        {
+            result = new Timestamp(toMillis(value));
+        }
+
+        return result;
+    }
+
+    /**
+     * Retrieves the instant of given date.
+     * @param value the date.
+     * @return the milliseconds since the epoch.
+     */
+    protected long toMillis(@NotNull final Object value)
+    {
+        final long result;
+
+        if  (value instanceof Calendar)
+        {
+            result = ((Calendar) value).getTimeInMillis();
+        }
+        else
+        {
+            result = ((java.util.Date) value).getTime();
+        }
+
+        return result;
+    }
+
+    /**
+     * Formats given date as a SQL literal.
+     * @param value the date.
+     * @return such literal.
+     * @see #appendTemporal(StringBuilder, Object)
+     */
+    @NotNull
+    public String formatTemporal(@NotNull final Object value)
+    {
+        @NotNull final StringBuilder t_sbResult = new StringBuilder(35);
+
+        appendTemporal(t_sbResult, value);
+
+        return t_sbResult.toString();
+    }
+
+    /**
+     * Appends given date to a buffer as a SQL literal: <code>DATE
+     * 'yyyy-MM-dd'</code> for {@link java.sql.Date} values,
+     * <code>TIMESTAMP 'yyyy-MM-dd HH:mm:ss.SSS'</code> otherwise, in the
+     * time zone of {@link Calendar} values, or the default one for the rest.
+     * It's safe to use from several threads.
+     * @param buffer the buffer.
+     * @param value the date.
+     */
+    public void appendTemporal(@NotNull final StringBuilder buffer, @NotNull final Object value)
+    {
+        @NotNull final Calendar t_Calendar = CALENDARS.get();
+
+        t_Calendar.setTimeZone(retrieveTimeZone(value));
+        t_Calendar.setTimeInMillis(toMillis(value));
+
+        if  (value instanceof java.sql.Date)
+        {
+            buffer.append("DATE '");
+            appendDate(buffer, t_Calendar);
+        }
+        else
+        {
+            buffer.append("TIMESTAMP '");
+            appendDate(buffer, t_Calendar);
+            buffer.append(' ');
+            appendPadded(buffer, t_Calendar.get(Calendar.HOUR_OF_DAY), 2);
+            buffer.append(':');
+            appendPadded(buffer, t_Calendar.get(Calendar.MINUTE), 2);
+            buffer.append(':');
+            appendPadded(buffer, t_Calendar.get(Calendar.SECOND), 2);
+            buffer.append('.');
+            appendPadded(buffer, t_Calendar.get(Calendar.MILLISECOND), 3);
+        }
+
+        buffer.append('\'');
+    }
+
+    /**
+     * Retrieves the time zone to format given date in.
+     * @param value the date.
+     * @return the zone of {@link Calendar} values, or the default one.
+     */
+    @NotNull
+    protected TimeZone retrieveTimeZone(@NotNull final Object value)
+    {
+        @NotNull final TimeZone result;
+
+        if  (value instanceof Calendar)
+        {
+            result = ((Calendar) value).getTimeZone();
+        }
+        else
+        {
+            result = TimeZone.getDefault();
+        }
+
+        return result;
+    }
+
+    /**
+     * Appends the <code>yyyy-MM-dd</code> form of given calendar.
+     * @param buffer the buffer.
+     * @param calendar the calendar.
+     */
+    protected void appendDate(@NotNull final StringBuilder buffer, @NotNull final Calendar calendar)
+    {
+        appendPadded(buffer, calendar.get(Calendar.YEAR), 4);
+        buffer.append('-');
+        appendPadded(buffer, calendar.get(Calendar.MONTH) + 1, 2);
+        buffer.append('-');
+        appendPadded(buffer, calendar.get(Calendar.DAY_OF_MONTH), 2);
+    }
+
+    /**
+     * Appends given number, left-padded with zeros.
+     * @param buffer the buffer.
+     * @param value the number.
+     * @param width the minimum number of digits.
+     */
+    protected void appendPadded(
+        @NotNull final StringBuilder buffer, final int value, final int width)
+    {
+        for  (int t_iLimit = 10, t_iDigits = 1; t_iDigits < width; t_iLimit *= 10, t_iDigits++)
+        {
+            if  (value < t_iLimit)
+            {
+                buffer.append('0');
+            }
+        }
+
+        buffer.append(value);
+    }
+
     /**
      * Checks if given object should be escaped inside a query or not.
      * @param object the element.
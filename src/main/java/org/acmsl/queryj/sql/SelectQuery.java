@@ -43,7 +43,6 @@ import org.jetbrains.annotations.Nullable;
  */
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -92,6 +91,7 @@ public class SelectQuery
     protected void setOrderingFields(@NotNull final List<Field> list)
     {
         immutableSetOrderingFields(list);
+        invalidateRenderedSql();
     }
 
     /**
@@ -111,6 +111,7 @@ public class SelectQuery
     protected void addOrderingField(@NotNull final Field orderingField)
     {
         addOrderingField(orderingField, getOrderingFields());
+        invalidateRenderedSql();
     }
 
     /**
@@ -153,6 +154,7 @@ public class SelectQuery
     protected void setGroupingFields(@NotNull final List<Field> list)
     {
         immutableSetGroupingFields(list);
+        invalidateRenderedSql();
     }
 
     /**
@@ -172,6 +174,7 @@ public class SelectQuery
     protected void addGroupingField(@NotNull final Field groupingField)
     {
         addGroupingField(groupingField, getGroupingFields());
+        invalidateRenderedSql();
     }
 
     /**
@@ -252,8 +255,7 @@ public class SelectQuery
      */
     public void where(@NotNull final VariableCondition variableCondition)
     {
-        addCondition(variableCondition, false);
-        addVariableCondition(variableCondition);
+        addCondition(variableCondition);
     }
 
     /**
@@ -277,9 +279,11 @@ public class SelectQuery
     }
 
     /**
-     * Looks for the records that match the filter.
-     * @return the result set.
-     * @exception SQLException if an error occurs.
+     * Looks for the records that match the filter, running the prepared
+     * statement with the parameters bound so far.
+     * @return the result set, or <code>null</code> if no statement has been
+     * prepared.
+     * @exception SQLException if any parameter is missing, or an error occurs.
      */
     @SuppressWarnings("unused")
     @Nullable
@@ -288,14 +292,16 @@ public class SelectQuery
     {
         @Nullable QueryResultSet result = null;
 
-        @Nullable final Statement t_Statement = getPreparedStatement();
+        @Nullable final PreparedStatement t_Statement = getPreparedStatement();
 
         if  (t_Statement != null)
         {
+            checkParameters();
+
             result =
                 new QueryResultSet(
                     this,
-                    t_Statement.executeQuery(toString()));
+                    t_Statement.executeQuery());
         }
 
         return result;
@@ -456,6 +462,45 @@ public class SelectQuery
         return result;
     }
 
+    /**
+     * Appends given tables, as they appear in "FROM" clauses, to a buffer.
+     * @param buffer the buffer.
+     * @param tables the tables.
+     * @param aliasSeparator the separator between table names and aliases.
+     * @param separator the separator between tables.
+     */
+    protected void appendTables(
+        @NotNull final StringBuilder buffer,
+        @NotNull final List<Table> tables,
+        @NotNull final String aliasSeparator,
+        @NotNull final String separator)
+    {
+        boolean t_bFirst = true;
+
+        for  (@Nullable final Table t_Table : tables)
+        {
+            if  (t_Table != null)
+            {
+                if  (!t_bFirst)
+                {
+                    buffer.append(separator);
+                }
+
+                t_bFirst = false;
+
+                buffer.append(t_Table.getName());
+
+                @Nullable final TableAlias t_TableAlias = t_Table.getTableAlias();
+
+                if  (t_TableAlias != null)
+                {
+                    buffer.append(aliasSeparator);
+                    buffer.append(t_TableAlias.getName());
+                }
+            }
+        }
+    }
+
     // Serialization methods //
 
     /**
@@ -466,14 +511,23 @@ public class SelectQuery
     @NotNull
     public String toString()
     {
-        return
-            toString(
-                getTables(),
-                getFields(),
-                getConditions(),
-                getGroupingFields(),
-                getOrderingFields(),
-                QueryUtils.getInstance());
+        @Nullable String result = getRenderedSql();
+
+        if  (result == null)
+        {
+            result =
+                toString(
+                    getTables(),
+                    getFields(),
+                    getConditions(),
+                    getGroupingFields(),
+                    getOrderingFields(),
+                    QueryUtils.getInstance());
+
+            setRenderedSql(result);
+        }
+
+        return result;
     }
 
     /**
@@ -495,40 +549,35 @@ public class SelectQuery
         @NotNull final List<Field> orderingFields,
         @NotNull final QueryUtils queryUtils)
     {
-        @NotNull final StringBuilder t_sbResult = new StringBuilder();
+        @NotNull final StringBuilder t_sbResult = createRenderBuffer();
 
         t_sbResult.append("SELECT ");
 
-        t_sbResult.append(
-            queryUtils.concatenate(fields, ", "));
+        queryUtils.concatenate(t_sbResult, fields, ", ", false);
 
         t_sbResult.append(" FROM ");
 
-        t_sbResult.append(
-            queryUtils.concatenate(processTables(tables, " "), ", "));
+        appendTables(t_sbResult, tables, " ", ", ");
 
         if  (conditions.size() > 0)
         {
             t_sbResult.append(" WHERE ");
 
-            t_sbResult.append(
-                queryUtils.concatenate(conditions, " AND "));
+            queryUtils.concatenate(t_sbResult, conditions, " AND ", false);
         }
 
         if  (groupingFields.size() > 0)
         {
             t_sbResult.append(" GROUP BY ");
 
-            t_sbResult.append(
-                queryUtils.concatenate(groupingFields, ", "));
+            queryUtils.concatenate(t_sbResult, groupingFields, ", ", false);
         }
             
         if  (orderingFields.size() > 0)
         {
             t_sbResult.append(" ORDER BY ");
 
-            t_sbResult.append(
-                queryUtils.concatenate(orderingFields, ", "));
+            queryUtils.concatenate(t_sbResult, orderingFields, ", ", false);
         }
 
         return t_sbResult.toString();
@@ -234,8 +234,7 @@ public class StringField
             in(
                 values,
                 ConditionFactory.getInstance(),
-                ConditionOperatorRepository.getInstance(),
-                StringUtils.getInstance());
+                ConditionOperatorRepository.getInstance());
     }
 
     /**
@@ -245,53 +244,19 @@ public class StringField
      * @param conditionFactory the {@link ConditionFactory} instance.
      * @param conditionOperatorRepository the
      * {@link ConditionOperatorRepository} instance.
-     * @param stringUtils the {@link StringUtils} instance.
      * @return such kind of condition.
      */
     @NotNull
     protected Condition in(
         @Nullable final String[] values,
         @NotNull final ConditionFactory conditionFactory,
-        @NotNull final ConditionOperatorRepository conditionOperatorRepository,
-        @NotNull final StringUtils stringUtils)
+        @NotNull final ConditionOperatorRepository conditionOperatorRepository)
     {
         return
-            conditionFactory.createCondition(
+            conditionFactory.createValueListCondition(
                 this,
                 conditionOperatorRepository.getIn((values != null) ? values.length : 0),
-                toQuotedCsv(values, stringUtils));
-    }
-
-    /**
-     * Creates a list of comma-separated, quoted values.
-     * @param values the values.
-     * @param stringUtils the {@link StringUtils} instance.
-     * @return such list.
-     */
-    protected String toQuotedCsv(@Nullable final String[] values, @NotNull final StringUtils stringUtils)
-    {
-        @NotNull final StringBuilder t_sbResult = new StringBuilder();
-
-        final int t_iCount = (values != null) ? values.length : 0;
-
-        @Nullable String t_strValue;
-
-        for (int t_iIndex = 0; t_iIndex < t_iCount; t_iIndex++)
-        {
-            t_strValue = values[t_iIndex];
-
-            if (t_strValue != null)
-            {
-                t_sbResult.append(stringUtils.quote(values[t_iIndex], '\''));
-
-                if (t_iIndex < t_iCount - 1)
-                {
-                    t_sbResult.append(",");
-                }
-            }
-        }
-
-        return t_sbResult.toString();
+                values);
     }
 
     /**
@@ -308,8 +273,7 @@ public class StringField
             notIn(
                 values,
                 ConditionFactory.getInstance(),
-                ConditionOperatorRepository.getInstance(),
-                StringUtils.getInstance());
+                ConditionOperatorRepository.getInstance());
     }
 
     /**
@@ -319,21 +283,19 @@ public class StringField
      * @param conditionFactory the {@link ConditionFactory} instance.
      * @param conditionOperatorRepository the
      * {@link ConditionOperatorRepository} instance.
-     * @param stringUtils the {@link StringUtils} instance.
      * @return such kind of condition.
      */
     @NotNull
     protected Condition notIn(
         @Nullable final String[] values,
         @NotNull final ConditionFactory conditionFactory,
-        @NotNull final ConditionOperatorRepository conditionOperatorRepository,
-        @NotNull final StringUtils stringUtils)
+        @NotNull final ConditionOperatorRepository conditionOperatorRepository)
     {
         return
-            conditionFactory.createCondition(
+            conditionFactory.createValueListCondition(
                 this,
                 conditionOperatorRepository.getNotIn((values != null) ? values.length : 0),
-                toQuotedCsv(values, stringUtils));
+                values);
     }
 
     /**
@@ -410,4 +372,83 @@ public class StringField
                 this,
                 conditionOperatorRepository.getNotIn(count));
     }
+
+    /**
+     * Retrieves the variable condition to be able to filter within a list of
+     * values, whose placeholder count is rounded up to a power of two.
+     * Bind the values with {@link Query#setStrings(VariableCondition, String[])},
+     * which pads the remaining placeholders.
+     * @param count the number of values.
+     * @return such kind of condition.
+     */
+    @NotNull
+    public VariableCondition bucketedIn(final int count)
+    {
+        return
+            bucketedIn(
+                count,
+                ConditionFactory.getInstance(),
+                ConditionOperatorRepository.getInstance());
+    }
+
+    /**
+     * Retrieves the variable condition to be able to filter within a list of
+     * values, whose placeholder count is rounded up to a power of two.
+     * @param count the number of values.
+     * @param conditionFactory the {@link ConditionFactory} instance.
+     * @param conditionOperatorRepository the
+     * {@link ConditionOperatorRepository} instance.
+     * @return such kind of condition.
+     */
+    @NotNull
+    protected VariableCondition bucketedIn(
+        final int count,
+        @NotNull final ConditionFactory conditionFactory,
+        @NotNull final ConditionOperatorRepository conditionOperatorRepository)
+    {
+        return
+            conditionFactory.createVariableCondition(
+                this,
+                conditionOperatorRepository.getBucketedIn(count));
+    }
+
+    /**
+     * Retrieves the variable condition to be able to filter excluding a list
+     * of values, whose placeholder count is rounded up to a power of two.
+     * Bind the values with {@link Query#setStrings(VariableCondition, String[])},
+     * which pads the remaining placeholders. An empty list cannot be bound:
+     * leave the condition out instead.
+     * @param count the number of values.
+     * @return such kind of condition.
+     */
+    @NotNull
+    public VariableCondition bucketedNotIn(final int count)
+    {
+        return
+            bucketedNotIn(
+                count,
+                ConditionFactory.getInstance(),
+                ConditionOperatorRepository.getInstance());
+    }
+
+    /**
+     * Retrieves the variable condition to be able to filter excluding a list
+     * of values, whose placeholder count is rounded up to a power of two.
+     * @param count the number of values.
+     * @param conditionFactory the {@link ConditionFactory} instance.
+     * @param conditionOperatorRepository the
+     * {@link ConditionOperatorRepository} instance.
+     * @return such kind of condition.
+     */
+    @NotNull
+    protected VariableCondition bucketedNotIn(
+        final int count,
+        @NotNull final ConditionFactory conditionFactory,
+        @NotNull final ConditionOperatorRepository conditionOperatorRepository)
+    {
+        return
+            conditionFactory.createVariableCondition(
+                this,
+                conditionOperatorRepository.getBucketedNotIn(count));
+    }
 }
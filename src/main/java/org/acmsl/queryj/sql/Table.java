@@ -211,19 +211,37 @@ public abstract class Table
     @NotNull
     public String toString()
     {
-        @NotNull final StringBuilder result = new StringBuilder();
+        @NotNull final String result;
 
         @Nullable final TableAlias t_TableAlias = getTableAlias();
 
         if  (t_TableAlias != null) 
         {
-            result.append(t_TableAlias);
+            result = t_TableAlias.toString();
         }
         else 
         {
-            result.append(getName());
+            result = getName();
         }
 
-        return result.toString();
+        return result;
+    }
+
+    /**
+     * Appends a text version of the table to given buffer.
+     * @param buffer the buffer.
+     */
+    public void appendTo(@NotNull final StringBuilder buffer)
+    {
+        @Nullable final TableAlias t_TableAlias = getTableAlias();
+
+        if  (t_TableAlias != null) 
+        {
+            buffer.append(t_TableAlias.toString());
+        }
+        else 
+        {
+            buffer.append(getName());
+        }
     }
 }
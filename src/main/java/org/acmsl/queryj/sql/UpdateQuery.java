@@ -43,10 +43,8 @@ import org.jetbrains.annotations.Nullable;
  * Importing some JDK classes.
  */
 import java.math.BigDecimal;
-import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -179,7 +177,6 @@ public class UpdateQuery
     public void where(@NotNull final VariableCondition variableCondition)
     {
         addCondition(variableCondition);
-        addVariableCondition(variableCondition);
     }
 
     // Serialization methods //
@@ -192,12 +189,21 @@ public class UpdateQuery
     @Override
     public String toString()
     {
-        return
-            toString(
-                getTable(),
-                getFields(),
-                getConditions(),
-                QueryUtils.getInstance());
+        @Nullable String result = getRenderedSql();
+
+        if  (result == null)
+        {
+            result =
+                toString(
+                    getTable(),
+                    getFields(),
+                    getConditions(),
+                    QueryUtils.getInstance());
+
+            setRenderedSql(result);
+        }
+
+        return result;
     }
 
     /**
@@ -215,54 +221,38 @@ public class UpdateQuery
         @Nullable final List<Condition> conditions,
         @NotNull final QueryUtils queryUtils)
     {
-        @NotNull final StringBuilder t_sbResult = new StringBuilder();
+        @NotNull final StringBuilder t_sbResult = createRenderBuffer();
 
         t_sbResult.append("UPDATE ");
 
-        t_sbResult.append(table);
+        table.appendTo(t_sbResult);
 
         t_sbResult.append(" SET ");
 
-        @NotNull final List<String> t_alValues = new ArrayList<String>();
+        @NotNull final _ValueSlots t_Values = getValueSlots();
 
-        @NotNull final Iterator<Field> t_FieldIterator = fields.iterator();
+        final int t_iCount = fields.size();
 
-        while  (t_FieldIterator.hasNext())
+        for  (int t_iSlot = 0; t_iSlot < t_iCount; t_iSlot++)
         {
-            @NotNull final Field t_Field = t_FieldIterator.next();
-
-            @NotNull String t_strValue;
-
-            @Nullable final Object t_Value = getValue(t_Field);
-
-            if  (t_Value == null)
+            if  (t_iSlot > 0)
             {
-                t_strValue = "?";
+                t_sbResult.append(", ");
             }
-            else
-            {
-                t_strValue = "" + t_Value;
 
-                if  (queryUtils.shouldBeEscaped(t_Value))
-                {
-                    t_strValue = "'" + t_strValue + "'";
-                }
-            }
+            fields.get(t_iSlot).appendTo(t_sbResult, true);
 
-            t_alValues.add(
-                t_Field.toSimplifiedString() + " = " + t_strValue);
-        }
+            t_sbResult.append(" = ");
 
-        t_sbResult.append(
-            queryUtils.concatenate(t_alValues, ", "));
+            appendValue(t_sbResult, t_Values, t_iSlot);
+        }
 
         if  (   (conditions != null)
              && (conditions.size() > 0))
         {
             t_sbResult.append(" WHERE ");
 
-            t_sbResult.append(
-                queryUtils.concatenate(conditions, " AND ", true));
+            queryUtils.concatenate(t_sbResult, conditions, " AND ", true);
         }
 
         return t_sbResult.toString();
@@ -0,0 +1,561 @@
+/*
+ *                      QueryJ SQL
+ *
+ *  Copyright (C) 2002-today  Jose San Leandro Armendariz
+ *                            chous@acm-sl.org
+ *
+ *  This library is free software; you can redistribute it and/or
+ *  modify it under the terms of the GNU General Public
+ *  License as published by the Free Software Foundation; either
+ *  version 2 of the License, or any later version.
+ *
+ *  This library is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *  General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public
+ *  License along with this library; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ *  Thanks to ACM S.L. for distributing this library under the GPL license.
+ *  Contact info: jose.sanleandro@acm-sl.com
+ *
+ ******************************************************************************
+ *
+ * Filename: UpsertQuery.java
+ *
+ * Author: Jose San Leandro Armendariz
+ *
+ * Description: Represents SQL insert-or-update queries.
+ */
+package org.acmsl.queryj.sql;
+
+/*
+ * Importing Jetbrains annotations.
+ */
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/*
+ * Importing some JDK classes.
+ */
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents SQL insert-or-update queries: rows whose conflict key already
+ * exists get updated, the remaining ones get inserted, in a single round
+ * trip. Depending on the dialect, they are rendered as
+ * <code>INSERT ... ON CONFLICT ... DO UPDATE</code> or as
+ * <code>MERGE INTO ... USING ( VALUES ... )</code>. Both forms keep the
+ * parameters in column order, so values, placeholder rows and batch mode
+ * work as in {@link InsertQuery}.
+ * @author <a href="mailto:chous@acm-sl.org">Jose San Leandro Armendariz</a>
+ */
+public class UpsertQuery
+    extends  InsertQuery
+{
+    /**
+     * The <code>INSERT ... ON CONFLICT</code> dialect.
+     */
+    public static final int ON_CONFLICT = 0;
+
+    /**
+     * The <code>MERGE</code> dialect.
+     */
+    public static final int MERGE = 1;
+
+    /**
+     * The alias of the source rows in <code>MERGE</code> statements.
+     */
+    protected static final String MERGE_SOURCE = "S";
+
+    /**
+     * The explicit conflict-key fields.
+     */
+    private List<Field> m__lConflictKeys;
+
+    /**
+     * The dialect.
+     */
+    private int m__iDialect;
+
+    /**
+     * Constructs a query.
+     */
+    public UpsertQuery()
+    {
+        super();
+        immutableSetConflictKeys(new ArrayList<Field>());
+        immutableSetDialect(ON_CONFLICT);
+    }
+
+    /**
+     * Specifies the explicit conflict-key fields.
+     * @param keys such fields.
+     */
+    private void immutableSetConflictKeys(@NotNull final List<Field> keys)
+    {
+        m__lConflictKeys = keys;
+    }
+
+    /**
+     * Specifies the explicit conflict-key fields.
+     * @param keys such fields.
+     */
+    @SuppressWarnings("unused")
+    protected void setConflictKeys(@NotNull final List<Field> keys)
+    {
+        immutableSetConflictKeys(keys);
+        invalidateRenderedSql();
+    }
+
+    /**
+     * Retrieves the explicit conflict-key fields.
+     * @return such fields.
+     */
+    @NotNull
+    protected List<Field> getConflictKeys()
+    {
+        return m__lConflictKeys;
+    }
+
+    /**
+     * Specifies the dialect.
+     * @param dialect either {@link #ON_CONFLICT} or {@link #MERGE}.
+     */
+    protected final void immutableSetDialect(final int dialect)
+    {
+        m__iDialect = dialect;
+    }
+
+    /**
+     * Specifies the dialect.
+     * @param dialect either {@link #ON_CONFLICT} or {@link #MERGE}.
+     */
+    public void setDialect(final int dialect)
+    {
+        if  (   (dialect != ON_CONFLICT)
+             && (dialect != MERGE))
+        {
+            throw new IllegalArgumentException("Invalid dialect: " + dialect);
+        }
+
+        immutableSetDialect(dialect);
+        invalidateRenderedSql();
+    }
+
+    /**
+     * Retrieves the dialect.
+     * @return either {@link #ON_CONFLICT} or {@link #MERGE}.
+     */
+    public int getDialect()
+    {
+        return m__iDialect;
+    }
+
+    /**
+     * Indicates which table the upsert applies to.
+     * @param table the table.
+     */
+    public void upsertInto(@NotNull final Table table)
+    {
+        setTable(table);
+    }
+
+    /**
+     * Adds a conflict-key field. Once any is specified, fields implementing
+     * {@link PrimaryKeyField} are no longer taken as keys. Keys get checked
+     * once the statement is prepared.
+     * @param field the field.
+     * @see #checkConflictKeys()
+     */
+    public void onConflict(@NotNull final Field field)
+    {
+        if  (!getConflictKeys().contains(field))
+        {
+            getConflictKeys().add(field);
+        }
+
+        invalidateRenderedSql();
+    }
+
+    /**
+     * Retrieves the conflict-key fields: the explicit ones, or the fields
+     * implementing {@link PrimaryKeyField} otherwise.
+     * @param fields the fields.
+     * @param conflictKeys the explicit conflict-key fields.
+     * @return such keys.
+     */
+    @NotNull
+    protected List<Field> retrieveConflictKeys(
+        @NotNull final List<Field> fields, @NotNull final List<Field> conflictKeys)
+    {
+        @NotNull final List<Field> result;
+
+        if  (conflictKeys.isEmpty())
+        {
+            result = new ArrayList<Field>();
+
+            for  (@Nullable final Field t_Field : fields)
+            {
+                if  (t_Field instanceof PrimaryKeyField)
+                {
+                    result.add(t_Field);
+                }
+            }
+        }
+        else
+        {
+            result = conflictKeys;
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks the query has conflict keys, and, for the {@link #MERGE}
+     * dialect, that all of them are inserted columns.
+     * @throws SQLException if the conflict keys are invalid.
+     */
+    public void checkConflictKeys()
+        throws  SQLException
+    {
+        checkConflictKeys(getFields(), getConflictKeys(), getDialect());
+    }
+
+    /**
+     * Checks the conflict keys.
+     * @param fields the fields.
+     * @param conflictKeys the explicit conflict-key fields.
+     * @param dialect the dialect.
+     * @throws SQLException if the conflict keys are invalid.
+     */
+    protected void checkConflictKeys(
+        @NotNull final List<Field> fields,
+        @NotNull final List<Field> conflictKeys,
+        final int dialect)
+      throws  SQLException
+    {
+        @NotNull final List<Field> t_lKeys = retrieveConflictKeys(fields, conflictKeys);
+
+        if  (t_lKeys.isEmpty())
+        {
+            throw new SQLException("No conflict key for " + getTable());
+        }
+
+        if  (dialect == MERGE)
+        {
+            for  (@NotNull final Field t_Key : t_lKeys)
+            {
+                if  (!fields.contains(t_Key))
+                {
+                    throw
+                        new SQLException(
+                            "Conflict key " + t_Key + " is not an inserted column");
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks the conflict keys before preparing the statement.
+     * @param connection the JDBC connection.
+     * @param resultSetType one of the ResultSet type flags, or
+     * {@link PreparedStatementCache#DRIVER_DEFAULT}.
+     * @param resultSetConcurrency one of the ResultSet concurrency flags, or
+     * {@link PreparedStatementCache#DRIVER_DEFAULT}.
+     * @param resultSetHoldability one of the ResultSet holdability flags, or
+     * {@link PreparedStatementCache#DRIVER_DEFAULT}.
+     * @param cache the statement cache, or <code>null</code>.
+     * @return the statement.
+     * @throws SQLException if the conflict keys are invalid, or the
+     * statement cannot be prepared.
+     */
+    @Override
+    @NotNull
+    protected PreparedStatement createPreparedStatement(
+        @NotNull final Connection connection,
+        final int resultSetType,
+        final int resultSetConcurrency,
+        final int resultSetHoldability,
+        @Nullable final PreparedStatementCache cache)
+      throws  SQLException
+    {
+        checkConflictKeys();
+
+        return
+            super.createPreparedStatement(
+                connection,
+                resultSetType,
+                resultSetConcurrency,
+                resultSetHoldability,
+                cache);
+    }
+
+    /**
+     * Outputs a text version of the query, in SQL format.
+     * @param table the table.
+     * @param fields the fields.
+     * @param rows the value rows.
+     * @param firstRow the first row to render.
+     * @param lastRow the row after the last one to render.
+     * @param queryUtils the {@link QueryUtils} instance.
+     * @return the SQL query.
+     */
+    @Override
+    @NotNull
+    protected String toString(
+        @NotNull final Table table,
+        @NotNull final List<Field> fields,
+        @NotNull final List<_ValueSlots> rows,
+        final int firstRow,
+        final int lastRow,
+        @NotNull final QueryUtils queryUtils)
+    {
+        @NotNull final List<Field> t_lKeys =
+            retrieveConflictKeys(fields, getConflictKeys());
+
+        @NotNull final StringBuilder t_sbResult = createRenderBuffer();
+
+        if  (getDialect() == MERGE)
+        {
+            appendMerge(t_sbResult, table, fields, t_lKeys, rows, firstRow, lastRow);
+        }
+        else
+        {
+            appendInsert(t_sbResult, table, fields, rows, firstRow, lastRow);
+            appendOnConflict(t_sbResult, fields, t_lKeys);
+        }
+
+        return t_sbResult.toString();
+    }
+
+    /**
+     * Appends the <code>ON CONFLICT</code> clause to a buffer. Without
+     * conflict keys it falls back to <code>DO NOTHING</code>.
+     * @param buffer the buffer.
+     * @param fields the fields.
+     * @param keys the conflict-key fields.
+     */
+    protected void appendOnConflict(
+        @NotNull final StringBuilder buffer,
+        @NotNull final List<Field> fields,
+        @NotNull final List<Field> keys)
+    {
+        buffer.append(" ON CONFLICT ");
+
+        if  (!keys.isEmpty())
+        {
+            buffer.append("( ");
+
+            appendFields(buffer, keys, null);
+
+            buffer.append(" ) ");
+        }
+
+        buffer.append("DO ");
+
+        if  (   (!keys.isEmpty())
+             && (hasUpdatableFields(fields, keys)))
+        {
+            buffer.append("UPDATE SET ");
+
+            appendAssignments(buffer, fields, keys, "EXCLUDED");
+        }
+        else
+        {
+            buffer.append("NOTHING");
+        }
+    }
+
+    /**
+     * Appends the <code>MERGE</code> statement to a buffer.
+     * @param buffer the buffer.
+     * @param table the table.
+     * @param fields the fields.
+     * @param keys the conflict-key fields.
+     * @param rows the value rows.
+     * @param firstRow the first row to render.
+     * @param lastRow the row after the last one to render.
+     */
+    protected void appendMerge(
+        @NotNull final StringBuilder buffer,
+        @NotNull final Table table,
+        @NotNull final List<Field> fields,
+        @NotNull final List<Field> keys,
+        @NotNull final List<_ValueSlots> rows,
+        final int firstRow,
+        final int lastRow)
+    {
+        buffer.append("MERGE INTO ");
+
+        table.appendTo(buffer);
+
+        buffer.append(" USING ( VALUES ");
+
+        appendRows(buffer, fields, rows, firstRow, lastRow);
+
+        buffer.append(" ) AS ");
+        buffer.append(MERGE_SOURCE);
+        buffer.append(" ( ");
+
+        appendFields(buffer, fields, null);
+
+        buffer.append(" ) ON ( ");
+
+        boolean t_bFirst = true;
+
+        for  (@NotNull final Field t_Key : keys)
+        {
+            if  (!t_bFirst)
+            {
+                buffer.append(" AND ");
+            }
+
+            t_bFirst = false;
+
+            t_Key.appendTo(buffer, false);
+            buffer.append(" = ");
+            buffer.append(MERGE_SOURCE);
+            buffer.append('.');
+            t_Key.appendTo(buffer, true);
+        }
+
+        buffer.append(" )");
+
+        if  (hasUpdatableFields(fields, keys))
+        {
+            buffer.append(" WHEN MATCHED THEN UPDATE SET ");
+
+            appendAssignments(buffer, fields, keys, MERGE_SOURCE);
+        }
+
+        buffer.append(" WHEN NOT MATCHED THEN INSERT ( ");
+
+        appendFields(buffer, fields, null);
+
+        buffer.append(" ) VALUES ( ");
+
+        appendFields(buffer, fields, MERGE_SOURCE);
+
+        buffer.append(" )");
+    }
+
+    /**
+     * Appends the value of a column a row doesn't specify. Sources of
+     * <code>MERGE</code> statements cannot use <code>DEFAULT</code>.
+     * @param buffer the buffer.
+     */
+    @Override
+    protected void appendUnsetValue(@NotNull final StringBuilder buffer)
+    {
+        if  (getDialect() == MERGE)
+        {
+            buffer.append("NULL");
+        }
+        else
+        {
+            super.appendUnsetValue(buffer);
+        }
+    }
+
+    /**
+     * Appends the simplified names of given fields to a buffer.
+     * @param buffer the buffer.
+     * @param fields the fields.
+     * @param prefix the qualifier of each name, or <code>null</code>.
+     */
+    protected void appendFields(
+        @NotNull final StringBuilder buffer,
+        @NotNull final List<Field> fields,
+        @Nullable final String prefix)
+    {
+        boolean t_bFirst = true;
+
+        for  (@Nullable final Field t_Field : fields)
+        {
+            if  (t_Field != null)
+            {
+                if  (!t_bFirst)
+                {
+                    buffer.append(", ");
+                }
+
+                t_bFirst = false;
+
+                if  (prefix != null)
+                {
+                    buffer.append(prefix);
+                    buffer.append('.');
+                }
+
+                t_Field.appendTo(buffer, true);
+            }
+        }
+    }
+
+    /**
+     * Appends the assignments of the fields not being conflict keys.
+     * @param buffer the buffer.
+     * @param fields the fields.
+     * @param keys the conflict-key fields.
+     * @param source the qualifier of the new values.
+     */
+    protected void appendAssignments(
+        @NotNull final StringBuilder buffer,
+        @NotNull final List<Field> fields,
+        @NotNull final List<Field> keys,
+        @NotNull final String source)
+    {
+        boolean t_bFirst = true;
+
+        for  (@Nullable final Field t_Field : fields)
+        {
+            if  (   (t_Field != null)
+                 && (!keys.contains(t_Field)))
+            {
+                if  (!t_bFirst)
+                {
+                    buffer.append(", ");
+                }
+
+                t_bFirst = false;
+
+                t_Field.appendTo(buffer, true);
+                buffer.append(" = ");
+                buffer.append(source);
+                buffer.append('.');
+                t_Field.appendTo(buffer, true);
+            }
+        }
+    }
+
+    /**
+     * Checks whether any field is not a conflict key.
+     * @param fields the fields.
+     * @param keys the conflict-key fields.
+     * @return <code>true</code> in such case.
+     */
+    protected boolean hasUpdatableFields(
+        @NotNull final List<Field> fields, @NotNull final List<Field> keys)
+    {
+        boolean result = false;
+
+        for  (@Nullable final Field t_Field : fields)
+        {
+            if  (   (t_Field != null)
+                 && (!keys.contains(t_Field)))
+            {
+                result = true;
+                break;
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,284 @@
+//;-*- mode: java -*-
+/*
+                        QueryJ
+
+    Copyright (C) 2002-today  Jose San Leandro Armendariz
+                              chous@acm-sl.org
+
+    This library is free software; you can redistribute it and/or
+    modify it under the terms of the GNU General Public
+    License as published by the Free Software Foundation; either
+    version 2 of the License, or any later version.
+
+    This library is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+    General Public License for more details.
+
+    You should have received a copy of the GNU General Public
+    License along with this library; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Thanks to ACM S.L. for distributing this library under the GPL license.
+    Contact info: jose.sanleandro@acm-sl.com
+
+ ******************************************************************************
+ *
+ * Filename: ValueListCondition.java
+ *
+ * Author: Jose San Leandro Armendariz
+ *
+ * Description: Represents conditions comparing a field against a list of
+ *              literal text values.
+ *
+ */
+package org.acmsl.queryj.sql;
+
+/*
+ * Importing Jetbrains annotations.
+ */
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/*
+ * Importing some JDK classes.
+ */
+import java.util.Arrays;
+
+/**
+ * Represents conditions comparing a field against a list of literal text
+ * values, such as <code>NAME in ('a', 'b')</code>. The values are kept
+ * as given, and quoted straight into the SQL buffer when rendered.
+ * @author <a href="mailto:chous@acm-sl.org">Jose San Leandro Armendariz</a>
+ */
+public class ValueListCondition
+    extends  AtomicCondition
+{
+    /**
+     * The values.
+     */
+    private String[] m__aValues;
+
+    /**
+     * Creates a condition using given information.
+     * @param leftSideField the left-side field.
+     * @param operator the operator.
+     * @param values the values. They're copied, so changing them
+     * afterwards doesn't affect the condition.
+     */
+    public ValueListCondition(
+        @NotNull final Field leftSideField,
+        @NotNull final ConditionOperator operator,
+        @Nullable final String[] values)
+    {
+        super(leftSideField, operator, (Field) null);
+
+        immutableSetValues(values);
+    }
+
+    /**
+     * Specifies the values.
+     * @param values such values.
+     */
+    private void immutableSetValues(@Nullable final String[] values)
+    {
+        m__aValues = (values != null) ? values.clone() : null;
+        invalidateHashCode();
+    }
+
+    /**
+     * Specifies the values.
+     * @param values such values.
+     */
+    @SuppressWarnings("unused")
+    protected void setValues(@Nullable final String[] values)
+    {
+        immutableSetValues(values);
+    }
+
+    /**
+     * Retrieves the values, without copying them.
+     * @return such values.
+     */
+    @Nullable
+    protected final String[] immutableGetValues()
+    {
+        return m__aValues;
+    }
+
+    /**
+     * Retrieves a copy of the values.
+     * @return such values.
+     */
+    @Nullable
+    public String[] getValues()
+    {
+        @Nullable final String[] result = immutableGetValues();
+
+        return (result != null) ? result.clone() : null;
+    }
+
+    /**
+     * Appends a text version of the condition to given buffer,
+     * ignoring any condition composed onto it.
+     * @param buffer the buffer.
+     * @param simplify if fields should appear
+     * without explicit table information.
+     */
+    @Override
+    protected void appendOwnTo(@NotNull final StringBuilder buffer, final boolean simplify)
+    {
+        appendOwnTo(buffer, immutableGetValues(), simplify, QueryUtils.getInstance());
+    }
+
+    /**
+     * Appends a text version of the condition to given buffer,
+     * ignoring any condition composed onto it. Without values, since
+     * <code>in ()</code> isn't valid SQL, it renders as a predicate which
+     * never matches, or always does for <code>not in</code>.
+     * @param buffer the buffer.
+     * @param values the values.
+     * @param simplify if fields should appear
+     * without explicit table information.
+     * @param queryUtils the {@link QueryUtils} instance.
+     */
+    protected void appendOwnTo(
+        @NotNull final StringBuilder buffer,
+        @Nullable final String[] values,
+        final boolean simplify,
+        @NotNull final QueryUtils queryUtils)
+    {
+        if  (hasValues(values))
+        {
+            appendValuesTo(buffer, values, simplify, queryUtils);
+        }
+        else if  (isExclusion(getOperator()))
+        {
+            buffer.append("1 = 1");
+        }
+        else
+        {
+            buffer.append("1 = 0");
+        }
+    }
+
+    /**
+     * Checks whether given values include any non-null one.
+     * @param values the values.
+     * @return <code>true</code> in such case.
+     */
+    protected boolean hasValues(@Nullable final String[] values)
+    {
+        boolean result = false;
+
+        if  (values != null)
+        {
+            for  (@Nullable final String t_strValue : values)
+            {
+                if  (t_strValue != null)
+                {
+                    result = true;
+                    break;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks whether given operator excludes the values.
+     * @param operator the operator.
+     * @return <code>true</code> for <code>not in</code>.
+     */
+    protected boolean isExclusion(@Nullable final ConditionOperator operator)
+    {
+        return
+               (operator instanceof MultipleConditionOperator)
+            && (((MultipleConditionOperator) operator).isExclusion());
+    }
+
+    /**
+     * Appends the value list to given buffer.
+     * @param buffer the buffer.
+     * @param values the values, some of them not null.
+     * @param simplify if fields should appear
+     * without explicit table information.
+     * @param queryUtils the {@link QueryUtils} instance.
+     */
+    protected void appendValuesTo(
+        @NotNull final StringBuilder buffer,
+        @NotNull final String[] values,
+        final boolean simplify,
+        @NotNull final QueryUtils queryUtils)
+    {
+        appendTo(buffer, getLeftSideField(), simplify);
+        buffer.append(' ');
+        buffer.append(getOperator());
+        buffer.append(" (");
+
+        final int t_iCount = values.length;
+
+        boolean t_bFirst = true;
+
+        for  (int t_iIndex = 0; t_iIndex < t_iCount; t_iIndex++)
+        {
+            @Nullable final String t_strValue = values[t_iIndex];
+
+            if  (t_strValue != null)
+            {
+                if  (!t_bFirst)
+                {
+                    buffer.append(", ");
+                }
+
+                t_bFirst = false;
+
+                queryUtils.appendQuoted(buffer, t_strValue, '\'');
+            }
+        }
+
+        buffer.append(')');
+    }
+
+    /**
+     * Performs the equality check.
+     * @param object the object to check.
+     * @return <code>true</code> if both objects are semantically equal.
+     */
+    @Override
+    public boolean equals(@Nullable final Object object)
+    {
+        boolean result = super.equals(object);
+
+        if  (   (result)
+             && (object != this))
+        {
+            result =
+                (   (object instanceof ValueListCondition)
+                 && (Arrays.equals(((ValueListCondition) object).immutableGetValues(), immutableGetValues())));
+        }
+
+        return result;
+    }
+
+    /**
+     * Computes the hash code from the condition structure.
+     * @param leftSideField the left-side field.
+     * @param operator the operator.
+     * @param rightSideField the right-side field.
+     * @param rightSideValue the right-side value.
+     * @return such code.
+     */
+    @Override
+    protected int hashCode(
+        @Nullable final Field leftSideField,
+        @Nullable final ConditionOperator operator,
+        @Nullable final Field rightSideField,
+        @Nullable final Object rightSideValue)
+    {
+        return
+              31 * super.hashCode(leftSideField, operator, rightSideField, rightSideValue)
+            + Arrays.hashCode(immutableGetValues());
+    }
+}
@@ -37,6 +37,7 @@ package org.acmsl.queryj.sql;
  * Importing NotNull annotations.
  */
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /*
  * Importing JDK classes.
@@ -62,16 +63,60 @@ public class VariableCondition
     }
 
     /**
-     * {@inheritDoc}
+     * Retrieves how many parameters this condition binds.
+     * @return such count.
+     */
+    public int getBindingCount()
+    {
+        @Nullable final ConditionOperator t_Operator = getOperator();
+
+        return (t_Operator != null) ? t_Operator.getBindingCount() : 1;
+    }
+
+    /**
+     * Appends a text version of the condition to given buffer,
+     * ignoring any condition composed onto it. The operator
+     * provides the placeholders.
+     * @param buffer the buffer.
+     * @param simplify if fields should appear
+     * without explicit table information.
      */
     @Override
-    @NotNull
-    public Collection<VariableCondition> getVariableConditions()
+    protected void appendOwnTo(@NotNull final StringBuilder buffer, final boolean simplify)
     {
-        @NotNull final Collection<VariableCondition> result = super.getVariableConditions();
+        @Nullable final ConditionOperator t_Operator = getOperator();
 
-        result.add(this);
+        if  (t_Operator != null)
+        {
+            appendTo(buffer, getLeftSideField(), simplify);
+            buffer.append(' ');
+            buffer.append(t_Operator);
+            buffer.append(' ');
+            t_Operator.appendPlaceholders(buffer);
+        }
+        else
+        {
+            super.appendOwnTo(buffer, simplify);
+        }
+    }
+
+    /**
+     * Appends this condition to given collection, once per parameter.
+     * @param target the collection to fill.
+     */
+    @Override
+    protected void collectOwnVariableConditions(
+        @NotNull final Collection<VariableCondition> target)
+    {
+        @Nullable final ConditionOperator t_Operator = getOperator();
 
-        return result;
+        if  (t_Operator != null)
+        {
+            t_Operator.collectVariableConditions(this, target);
+        }
+        else
+        {
+            target.add(this);
+        }
     }
 }
@@ -43,11 +43,13 @@ import org.jetbrains.annotations.Nullable;
  * Importing some JDK classes.
  */
 import java.math.BigDecimal;
-import java.text.DateFormat;
+import java.sql.BatchUpdateException;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Represents standard SQL insert queries.
@@ -57,9 +59,9 @@ public abstract class WriteQuery
     extends  Query
 {
     /**
-     * The values.
+     * The values, one slot per field.
      */
-    private Map<Field, ?> m__mValues;
+    private _ValueSlots m__ValueSlots;
 
     /**
      * The table.
@@ -67,9 +69,24 @@ public abstract class WriteQuery
     private Table m__Table;
 
     /**
-     * The escaping flags.
+     * The number of rows per batch, or <code>0</code> if batch mode is off.
      */
-    private Map<String, Boolean> m__mEscapingFlags;
+    private int m__iBatchSize;
+
+    /**
+     * The number of rows added to the current batch.
+     */
+    private int m__iPendingRows;
+
+    /**
+     * The update counts of the rows flushed so far.
+     */
+    private int[] m__aiUpdateCounts;
+
+    /**
+     * The number of rows flushed so far.
+     */
+    private int m__iFlushedRows;
 
     /**
      * Constructs a query.
@@ -78,8 +95,8 @@ public abstract class WriteQuery
     {
         super();
 
-        immutableSetValues(new HashMap<Field, Object>());
-        immutableSetEscapingFlags(new HashMap<String, Boolean>());
+        immutableSetValueSlots(new _ValueSlots());
+        immutableSetUpdateCounts(new int[0]);
     }
 
     /**
@@ -98,6 +115,7 @@ public abstract class WriteQuery
     protected void setTable(@NotNull final Table table)
     {
         immutableSetTable(table);
+        invalidateRenderedSql();
     }
 
     /**
@@ -111,62 +129,191 @@ public abstract class WriteQuery
     }
 
     /**
-     * Specifies new value collection.
-     * @param map the new map.
+     * Specifies the value slots.
+     * @param slots the slots.
      */
-    protected final void immutableSetValues(@NotNull final Map<Field, ?> map)
+    protected final void immutableSetValueSlots(@NotNull final _ValueSlots slots)
     {
-        m__mValues = map;
+        m__ValueSlots = slots;
     }
 
     /**
-     * Specifies new value collection.
-     * @param map the new map.
+     * Specifies the value slots.
+     * @param slots the slots.
      */
-    protected void setValues(@NotNull final Map<Field, ?> map)
+    @SuppressWarnings("unused")
+    protected void setValueSlots(@NotNull final _ValueSlots slots)
     {
-        immutableSetValues(map);
+        immutableSetValueSlots(slots);
+        invalidateRenderedSql();
     }
 
     /**
-     * Retrieves the value collection.
-     * @return such map.
-     * @param <F> the field type.
+     * Retrieves the value slots, one per field, in field order.
+     * @return such slots.
      */
-    @SuppressWarnings("unchecked")
     @NotNull
-    protected <F> Map<F, String> getValues()
+    protected _ValueSlots getValueSlots()
     {
-        return (Map<F, String>) m__mValues;
+        return m__ValueSlots;
     }
 
     /**
-     * Specifies the escaping flags.
-     * @param map such map.
+     * Retrieves the slot of given field, adding it as a new column if
+     * the query doesn't include it yet.
+     * @param field the field.
+     * @return the slot, starting at 0.
      */
-    protected final void immutableSetEscapingFlags(final Map<String, Boolean> map)
+    protected int retrieveSlot(@NotNull final Field field)
     {
-        m__mEscapingFlags = map;
+        int result = getFieldIndex(field);
+
+        if  (result < 1)
+        {
+            addField(field);
+
+            result = getFieldIndex(field);
+        }
+
+        return result - 1;
     }
 
     /**
-     * Specifies the escaping flags.
-     * @param map such map.
+     * Retrieves the slot of given field, ready to hold a new value: if it
+     * was bound as a parameter, the parameter is discarded.
+     * @param field the field.
+     * @param slots the value slots.
+     * @return the slot, starting at 0.
      */
-    @SuppressWarnings("unused")
-    protected void setEscapingFlags(@NotNull final Map<String, Boolean> map)
+    protected int retrieveValueSlot(@NotNull final Field field, @NotNull final _ValueSlots slots)
     {
-        immutableSetEscapingFlags(map);
+        final int result = retrieveSlot(field);
+
+        if  (slots.getKind(result) == _ValueSlots.PARAMETER)
+        {
+            removeVariableCondition(slots.getParameter(result));
+        }
+
+        return result;
     }
 
     /**
-     * Retrieves the escaping flags.
-     * @return such map.
+     * Checks whether the values specified from now on can be bound as
+     * parameters.
+     * @return <code>true</code> in such case.
      */
-    @NotNull
-    protected Map<String,Boolean> getEscapingFlags()
+    protected boolean canBindValues()
+    {
+        return true;
+    }
+
+    /**
+     * Checks whether given value should be bound as a parameter
+     * instead of being rendered.
+     * @param value the value.
+     * @return <code>true</code> for any value if the query is
+     * {@link #isAutoParameterized() auto-parameterized}, and for dates if it
+     * {@link #isUsingTemporalParameters() uses temporal parameters}.
+     */
+    protected boolean shouldBind(@Nullable final Object value)
+    {
+        return
+               (canBindValues())
+            && (   (isAutoParameterized())
+                || (   (isUsingTemporalParameters())
+                    && (QueryUtils.getInstance().isTemporal(value))));
+    }
+
+    /**
+     * Checks whether numbers should be bound as parameters instead of
+     * being rendered.
+     * @return <code>true</code> if the query is
+     * {@link #isAutoParameterized() auto-parameterized}.
+     */
+    protected boolean shouldBindNumbers()
+    {
+        return (canBindValues()) && (isAutoParameterized());
+    }
+
+    /**
+     * Binds given value as the parameter of a slot.
+     * @param field the field.
+     * @param value the value.
+     * @param slot the slot.
+     * @param slots the value slots.
+     */
+    protected void bindValue(
+        @NotNull final Field field,
+        @NotNull final Object value,
+        final int slot,
+        @NotNull final _ValueSlots slots)
+    {
+        bindValue(
+            field,
+            value,
+            slot,
+            slots,
+            ConditionFactory.getInstance(),
+            ConditionOperatorRepository.getInstance());
+    }
+
+    /**
+     * Binds given value as the parameter of a slot. The parameter is
+     * placed after the ones of the previous slots.
+     * @param field the field.
+     * @param value the value.
+     * @param slot the slot.
+     * @param slots the value slots.
+     * @param conditionFactory the {@link ConditionFactory} instance.
+     * @param conditionOperatorRepository the
+     * {@link ConditionOperatorRepository} instance.
+     */
+    protected void bindValue(
+        @NotNull final Field field,
+        @NotNull final Object value,
+        final int slot,
+        @NotNull final _ValueSlots slots,
+        @NotNull final ConditionFactory conditionFactory,
+        @NotNull final ConditionOperatorRepository conditionOperatorRepository)
     {
-        return m__mEscapingFlags;
+        @NotNull final VariableCondition t_Condition =
+            conditionFactory.createBoundCondition(
+                field, conditionOperatorRepository.getEquals(), value);
+
+        int t_iIndex = 0;
+
+        for  (int t_iSlot = 0; t_iSlot < slot; t_iSlot++)
+        {
+            if  (slots.isPlaceholder(t_iSlot))
+            {
+                t_iIndex++;
+            }
+        }
+
+        insertVariableCondition(t_iIndex, t_Condition);
+
+        slots.putParameter(slot, t_Condition);
+    }
+
+    /**
+     * Renders the values bound as parameters as literals again.
+     * @param slots the value slots.
+     */
+    protected void unbindValues(@NotNull final _ValueSlots slots)
+    {
+        final int t_iCount = getFields().size();
+
+        for  (int t_iSlot = 0; t_iSlot < t_iCount; t_iSlot++)
+        {
+            if  (slots.getKind(t_iSlot) == _ValueSlots.PARAMETER)
+            {
+                @NotNull final VariableCondition t_Condition = slots.getParameter(t_iSlot);
+
+                removeVariableCondition(t_Condition);
+
+                slots.putObject(t_iSlot, t_Condition.getRightSideObject(), true);
+            }
+        }
     }
 
     /**
@@ -186,46 +333,39 @@ public abstract class WriteQuery
      * @param value the value.
      * @param escape to force value escaping.
      */
-    @SuppressWarnings("unchecked")
     protected void putValue(
         @NotNull final StringField field, @Nullable final String value, final boolean escape)
     {
-        putValue(field, value, escape, getValues(), getEscapingFlags());
+        putValue(field, value, escape, getValueSlots());
     }
 
     /**
      * Puts a new value.
      * @param field the field.
-     * @param value the value.
+     * @param value the value, or <code>null</code>.
      * @param escape to force value escaping.
-     * @param values the values.
-     * @param escapingFlags the escaping flags.
-     * @param <F> the type.
+     * @param slots the value slots.
      */
-    protected <F> void putValue(
-        @NotNull final F field,
-        @Nullable final String value,
+    protected void putValue(
+        @NotNull final Field field,
+        @Nullable final Object value,
         final boolean escape,
-        @NotNull final Map<F, String> values,
-        @NotNull final Map<String, Boolean> escapingFlags)
+        @NotNull final _ValueSlots slots)
     {
-        @NotNull final String t_strValue;
+        final int t_iSlot = retrieveValueSlot(field, slots);
 
-        if  (value == null)
+        if  (   (value != null)
+             && (escape)
+             && (shouldBind(value)))
         {
-            t_strValue = "null";
+            bindValue(field, value, t_iSlot, slots);
         }
         else
         {
-            t_strValue = value;
-        }
-
-        if  (!escape)
-        {
-            escapingFlags.put(buildEscapingFlagKey(t_strValue), Boolean.FALSE);
+            slots.putObject(t_iSlot, value, escape);
         }
 
-        values.put(field, t_strValue);
+        invalidateRenderedSql();
     }
 
     /**
@@ -233,10 +373,22 @@ public abstract class WriteQuery
      * @param field the field.
      * @param value the value.
      */
-    @SuppressWarnings("unchecked")
     protected void putValue(@NotNull final IntField field, final int value)
     {
-        putValue(field, "" + value);
+        @NotNull final _ValueSlots t_Slots = getValueSlots();
+
+        final int t_iSlot = retrieveValueSlot(field, t_Slots);
+
+        if  (shouldBindNumbers())
+        {
+            bindValue(field, value, t_iSlot, t_Slots);
+        }
+        else
+        {
+            t_Slots.putInt(t_iSlot, value);
+        }
+
+        invalidateRenderedSql();
     }
 
     /**
@@ -258,7 +410,7 @@ public abstract class WriteQuery
     protected void putValue(
         @NotNull final IntField field, @Nullable final String value, final boolean escape)
     {
-        putValue(field, value, escape, getValues(), getEscapingFlags());
+        putValue(field, value, escape, getValueSlots());
     }
 
     /**
@@ -268,7 +420,20 @@ public abstract class WriteQuery
      */
     protected void putValue(@NotNull final LongField field, final long value)
     {
-        putValue(field, "" + value);
+        @NotNull final _ValueSlots t_Slots = getValueSlots();
+
+        final int t_iSlot = retrieveValueSlot(field, t_Slots);
+
+        if  (shouldBindNumbers())
+        {
+            bindValue(field, value, t_iSlot, t_Slots);
+        }
+        else
+        {
+            t_Slots.putLong(t_iSlot, value);
+        }
+
+        invalidateRenderedSql();
     }
 
     /**
@@ -290,7 +455,7 @@ public abstract class WriteQuery
     protected void putValue(
         @NotNull final LongField field, @Nullable final String value, final boolean escape)
     {
-        putValue(field, value, escape, getValues(), getEscapingFlags());
+        putValue(field, value, escape, getValueSlots());
     }
 
     /**
@@ -300,7 +465,20 @@ public abstract class WriteQuery
      */
     protected void putValue(@NotNull final DoubleField field, final double value)
     {
-        putValue(field, "" + value);
+        @NotNull final _ValueSlots t_Slots = getValueSlots();
+
+        final int t_iSlot = retrieveValueSlot(field, t_Slots);
+
+        if  (shouldBindNumbers())
+        {
+            bindValue(field, value, t_iSlot, t_Slots);
+        }
+        else
+        {
+            t_Slots.putDouble(t_iSlot, value);
+        }
+
+        invalidateRenderedSql();
     }
 
     /**
@@ -312,7 +490,7 @@ public abstract class WriteQuery
     protected void putValue(
         @NotNull final DoubleField field, @Nullable final String value, final boolean escape)
     {
-        putValue(field, "" + value, escape);
+        putValue(field, value, escape, getValueSlots());
     }
 
     /**
@@ -322,7 +500,7 @@ public abstract class WriteQuery
      */
     protected void putValue(@NotNull final CalendarField field, @NotNull final Calendar value)
     {
-        putValue(field, DateFormat.getTimeInstance().format(value));
+        putValue(field, value, true, getValueSlots());
     }
 
     /**
@@ -344,7 +522,7 @@ public abstract class WriteQuery
     protected void putValue(
         @NotNull final CalendarField field, @Nullable final String value, final boolean escape)
     {
-        putValue(field, value, escape, getValues(), getEscapingFlags());
+        putValue(field, value, escape, getValueSlots());
     }
 
     /**
@@ -354,9 +532,7 @@ public abstract class WriteQuery
      */
     protected void putValue(@NotNull final DateField field, @NotNull final Date value)
     {
-        @NotNull final Calendar t_Calendar = Calendar.getInstance();
-        t_Calendar.setTime(value);
-        putValue(field, t_Calendar);
+        putValue(field, value, true, getValueSlots());
     }
 
     /**
@@ -368,7 +544,7 @@ public abstract class WriteQuery
     protected void putValue(
         @NotNull final DateField field, @Nullable final String value, final boolean escape)
     {
-        putValue(field, value, escape, getValues(), getEscapingFlags());
+        putValue(field, value, escape, getValueSlots());
     }
 
     /**
@@ -379,7 +555,7 @@ public abstract class WriteQuery
     protected void putValue(
         @NotNull final BigDecimalField field, final BigDecimal value)
     {
-        putValue(field, "" + value);
+        putValue(field, value, true, getValueSlots());
     }
 
     /**
@@ -401,28 +577,30 @@ public abstract class WriteQuery
     protected void putValue(
         @NotNull final Field field, final Object value, final boolean escape)
     {
-        putValue(field, "" + value, escape, getValues(), getEscapingFlags());
+        putValue(field, value, escape, getValueSlots());
     }
 
     /**
      * Retrieves the value of given field.
      * @param field the field.
-     * @return the value.
+     * @return the value, boxed.
      */
+    @Nullable
     protected Object getValue(@NotNull final Field field)
     {
-        return getValue(field, getValues());
+        return getValue(field, getValueSlots());
     }
 
     /**
      * Retrieves the value of given field.
      * @param field the field.
-     * @param values the values.
-     * @return the value.
+     * @param slots the value slots.
+     * @return the value, boxed.
      */
-    protected Object getValue(@NotNull final Field field, @NotNull final Map values)
+    @Nullable
+    protected Object getValue(@NotNull final Field field, @NotNull final _ValueSlots slots)
     {
-        return values.get(field);
+        return slots.get(getFieldIndex(field) - 1);
     }
 
     /**
@@ -433,21 +611,22 @@ public abstract class WriteQuery
     @NotNull
     protected String getValue(@NotNull final org.acmsl.queryj.sql.StringField field)
     {
-        return getValue(field, getValues());
+        return getValue(field, getValueSlots());
     }
 
     /**
      * Retrieves the value of given field.
      * @param field the field.
-     * @param values the values.
+     * @param slots the value slots.
      * @return the value.
      */
     @NotNull
-    protected String getValue(@NotNull final org.acmsl.queryj.sql.StringField field, @NotNull final Map values)
+    protected String getValue(
+        @NotNull final org.acmsl.queryj.sql.StringField field, @NotNull final _ValueSlots slots)
     {
         @NotNull String result = "null";
 
-        @Nullable final Object t_Result = values.get(field);
+        @Nullable final Object t_Result = slots.getObject(getFieldIndex(field) - 1);
 
         if  (t_Result instanceof String)
         {
@@ -464,24 +643,33 @@ public abstract class WriteQuery
      */
     protected int getValue(@NotNull final IntField field)
     {
-        return getValue(field, getValues());
+        return getValue(field, getValueSlots());
     }
 
     /**
      * Retrieves the value of given field.
      * @param field the field.
-     * @param values the values.
+     * @param slots the value slots.
      * @return the value.
      */
-    protected int getValue(@NotNull final IntField field, @NotNull final Map values)
+    protected int getValue(@NotNull final IntField field, @NotNull final _ValueSlots slots)
     {
         int result = -1;
 
-        @Nullable final Object t_Result = values.get(field);
+        final int t_iSlot = getFieldIndex(field) - 1;
 
-        if  (t_Result instanceof Integer)
+        if  (slots.getKind(t_iSlot) == _ValueSlots.INT)
         {
-            result = ((Integer) t_Result).intValue();
+            result = slots.getInt(t_iSlot);
+        }
+        else
+        {
+            @Nullable final Object t_Result = slots.getObject(t_iSlot);
+
+            if  (t_Result instanceof Integer)
+            {
+                result = (Integer) t_Result;
+            }
         }
 
         return result;
@@ -494,24 +682,33 @@ public abstract class WriteQuery
      */
     protected long getValue(@NotNull final LongField field)
     {
-        return getValue(field, getValues());
+        return getValue(field, getValueSlots());
     }
 
     /**
      * Retrieves the value of given field.
      * @param field the field.
-     * @param values the values.
+     * @param slots the value slots.
      * @return the value.
      */
-    protected long getValue(@NotNull final LongField field, @NotNull final Map values)
+    protected long getValue(@NotNull final LongField field, @NotNull final _ValueSlots slots)
     {
         long result = -1;
 
-        @Nullable final Object t_Result = values.get(field);
+        final int t_iSlot = getFieldIndex(field) - 1;
 
-        if  (t_Result instanceof Long)
+        if  (slots.getKind(t_iSlot) == _ValueSlots.LONG)
         {
-            result = ((Long) t_Result).longValue();
+            result = slots.getLong(t_iSlot);
+        }
+        else
+        {
+            @Nullable final Object t_Result = slots.getObject(t_iSlot);
+
+            if  (t_Result instanceof Long)
+            {
+                result = (Long) t_Result;
+            }
         }
 
         return result;
@@ -524,24 +721,33 @@ public abstract class WriteQuery
      */
     protected double getValue(@NotNull final DoubleField field)
     {
-        return getValue(field, getValues());
+        return getValue(field, getValueSlots());
     }
 
     /**
      * Retrieves the value of given field.
      * @param field the field.
-     * @param values the values.
+     * @param slots the value slots.
      * @return the value.
      */
-    protected double getValue(@NotNull final DoubleField field, @NotNull final Map values)
+    protected double getValue(@NotNull final DoubleField field, @NotNull final _ValueSlots slots)
     {
         double result = -1.0;
 
-        @Nullable final Object t_Result = values.get(field);
+        final int t_iSlot = getFieldIndex(field) - 1;
 
-        if  (t_Result instanceof Double)
+        if  (slots.getKind(t_iSlot) == _ValueSlots.DOUBLE)
         {
-            result = ((Double) t_Result).doubleValue();
+            result = slots.getDouble(t_iSlot);
+        }
+        else
+        {
+            @Nullable final Object t_Result = slots.getObject(t_iSlot);
+
+            if  (t_Result instanceof Double)
+            {
+                result = (Double) t_Result;
+            }
         }
 
         return result;
@@ -555,21 +761,21 @@ public abstract class WriteQuery
     @Nullable
     protected Calendar getValue(@NotNull final CalendarField field)
     {
-        return getValue(field, getValues());
+        return getValue(field, getValueSlots());
     }
 
     /**
      * Retrieves the value of given field.
      * @param field the field.
-     * @param values the values.
+     * @param slots the value slots.
      * @return the value.
      */
     @Nullable
-    protected Calendar getValue(@NotNull final CalendarField field, @NotNull final Map values)
+    protected Calendar getValue(@NotNull final CalendarField field, @NotNull final _ValueSlots slots)
     {
         @Nullable Calendar result = null;
 
-        @Nullable final Object t_Result = values.get(field);
+        @Nullable final Object t_Result = slots.getObject(getFieldIndex(field) - 1);
 
         if  (t_Result instanceof Calendar)
         {
@@ -587,22 +793,22 @@ public abstract class WriteQuery
     @Nullable
     protected BigDecimal getValue(@NotNull final BigDecimalField field)
     {
-        return getValue(field, getValues());
+        return getValue(field, getValueSlots());
     }
 
     /**
      * Retrieves the value of given field.
      * @param field the field.
-     * @param values the values.
+     * @param slots the value slots.
      * @return the value.
      */
     @Nullable
     protected BigDecimal getValue(
-        @NotNull final BigDecimalField field, @NotNull final Map values)
+        @NotNull final BigDecimalField field, @NotNull final _ValueSlots slots)
     {
         @Nullable BigDecimal result = null;
 
-        @Nullable final Object t_Result = values.get(field);
+        @Nullable final Object t_Result = slots.getObject(getFieldIndex(field) - 1);
 
         if  (t_Result instanceof BigDecimal)
         {
@@ -631,7 +837,6 @@ public abstract class WriteQuery
     protected void addValue(
         @NotNull final StringField field, @Nullable final String value, final boolean escape)
     {
-        addField(field);
         putValue(field, value, escape);
     }
 
@@ -642,7 +847,6 @@ public abstract class WriteQuery
      */
     protected void addValue(@NotNull final IntField field, final int value)
     {
-        addField(field);
         putValue(field, value);
     }
 
@@ -665,7 +869,6 @@ public abstract class WriteQuery
     protected void addValue(
         @NotNull final IntField field, @Nullable final String value, final boolean escape)
     {
-        addField(field);
         putValue(field, value, escape);
     }
 
@@ -676,7 +879,6 @@ public abstract class WriteQuery
      */
     protected void addValue(@NotNull final LongField field, final long value)
     {
-        addField(field);
         putValue(field, value);
     }
 
@@ -699,7 +901,6 @@ public abstract class WriteQuery
     protected void addValue(
         @NotNull final LongField field, @Nullable final String value, final boolean escape)
     {
-        addField(field);
         putValue(field, value, escape);
     }
 
@@ -710,7 +911,6 @@ public abstract class WriteQuery
      */
     protected void addValue(@NotNull final DoubleField field, final double value)
     {
-        addField(field);
         putValue(field, value);
     }
 
@@ -733,7 +933,6 @@ public abstract class WriteQuery
     protected void addValue(
         @NotNull final DoubleField field, @Nullable final String value, final boolean escape)
     {
-        addField(field);
         putValue(field, value, escape);
     }
 
@@ -744,7 +943,6 @@ public abstract class WriteQuery
      */
     protected void addValue(@NotNull final CalendarField field, final Calendar value)
     {
-        addField(field);
         putValue(field, value);
     }
 
@@ -767,7 +965,6 @@ public abstract class WriteQuery
     protected void addValue(
         @NotNull final CalendarField field, @Nullable final String value, final boolean escape)
     {
-        addField(field);
         putValue(field, value, escape);
     }
 
@@ -778,11 +975,14 @@ public abstract class WriteQuery
      */
     protected void addValue(@NotNull final DateField field, @Nullable final Date value)
     {
-        addField(field);
         if (value != null)
         {
             putValue(field, value);
         }
+        else
+        {
+            retrieveSlot(field);
+        }
     }
 
     /**
@@ -804,7 +1004,6 @@ public abstract class WriteQuery
     protected void addValue(
         @NotNull final DateField field, @Nullable final String value, final boolean escape)
     {
-        addField(field);
         putValue(field, value, escape);
     }
 
@@ -816,7 +1015,6 @@ public abstract class WriteQuery
     protected void addValue(
         @NotNull final BigDecimalField field, @NotNull final BigDecimal value)
     {
-        addField(field);
         putValue(field, value);
     }
 
@@ -839,8 +1037,7 @@ public abstract class WriteQuery
     protected void addValue(
         @NotNull final BigDecimalField field, @Nullable final String value, final boolean escape)
     {
-        addField(field);
-        putValue(field, value, escape);
+        putValue(field, value, escape, getValueSlots());
     }
 
     /**
@@ -862,10 +1059,89 @@ public abstract class WriteQuery
     protected void addValue(
         @NotNull final Field field, @NotNull final Object value, final boolean escape)
     {
-        addField(field);
         putValue(field, value, escape);
     }
 
+    /**
+     * Appends the value of given slot to a buffer: a placeholder if it
+     * has no value or it's bound as a parameter, the number as is, or
+     * the (escaped if needed) text.
+     * @param buffer the buffer.
+     * @param slots the value slots.
+     * @param slot the slot.
+     */
+    protected void appendValue(
+        @NotNull final StringBuilder buffer, @NotNull final _ValueSlots slots, final int slot)
+    {
+        switch  (slots.getKind(slot))
+        {
+            case _ValueSlots.INT:
+                buffer.append(slots.getInt(slot));
+                break;
+
+            case _ValueSlots.LONG:
+                buffer.append(slots.getLong(slot));
+                break;
+
+            case _ValueSlots.DOUBLE:
+                buffer.append(slots.getDouble(slot));
+                break;
+
+            case _ValueSlots.NULL:
+                buffer.append("null");
+                break;
+
+            case _ValueSlots.OBJECT:
+                appendValue(buffer, slots.getObject(slot), slots.isEscaped(slot));
+                break;
+
+            default:
+                buffer.append('?');
+                break;
+        }
+    }
+
+    /**
+     * Appends given value to a buffer, escaping it if needed.
+     * @param buffer the buffer.
+     * @param value the value.
+     * @param escape <code>false</code> to never escape the value.
+     */
+    protected void appendValue(
+        @NotNull final StringBuilder buffer, @NotNull final Object value, final boolean escape)
+    {
+        appendValue(buffer, value, escape, QueryUtils.getInstance());
+    }
+
+    /**
+     * Appends given value to a buffer, escaping it if needed, the same
+     * way literal in-lists do. Dates are rendered as SQL literals.
+     * @param buffer the buffer.
+     * @param value the value.
+     * @param escape <code>false</code> to never escape the value.
+     * @param queryUtils the {@link QueryUtils} instance.
+     */
+    protected void appendValue(
+        @NotNull final StringBuilder buffer,
+        @NotNull final Object value,
+        final boolean escape,
+        @NotNull final QueryUtils queryUtils)
+    {
+        if  (queryUtils.isTemporal(value))
+        {
+            queryUtils.appendTemporal(buffer, value);
+        }
+        else if  (   (escape)
+                  && (shouldBeEscaped(value, queryUtils)))
+        {
+            queryUtils.appendQuoted(buffer, String.valueOf(value), '\'');
+        }
+        else
+        {
+            buffer.append(value);
+        }
+    }
+
     /**
      * Checks whether given value should be escaped or not.
      * @param value the value to check.
@@ -873,48 +1149,325 @@ public abstract class WriteQuery
      */
     protected boolean shouldBeEscaped(@NotNull final Object value)
     {
-        return
-            shouldBeEscaped(
-                value, getEscapingFlags(), QueryUtils.getInstance());
+        return shouldBeEscaped(value, QueryUtils.getInstance());
     }
 
     /**
      * Checks whether given value should be escaped or not.
      * @param value the value to check.
-     * @param escapingFlags the flags.
      * @param queryUtils the <code>QueryUtils</code> instance.
      * @return <code>true</code> if given value should be escaped.
      */
     protected boolean shouldBeEscaped(
-        @NotNull final Object value,
-        @NotNull final Map<?, ?> escapingFlags,
-        @NotNull final QueryUtils queryUtils)
+        @NotNull final Object value, @NotNull final QueryUtils queryUtils)
+    {
+        return queryUtils.shouldBeEscaped(value);
+    }
+
+    /**
+     * Specifies the number of rows per batch.
+     * @param size such size.
+     */
+    protected final void immutableSetBatchSize(final int size)
+    {
+        m__iBatchSize = size;
+    }
+
+    /**
+     * Specifies the number of rows per batch.
+     * @param size such size.
+     */
+    protected void setBatchSize(final int size)
+    {
+        immutableSetBatchSize(size);
+    }
+
+    /**
+     * Retrieves the number of rows per batch.
+     * @return such size, or <code>0</code> if batch mode is off.
+     */
+    protected int getBatchSize()
+    {
+        return m__iBatchSize;
+    }
+
+    /**
+     * Specifies the number of rows added to the current batch.
+     * @param count such count.
+     */
+    protected final void immutableSetPendingRows(final int count)
+    {
+        m__iPendingRows = count;
+    }
+
+    /**
+     * Specifies the number of rows added to the current batch.
+     * @param count such count.
+     */
+    protected void setPendingRows(final int count)
+    {
+        immutableSetPendingRows(count);
+    }
+
+    /**
+     * Retrieves the number of rows added to the current batch.
+     * @return such count.
+     */
+    public int getPendingRows()
+    {
+        return m__iPendingRows;
+    }
+
+    /**
+     * Specifies the update counts of the flushed rows.
+     * @param counts such counts.
+     */
+    protected final void immutableSetUpdateCounts(@NotNull final int[] counts)
+    {
+        m__aiUpdateCounts = counts;
+    }
+
+    /**
+     * Specifies the update counts of the flushed rows.
+     * @param counts such counts.
+     */
+    protected void setUpdateCounts(@NotNull final int[] counts)
+    {
+        immutableSetUpdateCounts(counts);
+    }
+
+    /**
+     * Retrieves the update counts of the flushed rows. Only the first
+     * {@link #getFlushedRows()} items are meaningful.
+     * @return such counts.
+     */
+    @NotNull
+    protected int[] getUpdateCounts()
     {
-        final boolean result;
+        return m__aiUpdateCounts;
+    }
 
-        @Nullable final Object t_Flag = escapingFlags.get(buildEscapingFlagKey(value));
+    /**
+     * Specifies the number of flushed rows.
+     * @param count such count.
+     */
+    protected final void immutableSetFlushedRows(final int count)
+    {
+        m__iFlushedRows = count;
+    }
+
+    /**
+     * Specifies the number of flushed rows.
+     * @param count such count.
+     */
+    protected void setFlushedRows(final int count)
+    {
+        immutableSetFlushedRows(count);
+    }
 
-        if  (t_Flag instanceof Boolean)
+    /**
+     * Retrieves the number of flushed rows.
+     * @return such count.
+     */
+    public int getFlushedRows()
+    {
+        return m__iFlushedRows;
+    }
+
+    /**
+     * Switches batch mode on: each {@link #nextRow()} adds the bound
+     * parameters as a new row, and every <code>rowsPerFlush</code> rows the
+     * batch gets sent to the database.
+     * @param rowsPerFlush the number of rows per batch.
+     */
+    public void useBatchMode(final int rowsPerFlush)
+    {
+        if  (rowsPerFlush < 1)
         {
-            result = Boolean.TRUE.equals(t_Flag);
+            throw new IllegalArgumentException("Invalid batch size: " + rowsPerFlush);
         }
-        else
+
+        setBatchSize(rowsPerFlush);
+        setPendingRows(0);
+        setFlushedRows(0);
+    }
+
+    /**
+     * Adds the currently bound parameters, including the values bound
+     * automatically, as a new row of the batch, flushing it if it's full.
+     * Values not bound as parameters must not change the SQL of the
+     * statement.
+     * @throws SQLException if the row values changed the SQL of the
+     * statement, or the batch cannot be flushed. In case of
+     * {@link BatchUpdateException}, its update counts cover every row flushed
+     * before the first failure.
+     */
+    public void nextRow()
+        throws  SQLException
+    {
+        checkBatchSql();
+        bindAutoParameters();
+        addBatch();
+
+        setPendingRows(getPendingRows() + 1);
+
+        final int t_iBatchSize = getBatchSize();
+
+        if  (   (t_iBatchSize > 0)
+             && (getPendingRows() >= t_iBatchSize))
+        {
+            flush();
+        }
+    }
+
+    /**
+     * Checks the SQL of the query still matches the one of the statement.
+     * Statements not prepared by this query take the SQL of their first row.
+     * @throws SQLException if the SQL changed.
+     */
+    protected void checkBatchSql()
+        throws  SQLException
+    {
+        @NotNull final String t_strSql = toString();
+
+        @Nullable final String t_strPreparedSql = getPreparedSql();
+
+        if  (t_strPreparedSql == null)
+        {
+            setPreparedSql(t_strSql);
+        }
+        else if  (!t_strPreparedSql.equals(t_strSql))
+        {
+            throw
+                new SQLException(
+                      "Row values changed the SQL of the batch, from '"
+                    + t_strPreparedSql + "' to '" + t_strSql
+                    + "'. Bind them as parameters instead.");
+        }
+    }
+
+    /**
+     * Sends the pending rows to the database.
+     * @return the update counts of the flushed rows.
+     * @throws SQLException if the batch fails. In case of
+     * {@link BatchUpdateException}, its update counts cover every row flushed
+     * before the first failure, and the pending rows are discarded.
+     */
+    @NotNull
+    public int[] flush()
+        throws  SQLException
+    {
+        @NotNull int[] result = new int[0];
+
+        if  (getPendingRows() > 0)
         {
-            result = queryUtils.shouldBeEscaped(value);
+            setPendingRows(0);
+
+            try
+            {
+                result = executeBatch();
+            }
+            catch  (@NotNull final BatchUpdateException batchUpdateException)
+            {
+                clearBatch();
+
+                appendUpdateCounts(
+                    successfulUpdateCounts(batchUpdateException.getUpdateCounts()));
+
+                @NotNull final BatchUpdateException t_Exception =
+                    new BatchUpdateException(
+                        batchUpdateException.getMessage(),
+                        batchUpdateException.getSQLState(),
+                        batchUpdateException.getErrorCode(),
+                        Arrays.copyOf(getUpdateCounts(), getFlushedRows()));
+
+                t_Exception.initCause(batchUpdateException);
+
+                setFlushedRows(0);
+
+                throw t_Exception;
+            }
+
+            appendUpdateCounts(result);
         }
 
         return result;
     }
 
     /**
-     * Builds the escaping flag key for given value.
-     * @param value the value.
-     * @return the escaping flag key.
+     * Flushes the pending rows and ends the current batch.
+     * @return the update counts of all rows of the batch, one per
+     * {@link #nextRow()} call.
+     * @throws SQLException if the batch fails.
+     * @see #flush()
      */
     @NotNull
-    protected String buildEscapingFlagKey(@NotNull final Object value)
+    public int[] finishBatch()
+        throws  SQLException
     {
-        return "||queryj||escaping-flag||" + value;
+        flush();
+
+        @NotNull final int[] result = Arrays.copyOf(getUpdateCounts(), getFlushedRows());
+
+        setFlushedRows(0);
+
+        return result;
+    }
+
+    /**
+     * Keeps the update counts up to the first failed row.
+     * @param counts the update counts.
+     * @return the counts of the rows before the first failure.
+     */
+    @NotNull
+    protected int[] successfulUpdateCounts(@Nullable final int[] counts)
+    {
+        @NotNull final int[] result;
+
+        if  (counts == null)
+        {
+            result = new int[0];
+        }
+        else
+        {
+            int t_iSuccessful = 0;
+
+            while  (   (t_iSuccessful < counts.length)
+                    && (counts[t_iSuccessful] != Statement.EXECUTE_FAILED))
+            {
+                t_iSuccessful++;
+            }
+
+            result = Arrays.copyOf(counts, t_iSuccessful);
+        }
+
+        return result;
+    }
+
+    /**
+     * Appends given counts to the update counts of the flushed rows.
+     * @param counts the update counts.
+     */
+    protected void appendUpdateCounts(@NotNull final int[] counts)
+    {
+        @NotNull int[] t_aiUpdateCounts = getUpdateCounts();
+
+        final int t_iFlushedRows = getFlushedRows();
+
+        final int t_iRequired = t_iFlushedRows + counts.length;
+
+        if  (t_iRequired > t_aiUpdateCounts.length)
+        {
+            t_aiUpdateCounts =
+                Arrays.copyOf(
+                    t_aiUpdateCounts, Math.max(t_iRequired, 2 * t_aiUpdateCounts.length));
+
+            setUpdateCounts(t_aiUpdateCounts);
+        }
+
+        System.arraycopy(counts, 0, t_aiUpdateCounts, t_iFlushedRows, counts.length);
+
+        setFlushedRows(t_iRequired);
     }
 
     /**
@@ -925,4 +1478,427 @@ public abstract class WriteQuery
     {
         // TODO
     }
+
+    /**
+     * Holds the values of a row, one slot per field. Numbers are kept
+     * in primitive form; everything else, as given.
+     * @author <a href="mailto:chous@acm-sl.org">Jose San Leandro</a>
+     */
+    protected static class _ValueSlots
+    {
+        /**
+         * The kind of slots without a value.
+         */
+        public static final byte UNSET = 0;
+
+        /**
+         * The kind of slots holding an <code>int</code>.
+         */
+        public static final byte INT = 1;
+
+        /**
+         * The kind of slots holding a <code>long</code>.
+         */
+        public static final byte LONG = 2;
+
+        /**
+         * The kind of slots holding a <code>double</code>.
+         */
+        public static final byte DOUBLE = 3;
+
+        /**
+         * The kind of slots holding an object.
+         */
+        public static final byte OBJECT = 4;
+
+        /**
+         * The kind of slots holding <code>null</code>.
+         */
+        public static final byte NULL = 5;
+
+        /**
+         * The kind of slots whose value is bound as a parameter.
+         */
+        public static final byte PARAMETER = 6;
+
+        /**
+         * The default capacity.
+         */
+        protected static final int DEFAULT_CAPACITY = 8;
+
+        /**
+         * The kind of each slot.
+         */
+        private byte[] m__aKinds;
+
+        /**
+         * The primitive values, as <code>long</code> bits.
+         */
+        private long[] m__alPrimitives;
+
+        /**
+         * The object values.
+         */
+        private Object[] m__aObjects;
+
+        /**
+         * The slots whose values must never be escaped.
+         */
+        private BitSet m__Unescaped;
+
+        /**
+         * Creates empty slots.
+         */
+        public _ValueSlots()
+        {
+            this(DEFAULT_CAPACITY);
+        }
+
+        /**
+         * Creates empty slots.
+         * @param capacity the initial capacity.
+         */
+        public _ValueSlots(final int capacity)
+        {
+            immutableSetKinds(new byte[capacity]);
+            immutableSetPrimitives(new long[capacity]);
+            immutableSetObjects(new Object[capacity]);
+            immutableSetUnescaped(new BitSet());
+        }
+
+        /**
+         * Specifies the kinds.
+         * @param kinds such kinds.
+         */
+        private void immutableSetKinds(@NotNull final byte[] kinds)
+        {
+            m__aKinds = kinds;
+        }
+
+        /**
+         * Retrieves the kinds.
+         * @return such kinds.
+         */
+        @NotNull
+        protected byte[] getKinds()
+        {
+            return m__aKinds;
+        }
+
+        /**
+         * Specifies the primitive values.
+         * @param values such values.
+         */
+        private void immutableSetPrimitives(@NotNull final long[] values)
+        {
+            m__alPrimitives = values;
+        }
+
+        /**
+         * Retrieves the primitive values.
+         * @return such values.
+         */
+        @NotNull
+        protected long[] getPrimitives()
+        {
+            return m__alPrimitives;
+        }
+
+        /**
+         * Specifies the object values.
+         * @param values such values.
+         */
+        private void immutableSetObjects(@NotNull final Object[] values)
+        {
+            m__aObjects = values;
+        }
+
+        /**
+         * Retrieves the object values.
+         * @return such values.
+         */
+        @NotNull
+        protected Object[] getObjects()
+        {
+            return m__aObjects;
+        }
+
+        /**
+         * Specifies the slots whose values must never be escaped.
+         * @param slots such slots.
+         */
+        private void immutableSetUnescaped(@NotNull final BitSet slots)
+        {
+            m__Unescaped = slots;
+        }
+
+        /**
+         * Retrieves the slots whose values must never be escaped.
+         * @return such slots.
+         */
+        @NotNull
+        protected BitSet getUnescaped()
+        {
+            return m__Unescaped;
+        }
+
+        /**
+         * Makes room for given slot.
+         * @param slot the slot.
+         */
+        protected void ensureCapacity(final int slot)
+        {
+            final int t_iLength = getKinds().length;
+
+            if  (slot >= t_iLength)
+            {
+                final int t_iCapacity = Math.max(slot + 1, 2 * t_iLength);
+
+                immutableSetKinds(Arrays.copyOf(getKinds(), t_iCapacity));
+                immutableSetPrimitives(Arrays.copyOf(getPrimitives(), t_iCapacity));
+                immutableSetObjects(Arrays.copyOf(getObjects(), t_iCapacity));
+            }
+        }
+
+        /**
+         * Stores a primitive value.
+         * @param slot the slot.
+         * @param kind the kind.
+         * @param bits the value, as <code>long</code> bits.
+         */
+        protected void putPrimitive(final int slot, final byte kind, final long bits)
+        {
+            ensureCapacity(slot);
+
+            getKinds()[slot] = kind;
+            getPrimitives()[slot] = bits;
+            getObjects()[slot] = null;
+            getUnescaped().clear(slot);
+        }
+
+        /**
+         * Stores an <code>int</code> value.
+         * @param slot the slot.
+         * @param value the value.
+         */
+        public void putInt(final int slot, final int value)
+        {
+            putPrimitive(slot, INT, value);
+        }
+
+        /**
+         * Stores a <code>long</code> value.
+         * @param slot the slot.
+         * @param value the value.
+         */
+        public void putLong(final int slot, final long value)
+        {
+            putPrimitive(slot, LONG, value);
+        }
+
+        /**
+         * Stores a <code>double</code> value.
+         * @param slot the slot.
+         * @param value the value.
+         */
+        public void putDouble(final int slot, final double value)
+        {
+            putPrimitive(slot, DOUBLE, Double.doubleToRawLongBits(value));
+        }
+
+        /**
+         * Stores an object value.
+         * @param slot the slot.
+         * @param value the value, or <code>null</code>.
+         * @param escape <code>false</code> if the value must never be escaped.
+         */
+        public void putObject(final int slot, @Nullable final Object value, final boolean escape)
+        {
+            ensureCapacity(slot);
+
+            getKinds()[slot] = (value == null) ? NULL : OBJECT;
+            getPrimitives()[slot] = 0;
+            getObjects()[slot] = value;
+            getUnescaped().set(slot, !escape);
+        }
+
+        /**
+         * Stores a value bound as a parameter.
+         * @param slot the slot.
+         * @param parameter the variable condition holding the value.
+         */
+        public void putParameter(final int slot, @NotNull final VariableCondition parameter)
+        {
+            ensureCapacity(slot);
+
+            getKinds()[slot] = PARAMETER;
+            getPrimitives()[slot] = 0;
+            getObjects()[slot] = parameter;
+            getUnescaped().clear(slot);
+        }
+
+        /**
+         * Retrieves the kind of given slot.
+         * @param slot the slot.
+         * @return such kind, or {@link #UNSET} if out of range.
+         */
+        public byte getKind(final int slot)
+        {
+            @NotNull final byte[] t_aKinds = getKinds();
+
+            return ((slot >= 0) && (slot < t_aKinds.length)) ? t_aKinds[slot] : UNSET;
+        }
+
+        /**
+         * Checks whether given slot renders a placeholder, either because
+         * it has no value or because it's bound as a parameter.
+         * @param slot the slot.
+         * @return <code>true</code> in such case.
+         */
+        public boolean isPlaceholder(final int slot)
+        {
+            final byte t_Kind = getKind(slot);
+
+            return (t_Kind == UNSET) || (t_Kind == PARAMETER);
+        }
+
+        /**
+         * Checks whether the value of given slot can be escaped.
+         * @param slot the slot.
+         * @return <code>false</code> if it must never be escaped.
+         */
+        public boolean isEscaped(final int slot)
+        {
+            return !getUnescaped().get(slot);
+        }
+
+        /**
+         * Retrieves the <code>int</code> value of given slot.
+         * @param slot the slot.
+         * @return such value.
+         */
+        public int getInt(final int slot)
+        {
+            return (int) getPrimitives()[slot];
+        }
+
+        /**
+         * Retrieves the <code>long</code> value of given slot.
+         * @param slot the slot.
+         * @return such value.
+         */
+        public long getLong(final int slot)
+        {
+            return getPrimitives()[slot];
+        }
+
+        /**
+         * Retrieves the <code>double</code> value of given slot.
+         * @param slot the slot.
+         * @return such value.
+         */
+        public double getDouble(final int slot)
+        {
+            return Double.longBitsToDouble(getPrimitives()[slot]);
+        }
+
+        /**
+         * Retrieves the object value of given slot.
+         * @param slot the slot.
+         * @return such value, or <code>null</code> if the slot holds
+         * no object.
+         */
+        @Nullable
+        public Object getObject(final int slot)
+        {
+            @Nullable final Object result;
+
+            switch  (getKind(slot))
+            {
+                case OBJECT:
+                    result = getObjects()[slot];
+                    break;
+
+                case PARAMETER:
+                    result = getParameter(slot).getRightSideObject();
+                    break;
+
+                default:
+                    result = null;
+                    break;
+            }
+
+            return result;
+        }
+
+        /**
+         * Retrieves the parameter of given slot.
+         * @param slot the slot, of kind {@link #PARAMETER}.
+         * @return the variable condition holding the value.
+         */
+        @NotNull
+        public VariableCondition getParameter(final int slot)
+        {
+            return (VariableCondition) getObjects()[slot];
+        }
+
+        /**
+         * Retrieves the value of given slot, boxing primitives.
+         * @param slot the slot.
+         * @return such value, or <code>null</code> if the slot has no value.
+         */
+        @Nullable
+        public Object get(final int slot)
+        {
+            @Nullable final Object result;
+
+            switch  (getKind(slot))
+            {
+                case INT:
+                    result = getInt(slot);
+                    break;
+
+                case LONG:
+                    result = getLong(slot);
+                    break;
+
+                case DOUBLE:
+                    result = getDouble(slot);
+                    break;
+
+                default:
+                    result = getObject(slot);
+                    break;
+            }
+
+            return result;
+        }
+
+        /**
+         * Removes all values.
+         */
+        public void clear()
+        {
+            Arrays.fill(getKinds(), UNSET);
+            Arrays.fill(getObjects(), null);
+            getUnescaped().clear();
+        }
+
+        /**
+         * Creates a copy of these slots.
+         * @return such copy.
+         */
+        @NotNull
+        public _ValueSlots copy()
+        {
+            @NotNull final _ValueSlots result = new _ValueSlots(0);
+
+            result.immutableSetKinds(getKinds().clone());
+            result.immutableSetPrimitives(getPrimitives().clone());
+            result.immutableSetObjects(getObjects().clone());
+            result.immutableSetUnescaped((BitSet) getUnescaped().clone());
+
+            return result;
+        }
+    }
 }
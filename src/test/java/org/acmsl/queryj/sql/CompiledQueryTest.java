@@ -0,0 +1,89 @@
+/*
+                        QueryJ-SQL
+
+    Copyright (C) 2002-today  Jose San Leandro Armendariz
+                        chous@acm-sl.org
+
+    This library is free software; you can redistribute it and/or
+    modify it under the terms of the GNU General Public
+    License as published by the Free Software Foundation; either
+    version 2 of the License, or any later version.
+
+    This library is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+    General Public License for more details.
+
+    You should have received a copy of the GNU General Public
+    License along with this library; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Thanks to ACM S.L. for distributing this library under the GPL license.
+    Contact info: chous@acm-sl.org
+    Postal Address: c/Playa de Lagoa, 1
+                    Urb. Valdecabanas
+                    Boadilla del monte
+                    28660 Madrid
+                    Spain
+
+ ******************************************************************************
+ *
+ * Filename: CompiledQueryTest.java
+ *
+ * Author: Jose San Leandro Armendariz
+ *
+ * Description: Indicates JUnit how to test CompiledQuery classes.
+ *
+ */
+package org.acmsl.queryj.sql;
+
+/*
+ * Importing JUnit classes.
+ */
+import org.junit.Assert;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.junit.Test;
+
+/*
+ * Importing JetBrains annotations.
+ */
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Indicates JUnit how to test CompiledQuery classes.
+ * @author <a href="mailto:chous@acm-sl.org">Jose San Leandro</a>
+ */
+@RunWith(JUnit4.class)
+public class CompiledQueryTest
+{
+    /**
+     * Tests whether compiling a query freezes its SQL and positions.
+     */
+    @Test
+    public void compile_freezes_sql_and_positions()
+    {
+        @NotNull final SelectQuery t_Query = QueryFactory.getInstance().createSelectQuery();
+
+        t_Query.select(QueryTest.USERS.NAME);
+        t_Query.select(QueryTest.USERS.AGE);
+        t_Query.from(QueryTest.USERS);
+        t_Query.where(QueryTest.USERS.USERID.greaterThan());
+        t_Query.where(QueryTest.USERS.NAME.equals());
+
+        @NotNull final CompiledQuery t_Compiled = t_Query.compile();
+
+        t_Query.where(QueryTest.USERS.AGE.lessThan());
+
+        Assert.assertEquals(
+            "SELECT USERS.NAME, USERS.AGE FROM USERS WHERE USERS.USERID > ? AND USERS.NAME = ?",
+            t_Compiled.getSql());
+        Assert.assertEquals(2, t_Compiled.getParameterCount());
+        Assert.assertEquals(1, t_Compiled.getParameterIndex(QueryTest.USERS.USERID.greaterThan()));
+        Assert.assertEquals(2, t_Compiled.getParameterIndex(QueryTest.USERS.NAME.equals()));
+        Assert.assertEquals(0, t_Compiled.getParameterIndex(QueryTest.USERS.AGE.lessThan()));
+        Assert.assertEquals(1, t_Compiled.getFieldIndex(QueryTest.USERS.NAME));
+        Assert.assertEquals(2, t_Compiled.getFieldIndex(QueryTest.USERS.AGE));
+        Assert.assertEquals(0, t_Compiled.getFieldIndex(QueryTest.USERS.USERID));
+    }
+}
@@ -163,6 +163,13 @@ extends TestCase
   throws Exception
   {
     // JUnitDoclet begin method getEquals
+    assertSame(
+      conditionoperatorrepository.getEquals(),
+      conditionoperatorrepository.getEquals());
+    assertEquals("=", conditionoperatorrepository.getEquals().getSymbol());
+    assertFalse(
+      conditionoperatorrepository.getEquals().equals(
+        conditionoperatorrepository.getNotEquals()));
     // JUnitDoclet end method getEquals
   }
   
@@ -238,6 +245,33 @@ extends TestCase
     // JUnitDoclet end method getNotBelongsTo
   }
   
+  /**
+  * Tests ConditionOperatorRepositoryTestgetIn()
+  * @throws Exception if an unexpected situation occurs.
+  * @see org.acmsl.queryj.sql.ConditionOperatorRepository#getIn(int)
+  */
+  public void testGetIn()
+  throws Exception
+  {
+    // JUnitDoclet begin method getIn
+    assertSame(
+      conditionoperatorrepository.getIn(3),
+      conditionoperatorrepository.getIn(3));
+    assertFalse(
+      conditionoperatorrepository.getIn(3).equals(
+        conditionoperatorrepository.getIn(4)));
+    assertFalse(
+      conditionoperatorrepository.getIn(3).equals(
+        conditionoperatorrepository.getNotIn(3)));
+    assertEquals(
+      conditionoperatorrepository.getIn(1000),
+      conditionoperatorrepository.getIn(1000));
+    assertEquals(
+      conditionoperatorrepository.getIn(1000).hashCode(),
+      conditionoperatorrepository.getIn(1000).hashCode());
+    // JUnitDoclet end method getIn
+  }
+  
   /**
   * Tests ConditionOperatorRepositoryTestgetLike()
   * @throws Exception if an unexpected situation occurs.
@@ -168,6 +168,49 @@ public class ConditionTest
             t_FirstCondition.toString());
     }
 
+    /**
+     * Tests composed conditions keep their operands instead of
+     * their rendered text.
+     * @see org.acmsl.queryj.sql.Condition
+     */
+    public void test6Condition()
+    {
+        @NotNull final Condition t_FirstCondition = USERS.USERID.greaterThan(10);
+
+        @NotNull final Condition t_SecondCondition = USERS.NAME.isNull();
+
+        t_FirstCondition.and(t_SecondCondition);
+
+        @NotNull final Condition t_Composite = t_FirstCondition.getInnerCondition();
+
+        assertTrue(t_Composite instanceof ConditionFactory._CompositeCondition);
+
+        assertSame(
+            t_SecondCondition,
+            ((ConditionFactory._CompositeCondition) t_Composite).getRightCondition());
+
+        assertEquals(
+            "(USERS.USERID > 10) AND (USERS.NAME is null)",
+            t_FirstCondition.toString());
+    }
+
+    /**
+     * Tests atomic conditions compare by structure.
+     * @see org.acmsl.queryj.sql.AtomicCondition
+     */
+    public void test7Condition()
+    {
+        @NotNull final Condition t_FirstCondition = USERS.USERID.greaterThan(10);
+
+        assertEquals(t_FirstCondition, USERS.USERID.greaterThan(10));
+        assertEquals(t_FirstCondition.hashCode(), USERS.USERID.greaterThan(10).hashCode());
+        assertFalse(t_FirstCondition.equals(USERS.USERID.greaterThan(20)));
+        assertFalse(t_FirstCondition.equals(USERS.NAME.isNull()));
+
+        assertEquals(USERS.NAME.equals(), USERS.NAME.equals());
+        assertFalse(USERS.NAME.equals().equals(USERS.USERID.equals()));
+    }
+
     /**
      * Executes the tests from command line.
      * @param args the command-line arguments. Not needed so far.
@@ -166,6 +166,113 @@ public class InsertQueryTest
         Assert.assertEquals(t_strQuery, EXPECTED_QUERY_3);
     }
 
+    /**
+     * Tests multi-row rendering.
+     * @see org.acmsl.queryj.sql.InsertQuery#addRow()
+     */
+    @Test
+    public void testMultiRow()
+    {
+        @NotNull final InsertQuery t_Query = QueryFactory.getInstance().createInsertQuery();
+
+        t_Query.insertInto(USERS);
+        t_Query.value(USERS.NAME, "me");
+        t_Query.value(USERS.AGE);
+        t_Query.addRow();
+        t_Query.value(USERS.NAME, "you");
+        t_Query.value(USERS.AGE);
+        t_Query.addRow();
+
+        Assert.assertEquals(
+            "INSERT INTO USERS ( NAME, AGE ) VALUES ( 'me', ? ), ( 'you', ? )",
+            t_Query.toString());
+    }
+
+    /**
+     * Tests rows omitting a literal column render its default value
+     * instead of an unbound placeholder.
+     * @see org.acmsl.queryj.sql.InsertQuery#addRow()
+     */
+    @Test
+    public void testMultiRowRagged()
+    {
+        @NotNull final InsertQuery t_Query = QueryFactory.getInstance().createInsertQuery();
+
+        t_Query.insertInto(USERS);
+        t_Query.value(USERS.USERID, 1);
+        t_Query.value(USERS.AGE);
+        t_Query.addRow();
+        t_Query.value(USERS.USERID, 2);
+        t_Query.value(USERS.NAME, "z");
+        t_Query.addRow();
+
+        Assert.assertEquals(
+            "INSERT INTO USERS ( USERID, AGE, NAME ) VALUES ( 1, ?, DEFAULT ), ( 2, ?, 'z' )",
+            t_Query.toString());
+    }
+
+    /**
+     * Tests multi-row statements get split by parameter count.
+     * @see org.acmsl.queryj.sql.InsertQuery#toStatements()
+     */
+    @Test
+    public void testMultiRowSplit()
+        throws Exception
+    {
+        @NotNull final InsertQuery t_Query = QueryFactory.getInstance().createInsertQuery();
+
+        t_Query.insertInto(USERS);
+        t_Query.value(USERS.NAME);
+        t_Query.value(USERS.AGE);
+        t_Query.addPlaceholderRows(3);
+        t_Query.setMaxParameters(5);
+
+        Assert.assertEquals(
+            java.util.Arrays.asList(
+                "INSERT INTO USERS ( NAME, AGE ) VALUES ( ?, ? ), ( ?, ? )",
+                "INSERT INTO USERS ( NAME, AGE ) VALUES ( ?, ? )"),
+            t_Query.toStatements());
+
+        Assert.assertEquals(6, t_Query.retrieveParameterIndex(2, USERS.AGE.equals()));
+
+        Assert.assertEquals(java.util.Arrays.asList(0, 2), t_Query.retrieveStatementFirstRows());
+        Assert.assertEquals(4, t_Query.retrieveParameterIndex(1, 0, USERS.AGE.equals()));
+        Assert.assertEquals(1, t_Query.retrieveParameterIndex(2, 2, USERS.NAME.equals()));
+        Assert.assertEquals(2, t_Query.retrieveParameterIndex(2, 2, USERS.AGE.equals()));
+
+        @NotNull final InsertQuery t_Mixed = QueryFactory.getInstance().createInsertQuery();
+
+        t_Mixed.insertInto(USERS);
+        t_Mixed.value(USERS.NAME);
+        t_Mixed.value(USERS.AGE);
+        t_Mixed.addRow();
+        t_Mixed.value(USERS.NAME, "x");
+        t_Mixed.addRow();
+        t_Mixed.addPlaceholderRows(1);
+        t_Mixed.setMaxParameters(3);
+
+        Assert.assertEquals(
+            java.util.Arrays.asList(
+                "INSERT INTO USERS ( NAME, AGE ) VALUES ( ?, ? ), ( 'x', ? )",
+                "INSERT INTO USERS ( NAME, AGE ) VALUES ( ?, ? )"),
+            t_Mixed.toStatements());
+
+        Assert.assertEquals(4, t_Mixed.retrieveParameterIndex(2, USERS.NAME.equals()));
+        Assert.assertEquals(3, t_Mixed.retrieveParameterIndex(1, USERS.AGE.equals()));
+        Assert.assertEquals(java.util.Arrays.asList(0, 2), t_Mixed.retrieveStatementFirstRows());
+        Assert.assertEquals(1, t_Mixed.retrieveParameterIndex(2, 2, USERS.NAME.equals()));
+
+        try
+        {
+            t_Mixed.retrieveParameterIndex(1, USERS.NAME.equals());
+            Assert.fail("Literal value taken as a parameter");
+        }
+        catch  (@NotNull final java.sql.SQLException sqlException)
+        {
+            // expected
+        }
+    }
+
     /**
      * Test-only table.
      * @author <a href="mailto:chous@acm-sl.org">Jose San Leandro</a>
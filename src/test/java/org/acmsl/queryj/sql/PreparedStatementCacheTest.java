@@ -0,0 +1,356 @@
+/*
+                        QueryJ-SQL
+
+    Copyright (C) 2002-today  Jose San Leandro Armendariz
+                        chous@acm-sl.org
+
+    This library is free software; you can redistribute it and/or
+    modify it under the terms of the GNU General Public
+    License as published by the Free Software Foundation; either
+    version 2 of the License, or any later version.
+
+    This library is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+    General Public License for more details.
+
+    You should have received a copy of the GNU General Public
+    License along with this library; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Thanks to ACM S.L. for distributing this library under the GPL license.
+    Contact info: chous@acm-sl.org
+    Postal Address: c/Playa de Lagoa, 1
+                    Urb. Valdecabanas
+                    Boadilla del monte
+                    28660 Madrid
+                    Spain
+
+ ******************************************************************************
+ *
+ * Filename: PreparedStatementCacheTest.java
+ *
+ * Author: Jose San Leandro Armendariz
+ *
+ * Description: Indicates JUnit how to test PreparedStatementCache classes.
+ *
+ */
+package org.acmsl.queryj.sql;
+
+/*
+ * Importing JUnit classes.
+ */
+import org.junit.Assert;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.junit.Test;
+
+/*
+ * Importing JetBrains annotations.
+ */
+import org.jetbrains.annotations.NotNull;
+
+/*
+ * Importing JDK classes.
+ */
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Indicates JUnit how to test PreparedStatementCache classes.
+ * @author <a href="mailto:chous@acm-sl.org">Jose San Leandro</a>
+ */
+@RunWith(JUnit4.class)
+public class PreparedStatementCacheTest
+{
+    /**
+     * Tests whether closed queries give their statements back to the cache.
+     * @throws Exception if an unexpected situation occurs.
+     */
+    @Test
+    public void closed_statements_are_reused()
+        throws Exception
+    {
+        @NotNull final List<String> t_lPrepared = new ArrayList<String>();
+        @NotNull final List<String> t_lClosed = new ArrayList<String>();
+        @NotNull final Connection t_Connection = createConnection(t_lPrepared, t_lClosed);
+
+        @NotNull final PreparedStatementCache t_Cache = new PreparedStatementCache(1);
+
+        @NotNull final SelectQuery t_Query = createQuery();
+        t_Query.useStatementCache(t_Cache);
+
+        t_Query.prepareStatement(t_Connection);
+        @NotNull final PreparedStatement t_First = t_Query.retrievePreparedStatement();
+        t_Query.close();
+
+        Assert.assertEquals(1, t_Cache.size());
+        Assert.assertEquals(0, t_lClosed.size());
+
+        @NotNull final SelectQuery t_Other = createQuery();
+        t_Other.useStatementCache(t_Cache);
+
+        t_Other.prepareStatement(t_Connection);
+        Assert.assertSame(t_First, t_Other.retrievePreparedStatement());
+        Assert.assertEquals(1, t_lPrepared.size());
+        Assert.assertEquals(0, t_Cache.size());
+        t_Other.close();
+
+        t_Query.where(QueryTest.USERS.NAME.equals());
+        t_Query.prepareStatement(t_Connection);
+        t_Query.close();
+
+        Assert.assertEquals(2, t_lPrepared.size());
+        Assert.assertEquals(1, t_lClosed.size());
+        Assert.assertEquals(1, t_Cache.size());
+
+        t_Cache.clear(t_Connection);
+
+        Assert.assertEquals(2, t_lClosed.size());
+        Assert.assertEquals(0, t_Cache.size());
+    }
+
+    /**
+     * Tests whether closing a query twice has no effect.
+     * @throws Exception if an unexpected situation occurs.
+     */
+    @Test
+    public void close_is_idempotent()
+        throws Exception
+    {
+        @NotNull final List<String> t_lPrepared = new ArrayList<String>();
+        @NotNull final List<String> t_lClosed = new ArrayList<String>();
+        @NotNull final Connection t_Connection = createConnection(t_lPrepared, t_lClosed);
+
+        @NotNull final PreparedStatementCache t_Cache = new PreparedStatementCache(1);
+
+        @NotNull final SelectQuery t_Query = createQuery();
+        t_Query.useStatementCache(t_Cache);
+
+        t_Query.prepareStatement(t_Connection);
+        t_Query.close();
+        t_Query.close();
+
+        Assert.assertEquals(1, t_Cache.size());
+        Assert.assertEquals(0, t_lClosed.size());
+    }
+
+    /**
+     * Tests whether preparing a query again gives its current statement
+     * back, instead of leaking it.
+     * @throws Exception if an unexpected situation occurs.
+     */
+    @Test
+    public void prepared_again_releases_the_current_statement()
+        throws Exception
+    {
+        @NotNull final List<String> t_lPrepared = new ArrayList<String>();
+        @NotNull final List<String> t_lClosed = new ArrayList<String>();
+        @NotNull final Connection t_Connection = createConnection(t_lPrepared, t_lClosed);
+
+        @NotNull final PreparedStatementCache t_Cache = new PreparedStatementCache(2);
+
+        @NotNull final SelectQuery t_Query = createQuery();
+        t_Query.useStatementCache(t_Cache);
+
+        t_Query.prepareStatement(t_Connection);
+        @NotNull final PreparedStatement t_First = t_Query.retrievePreparedStatement();
+        t_Query.prepareStatement(t_Connection);
+
+        Assert.assertSame(t_First, t_Query.retrievePreparedStatement());
+        Assert.assertEquals(1, t_lPrepared.size());
+
+        t_Query.where(QueryTest.USERS.NAME.equals());
+        t_Query.prepareStatement(t_Connection);
+
+        Assert.assertEquals(2, t_lPrepared.size());
+        Assert.assertEquals(1, t_Cache.size());
+
+        t_Query.close();
+
+        Assert.assertEquals(2, t_Cache.size());
+        Assert.assertEquals(0, t_lClosed.size());
+
+        @NotNull final SelectQuery t_Uncached = createQuery();
+
+        t_Uncached.prepareStatement(t_Connection);
+        t_Uncached.prepareStatement(t_Connection);
+
+        Assert.assertEquals(1, t_lClosed.size());
+    }
+
+    /**
+     * Tests whether statements with changed settings are closed instead of
+     * cached, and whether cached statements get their result sets closed.
+     * @throws Exception if an unexpected situation occurs.
+     */
+    @Test
+    public void customized_statements_are_not_reused()
+        throws Exception
+    {
+        @NotNull final List<String> t_lPrepared = new ArrayList<String>();
+        @NotNull final List<String> t_lClosed = new ArrayList<String>();
+        @NotNull final List<String> t_lClosedResultSets = new ArrayList<String>();
+        @NotNull final Connection t_Connection =
+            createConnection(t_lPrepared, t_lClosed, t_lClosedResultSets);
+
+        @NotNull final PreparedStatementCache t_Cache = new PreparedStatementCache(1);
+
+        @NotNull final SelectQuery t_Query = createQuery();
+        t_Query.useStatementCache(t_Cache);
+
+        t_Query.prepareStatement(t_Connection);
+        t_Query.setMaxRows(1);
+        t_Query.close();
+
+        Assert.assertEquals(0, t_Cache.size());
+        Assert.assertEquals(1, t_lClosed.size());
+
+        t_Query.prepareStatement(t_Connection);
+        t_Query.close();
+
+        Assert.assertEquals(2, t_lPrepared.size());
+        Assert.assertEquals(1, t_lClosed.size());
+        Assert.assertEquals(1, t_Cache.size());
+        Assert.assertEquals(1, t_lClosedResultSets.size());
+    }
+
+    /**
+     * Creates a test query.
+     * @return such query.
+     */
+    @NotNull
+    protected SelectQuery createQuery()
+    {
+        @NotNull final SelectQuery result = QueryFactory.getInstance().createSelectQuery();
+
+        result.select(QueryTest.USERS.NAME);
+        result.from(QueryTest.USERS);
+
+        return result;
+    }
+
+    /**
+     * Creates a fake connection tracking the statements it prepares.
+     * @param prepared the SQL of the prepared statements.
+     * @param closed the SQL of the closed statements.
+     * @return such connection.
+     */
+    @NotNull
+    protected Connection createConnection(
+        @NotNull final List<String> prepared, @NotNull final List<String> closed)
+    {
+        return createConnection(prepared, closed, new ArrayList<String>());
+    }
+
+    /**
+     * Creates a fake connection tracking the statements it prepares.
+     * @param prepared the SQL of the prepared statements.
+     * @param closed the SQL of the closed statements.
+     * @param closedResultSets the SQL of the closed result sets.
+     * @return such connection.
+     */
+    @NotNull
+    protected Connection createConnection(
+        @NotNull final List<String> prepared,
+        @NotNull final List<String> closed,
+        @NotNull final List<String> closedResultSets)
+    {
+        return
+            (Connection)
+                Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[] { Connection.class },
+                    new InvocationHandler()
+                    {
+                        public Object invoke(
+                            final Object proxy, final Method method, final Object[] args)
+                        {
+                            @NotNull final String t_strSql = (String) args[0];
+
+                            prepared.add(t_strSql);
+
+                            return createStatement(t_strSql, closed, closedResultSets);
+                        }
+                    });
+    }
+
+    /**
+     * Creates a fake statement, with an open result set.
+     * @param sql the SQL.
+     * @param closed the SQL of the closed statements.
+     * @param closedResultSets the SQL of the closed result sets.
+     * @return such statement.
+     */
+    @NotNull
+    protected PreparedStatement createStatement(
+        @NotNull final String sql,
+        @NotNull final List<String> closed,
+        @NotNull final List<String> closedResultSets)
+    {
+        return
+            (PreparedStatement)
+                Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] { PreparedStatement.class },
+                    new InvocationHandler()
+                    {
+                        public Object invoke(
+                            final Object proxy, final Method method, final Object[] args)
+                        {
+                            Object result = null;
+
+                            if  ("close".equals(method.getName()))
+                            {
+                                closed.add(sql);
+                            }
+                            else if  ("isClosed".equals(method.getName()))
+                            {
+                                result = Boolean.FALSE;
+                            }
+                            else if  ("getResultSet".equals(method.getName()))
+                            {
+                                result = createResultSet(sql, closedResultSets);
+                            }
+
+                            return result;
+                        }
+                    });
+    }
+
+    /**
+     * Creates a fake result set.
+     * @param sql the SQL.
+     * @param closed the SQL of the closed result sets.
+     * @return such result set.
+     */
+    @NotNull
+    protected ResultSet createResultSet(
+        @NotNull final String sql, @NotNull final List<String> closed)
+    {
+        return
+            (ResultSet)
+                Proxy.newProxyInstance(
+                    ResultSet.class.getClassLoader(),
+                    new Class<?>[] { ResultSet.class },
+                    new InvocationHandler()
+                    {
+                        public Object invoke(
+                            final Object proxy, final Method method, final Object[] args)
+                        {
+                            if  ("close".equals(method.getName()))
+                            {
+                                closed.add(sql);
+                            }
+
+                            return null;
+                        }
+                    });
+    }
+}
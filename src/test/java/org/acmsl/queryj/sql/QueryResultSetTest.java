@@ -108,4 +108,25 @@ public class QueryResultSetTest
                 instance.getFetchSize());
         }
     } 
+
+    /**
+     * Tests whether field ordinals are snapshot at construction time.
+     */
+    @Test
+    public void field_ordinals_are_snapshot()
+    {
+        @NotNull final SelectQuery t_Query = QueryFactory.getInstance().createSelectQuery();
+
+        t_Query.select(QueryTest.USERS.NAME);
+        t_Query.select(QueryTest.USERS.AGE);
+        t_Query.from(QueryTest.USERS);
+
+        @Nullable final ResultSet resultSet = null;
+
+        @NotNull final QueryResultSet instance = new QueryResultSet(t_Query, resultSet);
+
+        Assert.assertEquals(1, instance.getFieldIndex(QueryTest.USERS.NAME));
+        Assert.assertEquals(2, instance.getFieldIndex(QueryTest.USERS.AGE));
+        Assert.assertEquals(0, instance.getFieldIndex(QueryTest.USERS.USERID));
+    }
 }
@@ -0,0 +1,833 @@
+/*
+                        QueryJ-SQL
+
+    Copyright (C) 2002-today  Jose San Leandro Armendariz
+                        chous@acm-sl.org
+
+    This library is free software; you can redistribute it and/or
+    modify it under the terms of the GNU General Public
+    License as published by the Free Software Foundation; either
+    version 2 of the License, or any later version.
+
+    This library is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+    General Public License for more details.
+
+    You should have received a copy of the GNU General Public
+    License along with this library; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Thanks to ACM S.L. for distributing this library under the GPL license.
+    Contact info: chous@acm-sl.org
+    Postal Address: c/Playa de Lagoa, 1
+                    Urb. Valdecabanas
+                    Boadilla del monte
+                    28660 Madrid
+                    Spain
+
+ ******************************************************************************
+ *
+ * Filename: QueryTest.java
+ *
+ * Author: Jose San Leandro Armendariz
+ *
+ * Description: Indicates JUnit how to test Query classes.
+ *
+ */
+package org.acmsl.queryj.sql;
+
+/*
+ * Importing JUnit classes.
+ */
+import org.junit.Assert;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.junit.Test;
+
+/*
+ * Importing JetBrains annotations.
+ */
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/*
+ * Importing JDK classes.
+ */
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Indicates JUnit how to test Query classes.
+ * @author <a href="mailto:chous@acm-sl.org">Jose San Leandro</a>
+ */
+@RunWith(JUnit4.class)
+public class QueryTest
+{
+    /**
+     * The USERS table.
+     */
+    protected static final UsersTable USERS = new UsersTable() {};
+
+    /**
+     * Tests whether variable conditions are resolved to their positions.
+     */
+    @Test
+    public void variable_condition_positions_are_resolved()
+    {
+        @NotNull final SelectQuery t_Query = QueryFactory.getInstance().createSelectQuery();
+
+        t_Query.select(USERS.USERID);
+        t_Query.select(USERS.NAME);
+        t_Query.from(USERS);
+        t_Query.where(USERS.USERID.greaterThan());
+        t_Query.where(USERS.NAME.equals());
+
+        Assert.assertEquals(1, t_Query.getVariableConditionIndex(USERS.USERID.greaterThan()));
+        Assert.assertEquals(2, t_Query.getVariableConditionIndex(USERS.NAME.equals()));
+        Assert.assertEquals(0, t_Query.getVariableConditionIndex(USERS.USERID.equals()));
+
+        t_Query.where(USERS.USERID.lessThan());
+
+        Assert.assertEquals(3, t_Query.getVariableConditionIndex(USERS.USERID.lessThan()));
+    }
+
+    /**
+     * Tests whether composed variable conditions are resolved to their
+     * positions.
+     */
+    @Test
+    public void composed_variable_condition_positions_are_resolved()
+    {
+        @NotNull final SelectQuery t_Query = QueryFactory.getInstance().createSelectQuery();
+
+        t_Query.select(USERS.NAME);
+        t_Query.from(USERS);
+        t_Query.where(USERS.NAME.equals().or(USERS.NAME.isNull()));
+
+        Assert.assertEquals(1, t_Query.getVariableConditionIndex(USERS.NAME.equals()));
+    }
+
+    /**
+     * Tests whether fields are resolved to their positions.
+     */
+    @Test
+    public void field_positions_are_resolved()
+    {
+        @NotNull final SelectQuery t_Query = QueryFactory.getInstance().createSelectQuery();
+
+        t_Query.select(USERS.getAll());
+        t_Query.from(USERS);
+
+        Assert.assertEquals(1, t_Query.getFieldIndex(USERS.USERID));
+        Assert.assertEquals(2, t_Query.getFieldIndex(USERS.NAME));
+        Assert.assertEquals(0, t_Query.getFieldIndex(USERS.AGE));
+
+        t_Query.select(USERS.AGE);
+
+        Assert.assertEquals(3, t_Query.getFieldIndex(USERS.AGE));
+    }
+
+    /**
+     * Tests whether the rendered SQL is reused until the query changes.
+     */
+    @Test
+    public void rendered_sql_is_cached_until_the_query_changes()
+    {
+        @NotNull final SelectQuery t_Query = QueryFactory.getInstance().createSelectQuery();
+
+        t_Query.select(USERS.NAME);
+        t_Query.from(USERS);
+
+        @NotNull final String t_strSql = t_Query.toString();
+
+        Assert.assertSame(t_strSql, t_Query.toString());
+
+        t_Query.where(USERS.USERID.equals());
+
+        Assert.assertEquals(
+            "SELECT USERS.NAME FROM USERS WHERE USERS.USERID = ?",
+            t_Query.toString());
+
+        t_Query.orderBy(USERS.NAME);
+
+        Assert.assertEquals(
+            "SELECT USERS.NAME FROM USERS WHERE USERS.USERID = ? ORDER BY USERS.NAME",
+            t_Query.toString());
+    }
+
+    /**
+     * Tests whether unbound parameters are reported.
+     * @throws SQLException if an unexpected situation occurs.
+     */
+    @Test
+    public void missing_parameters_are_reported()
+        throws SQLException
+    {
+        @NotNull final SelectQuery t_Query = QueryFactory.getInstance().createSelectQuery();
+
+        t_Query.select(USERS.NAME);
+        t_Query.from(USERS);
+        t_Query.where(USERS.USERID.greaterThan());
+        t_Query.where(USERS.NAME.equals());
+
+        t_Query.markParameterBound(1);
+
+        try
+        {
+            t_Query.checkParameters();
+            Assert.fail("Missing parameter not reported");
+        }
+        catch  (@NotNull final SQLException sqlException)
+        {
+            Assert.assertEquals(
+                "Missing parameter value for #2 (USERS.NAME = ?)",
+                sqlException.getMessage());
+        }
+
+        t_Query.markParameterBound(2);
+        t_Query.checkParameters();
+    }
+
+    /**
+     * Tests whether URL parameters count as bound.
+     * @throws Exception if an unexpected situation occurs.
+     */
+    @Test
+    public void url_parameters_are_marked_as_bound()
+        throws Exception
+    {
+        @NotNull final SelectQuery t_Query = QueryFactory.getInstance().createSelectQuery();
+
+        t_Query.select(USERS.NAME);
+        t_Query.from(USERS);
+        t_Query.where(USERS.NAME.equals());
+
+        t_Query.setPreparedStatement(createRecordingStatement(new ArrayList<Object>()));
+
+        t_Query.setURL(1, new java.net.URL("http://example.org"));
+
+        t_Query.checkParameters();
+    }
+
+    /**
+     * Tests whether bucketed in-lists keep a stable shape, and get padded
+     * when bound.
+     * @throws SQLException if an unexpected situation occurs.
+     */
+    @Test
+    public void bucketed_in_lists_are_padded()
+        throws SQLException
+    {
+        @NotNull final SelectQuery t_Query = QueryFactory.getInstance().createSelectQuery();
+
+        @NotNull final VariableCondition t_InCondition = USERS.NAME.bucketedIn(3);
+
+        t_Query.select(USERS.NAME);
+        t_Query.from(USERS);
+        t_Query.where(t_InCondition.and(USERS.USERID.equals()));
+
+        Assert.assertEquals(
+              "SELECT USERS.NAME FROM USERS WHERE "
+            + "(USERS.NAME in (?, ?, ?, ?)) AND (USERS.USERID = ?)",
+            t_Query.toString());
+
+        Assert.assertEquals(t_Query.toString(), toSql(USERS.NAME.bucketedIn(4)));
+        Assert.assertFalse(t_Query.toString().equals(toSql(USERS.NAME.bucketedIn(5))));
+
+        Assert.assertEquals(5, t_Query.getVariableConditionIndex(USERS.USERID.equals()));
+
+        @NotNull final List<Object> t_lBindings = new ArrayList<Object>();
+
+        t_Query.setPreparedStatement(createRecordingStatement(t_lBindings));
+
+        t_Query.setStrings(t_InCondition, new String[] { "a", "b", "c" });
+        t_Query.setInt(USERS.USERID.equals(), 7);
+
+        Assert.assertEquals(
+            "[1=a, 2=b, 3=c, 4=c, 5=7]",
+            t_lBindings.toString());
+
+        t_Query.checkParameters();
+
+        try
+        {
+            t_Query.setStrings(t_InCondition, new String[] { "a", "b", "c", "d", "e" });
+            Assert.fail("Too many values not reported");
+        }
+        catch  (@NotNull final SQLException sqlException)
+        {
+            // expected
+        }
+    }
+
+    /**
+     * Tests whether empty exclusion lists are rejected, since
+     * <code>not in (null)</code> would never match.
+     * @throws SQLException if an unexpected situation occurs.
+     */
+    @Test
+    public void empty_bucketed_not_in_lists_are_rejected()
+        throws SQLException
+    {
+        @NotNull final SelectQuery t_Query = QueryFactory.getInstance().createSelectQuery();
+
+        @NotNull final VariableCondition t_InCondition = USERS.NAME.bucketedIn(2);
+        @NotNull final VariableCondition t_NotInCondition = USERS.NAME.bucketedNotIn(2);
+
+        t_Query.select(USERS.NAME);
+        t_Query.from(USERS);
+        t_Query.where(t_InCondition);
+        t_Query.where(t_NotInCondition);
+
+        @NotNull final List<Object> t_lBindings = new ArrayList<Object>();
+
+        t_Query.setPreparedStatement(createRecordingStatement(t_lBindings));
+
+        t_Query.setStrings(t_InCondition, new String[0]);
+
+        Assert.assertEquals("[1=null, 2=null]", t_lBindings.toString());
+
+        try
+        {
+            t_Query.setStrings(t_NotInCondition, new String[0]);
+            Assert.fail("Empty exclusion list not reported");
+        }
+        catch  (@NotNull final SQLException sqlException)
+        {
+            // expected
+        }
+    }
+
+    /**
+     * Renders the same query as in {@link #bucketed_in_lists_are_padded()}
+     * with given in-list condition.
+     * @param condition the in-list condition.
+     * @return the SQL.
+     */
+    @NotNull
+    protected String toSql(@NotNull final Condition condition)
+    {
+        @NotNull final SelectQuery t_Query = QueryFactory.getInstance().createSelectQuery();
+
+        t_Query.select(USERS.NAME);
+        t_Query.from(USERS);
+        t_Query.where(condition.and(USERS.USERID.equals()));
+
+        return t_Query.toString();
+    }
+
+    /**
+     * Creates a statement which records the values bound to it.
+     * @param bindings the list to record <code>position=value</code> into.
+     * @return such statement.
+     */
+    @NotNull
+    protected PreparedStatement createRecordingStatement(@NotNull final List<Object> bindings)
+    {
+        return
+            (PreparedStatement)
+                Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] { PreparedStatement.class },
+                    new InvocationHandler()
+                    {
+                        public Object invoke(
+                            final Object proxy, final Method method, final Object[] args)
+                        {
+                            @Nullable Object result = null;
+
+                            if  (method.getName().startsWith("set"))
+                            {
+                                bindings.add(args[0] + "=" + args[1]);
+                            }
+                            else if  ("getConnection".equals(method.getName()))
+                            {
+                                result = createArrayConnection();
+                            }
+
+                            return result;
+                        }
+                    });
+    }
+
+    /**
+     * Creates a connection whose arrays render as
+     * <code>type[elements]</code>.
+     * @return such connection.
+     */
+    @NotNull
+    protected Connection createArrayConnection()
+    {
+        return
+            (Connection)
+                Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[] { Connection.class },
+                    new InvocationHandler()
+                    {
+                        public Object invoke(
+                            final Object proxy, final Method method, final Object[] args)
+                        {
+                            @NotNull final String t_strArray =
+                                args[0] + Arrays.asList((Object[]) args[1]).toString();
+
+                            return
+                                Proxy.newProxyInstance(
+                                    Array.class.getClassLoader(),
+                                    new Class<?>[] { Array.class },
+                                    new InvocationHandler()
+                                    {
+                                        public Object invoke(
+                                            final Object proxy,
+                                            final Method method,
+                                            final Object[] args)
+                                        {
+                                            return t_strArray;
+                                        }
+                                    });
+                        }
+                    });
+    }
+
+    /**
+     * Tests whether array in-lists render a single placeholder, and bind
+     * an array created through the connection.
+     * @throws SQLException if an unexpected situation occurs.
+     */
+    @Test
+    public void array_in_lists_bind_a_single_array()
+        throws SQLException
+    {
+        @NotNull final SelectQuery t_Query = QueryFactory.getInstance().createSelectQuery();
+
+        @NotNull final VariableCondition t_InCondition = USERS.USERID.inArray();
+
+        t_Query.select(USERS.NAME);
+        t_Query.from(USERS);
+        t_Query.where(t_InCondition);
+        t_Query.where(USERS.NAME.equals());
+
+        Assert.assertEquals(
+            "SELECT USERS.NAME FROM USERS WHERE USERS.USERID = ANY (?) AND USERS.NAME = ?",
+            t_Query.toString());
+
+        @NotNull final List<Object> t_lBindings = new ArrayList<Object>();
+
+        t_Query.setPreparedStatement(createRecordingStatement(t_lBindings));
+
+        t_Query.setArray(t_InCondition, "INTEGER", new Object[] { 1, 2, 3 });
+        t_Query.setString(USERS.NAME, "x");
+
+        Assert.assertEquals("[1=INTEGER[1, 2, 3], 2=x]", t_lBindings.toString());
+    }
+
+    /**
+     * Tests whether nested queries get rendered in place, and compared
+     * by identity.
+     */
+    @Test
+    public void nested_queries_are_rendered_and_compared_by_identity()
+    {
+        @NotNull final SelectQuery t_Nested = QueryFactory.getInstance().createSelectQuery();
+
+        t_Nested.select(USERS.USERID);
+        t_Nested.from(USERS);
+        t_Nested.where(USERS.AGE.greaterThan());
+
+        @NotNull final SelectQuery t_Query = QueryFactory.getInstance().createSelectQuery();
+
+        t_Query.select(USERS.NAME);
+        t_Query.from(USERS);
+        t_Query.where(USERS.NAME.equals());
+        t_Query.where(USERS.USERID.in(t_Nested));
+
+        Assert.assertEquals(
+              "SELECT USERS.NAME FROM USERS WHERE USERS.NAME = ? AND USERS.USERID in "
+            + "(SELECT USERS.USERID FROM USERS WHERE USERS.AGE > ?)",
+            t_Query.toString());
+
+        Assert.assertEquals(2, t_Query.getVariableConditionIndex(USERS.AGE.greaterThan()));
+
+        Assert.assertEquals(USERS.USERID.in(t_Nested), USERS.USERID.in(t_Nested));
+        Assert.assertEquals(
+            USERS.USERID.in(t_Nested).hashCode(), USERS.USERID.in(t_Nested).hashCode());
+        Assert.assertFalse(
+            USERS.USERID.in(t_Nested).equals(
+                USERS.USERID.in(QueryFactory.getInstance().createSelectQuery())));
+    }
+
+    /**
+     * Tests whether nested queries are taken as they are when nested,
+     * so that the enclosing query renders and binds the same statement.
+     */
+    @Test
+    public void nested_queries_are_snapshotted_when_nested()
+    {
+        @NotNull final SelectQuery t_Nested = QueryFactory.getInstance().createSelectQuery();
+
+        t_Nested.select(USERS.USERID);
+        t_Nested.from(USERS);
+
+        @NotNull final SelectQuery t_Query = QueryFactory.getInstance().createSelectQuery();
+
+        t_Query.select(USERS.NAME);
+        t_Query.from(USERS);
+        t_Query.where(USERS.USERID.in(t_Nested));
+
+        t_Nested.where(USERS.AGE.equals());
+
+        Assert.assertEquals(
+              "SELECT USERS.NAME FROM USERS WHERE USERS.USERID in "
+            + "(SELECT USERS.USERID FROM USERS)",
+            t_Query.toString());
+        Assert.assertEquals(0, t_Query.getVariableConditions().size());
+
+        t_Query.where(USERS.USERID.in(t_Nested));
+
+        Assert.assertEquals(
+              "SELECT USERS.NAME FROM USERS WHERE USERS.USERID in "
+            + "(SELECT USERS.USERID FROM USERS) AND USERS.USERID in "
+            + "(SELECT USERS.USERID FROM USERS WHERE USERS.AGE = ?)",
+            t_Query.toString());
+        Assert.assertEquals(1, t_Query.getVariableConditions().size());
+    }
+
+    /**
+     * Tests whether conditions are normalized before being added.
+     */
+    @Test
+    public void conditions_are_normalized()
+    {
+        @NotNull final SelectQuery t_Query = QueryFactory.getInstance().createSelectQuery();
+
+        t_Query.select(USERS.NAME);
+        t_Query.from(USERS);
+        t_Query.where(
+            USERS.NAME.equals()
+                .and(USERS.AGE.greaterThan(3))
+                .and(USERS.NAME.equals().or(USERS.NAME.isNull()))
+                .and(USERS.AGE.greaterThan(3)));
+        t_Query.where(USERS.AGE.lessThan(9));
+        t_Query.where(USERS.AGE.lessThan(9));
+
+        Assert.assertEquals(
+              "SELECT USERS.NAME FROM USERS WHERE "
+            + "(USERS.NAME = ?) AND (USERS.AGE > 3) "
+            + "AND ((USERS.NAME = ?) OR (USERS.NAME is null)) "
+            + "AND USERS.AGE < 9",
+            t_Query.toString());
+
+        Assert.assertEquals(2, t_Query.getVariableConditions().size());
+
+        @NotNull final Condition t_Same = USERS.AGE.greaterThan(3);
+
+        Assert.assertEquals(
+            "USERS.AGE > 3",
+            ConditionFactory.getInstance().normalize(t_Same.or(USERS.AGE.greaterThan(3))).toString());
+    }
+
+    /**
+     * Tests whether composing onto a condition already added to a query
+     * fails, instead of going unnoticed.
+     */
+    @Test
+    public void composite_conditions_are_frozen_once_added()
+    {
+        @NotNull final SelectQuery t_Query = QueryFactory.getInstance().createSelectQuery();
+
+        @NotNull final Condition t_Condition =
+            USERS.AGE.greaterThan(3).and(USERS.AGE.lessThan(9));
+
+        t_Query.select(USERS.NAME);
+        t_Query.from(USERS);
+        t_Query.where(t_Condition);
+
+        Assert.assertTrue(t_Condition.isFrozen());
+
+        try
+        {
+            t_Condition.or(USERS.NAME.equals("y"));
+            Assert.fail("Composing onto an added condition not reported");
+        }
+        catch  (@NotNull final IllegalStateException illegalStateException)
+        {
+            Assert.assertEquals(
+                "SELECT USERS.NAME FROM USERS WHERE (USERS.AGE > 3) AND (USERS.AGE < 9)",
+                t_Query.toString());
+        }
+    }
+
+    /**
+     * Tests whether a rendered query cannot go stale through the
+     * atomic condition it was given.
+     */
+    @Test
+    public void rendered_sql_cannot_go_stale_through_conditions()
+    {
+        @NotNull final SelectQuery t_Query = QueryFactory.getInstance().createSelectQuery();
+
+        @NotNull final Condition t_Condition = USERS.AGE.greaterThan(3);
+
+        t_Query.select(USERS.NAME);
+        t_Query.from(USERS);
+        t_Query.where(t_Condition);
+
+        Assert.assertEquals(
+            "SELECT USERS.NAME FROM USERS WHERE USERS.AGE > 3", t_Query.toString());
+
+        try
+        {
+            t_Condition.and(USERS.NAME.equals("x"));
+            Assert.fail("Composing onto an added condition not reported");
+        }
+        catch  (@NotNull final IllegalStateException illegalStateException)
+        {
+            Assert.assertEquals(
+                "SELECT USERS.NAME FROM USERS WHERE USERS.AGE > 3", t_Query.toString());
+        }
+    }
+
+    /**
+     * Tests whether repeated placeholders are kept, each one with its
+     * own position.
+     */
+    @Test
+    public void placeholders_are_never_merged()
+    {
+        @NotNull final SelectQuery t_Query = QueryFactory.getInstance().createSelectQuery();
+
+        t_Query.select(USERS.NAME);
+        t_Query.from(USERS);
+        t_Query.where(USERS.USERID.equals().or(USERS.USERID.equals()));
+
+        Assert.assertEquals(
+            "SELECT USERS.NAME FROM USERS WHERE (USERS.USERID = ?) OR (USERS.USERID = ?)",
+            t_Query.toString());
+
+        Assert.assertEquals(2, t_Query.getVariableConditions().size());
+
+        @NotNull final SelectQuery t_Repeated = QueryFactory.getInstance().createSelectQuery();
+
+        t_Repeated.select(USERS.NAME);
+        t_Repeated.from(USERS);
+        t_Repeated.where(USERS.AGE.greaterThan());
+        t_Repeated.where(USERS.AGE.greaterThan());
+
+        Assert.assertEquals(
+            "SELECT USERS.NAME FROM USERS WHERE USERS.AGE > ? AND USERS.AGE > ?",
+            t_Repeated.toString());
+
+        Assert.assertEquals(2, t_Repeated.getVariableConditions().size());
+    }
+
+    /**
+     * Tests whether auto-parameterized queries render placeholders
+     * for typed values, and bind them.
+     * @throws SQLException if an unexpected situation occurs.
+     */
+    @Test
+    public void typed_values_are_auto_parameterized()
+        throws SQLException
+    {
+        @NotNull final SelectQuery t_Literal = QueryFactory.getInstance().createSelectQuery();
+
+        t_Literal.select(USERS.NAME);
+        t_Literal.from(USERS);
+        t_Literal.where(USERS.AGE.greaterThan(18).and(USERS.USERID.equals(7)));
+
+        Assert.assertEquals(
+            "SELECT USERS.NAME FROM USERS WHERE (USERS.AGE > 18) AND (USERS.USERID = 7)",
+            t_Literal.toString());
+
+        @NotNull final SelectQuery t_Query = QueryFactory.getInstance().createSelectQuery();
+
+        t_Query.useAutoParameterization(true);
+        t_Query.select(USERS.NAME);
+        t_Query.from(USERS);
+        t_Query.where(
+            USERS.AGE.greaterThan(18).and(USERS.USERID.equals(7)).and(USERS.NAME.equals()));
+
+        Assert.assertEquals(
+              "SELECT USERS.NAME FROM USERS WHERE "
+            + "(USERS.AGE > ?) AND (USERS.USERID = ?) AND (USERS.NAME = ?)",
+            t_Query.toString());
+
+        Assert.assertEquals(3, t_Query.getVariableConditionIndex(USERS.NAME.equals()));
+
+        @NotNull final List<Object> t_lBindings = new ArrayList<Object>();
+
+        t_Query.setPreparedStatement(createRecordingStatement(t_lBindings));
+        t_Query.clearParameters();
+        t_Query.setString(USERS.NAME.equals(), "x");
+
+        Assert.assertEquals("[1=18, 2=7, 3=x]", t_lBindings.toString());
+
+        t_Query.checkParameters();
+    }
+
+    /**
+     * Tests whether dates are bound as parameters when asked to.
+     * @throws SQLException if an unexpected situation occurs.
+     */
+    @Test
+    public void dates_can_be_bound_as_parameters()
+        throws SQLException
+    {
+        @NotNull final DateField t_Created = new DateField("CREATED", USERS) {};
+
+        @NotNull final java.util.Date t_Date = new java.sql.Timestamp(0);
+
+        @NotNull final UpdateQuery t_Query = QueryFactory.getInstance().createUpdateQuery();
+
+        t_Query.useTemporalParameters(true);
+        t_Query.update(USERS);
+        t_Query.where(USERS.USERID.equals().and(t_Created.equals(t_Date)));
+        t_Query.set(USERS.AGE, 30);
+        t_Query.set(t_Created, t_Date);
+
+        Assert.assertEquals(
+              "UPDATE USERS SET AGE = 30, CREATED = ? "
+            + "WHERE (USERS.USERID = ?) AND (USERS.CREATED = ?)",
+            t_Query.toString());
+
+        Assert.assertEquals(2, t_Query.getVariableConditionIndex(USERS.USERID.equals()));
+
+        @NotNull final List<Object> t_lBindings = new ArrayList<Object>();
+
+        t_Query.setPreparedStatement(createRecordingStatement(t_lBindings));
+        t_Query.clearParameters();
+        t_Query.setInt(USERS.USERID.equals(), 7);
+
+        Assert.assertEquals(
+            "[1=" + t_Date + ", 3=" + t_Date + ", 2=7]",
+            t_lBindings.toString());
+
+        t_Query.checkParameters();
+    }
+
+    /**
+     * Tests whether auto-parameterized write queries render placeholders
+     * for their values, and bind them.
+     * @throws SQLException if an unexpected situation occurs.
+     */
+    @Test
+    public void write_values_are_auto_parameterized()
+        throws SQLException
+    {
+        @NotNull final InsertQuery t_Insert = QueryFactory.getInstance().createInsertQuery();
+
+        t_Insert.useAutoParameterization(true);
+        t_Insert.insertInto(USERS);
+        t_Insert.value(USERS.NAME, "O'Neil");
+        t_Insert.value(USERS.AGE, 30);
+        t_Insert.value(USERS.USERID, "DEFAULT", false);
+
+        Assert.assertEquals(
+            "INSERT INTO USERS ( NAME, AGE, USERID ) VALUES ( ?, ?, DEFAULT )",
+            t_Insert.toString());
+
+        @NotNull final List<Object> t_lBindings = new ArrayList<Object>();
+
+        t_Insert.setPreparedStatement(createRecordingStatement(t_lBindings));
+        t_Insert.clearParameters();
+
+        Assert.assertEquals("[1=O'Neil, 2=30]", t_lBindings.toString());
+
+        t_Insert.value(USERS.AGE, 31);
+        t_lBindings.clear();
+        t_Insert.clearParameters();
+
+        Assert.assertEquals(
+            "INSERT INTO USERS ( NAME, AGE, USERID ) VALUES ( ?, ?, DEFAULT )",
+            t_Insert.toString());
+        Assert.assertEquals("[1=O'Neil, 2=31]", t_lBindings.toString());
+
+        @NotNull final UpdateQuery t_Update = QueryFactory.getInstance().createUpdateQuery();
+
+        t_Update.useAutoParameterization(true);
+        t_Update.update(USERS);
+        t_Update.where(USERS.USERID.equals(7));
+        t_Update.set(USERS.AGE, 31);
+
+        Assert.assertEquals(
+            "UPDATE USERS SET AGE = ? WHERE USERID = ?",
+            t_Update.toString());
+
+        t_lBindings.clear();
+        t_Update.setPreparedStatement(createRecordingStatement(t_lBindings));
+        t_Update.clearParameters();
+
+        Assert.assertEquals("[1=31, 2=7]", t_lBindings.toString());
+
+        t_Update.checkParameters();
+    }
+
+    /**
+     * Test-only table.
+     * @author <a href="mailto:chous@acm-sl.org">Jose San Leandro</a>
+     */
+    public static class UsersTable
+        extends  Table
+    {
+        /**
+         * The USERS table USERID field.
+         */
+        @NotNull
+        public IntField USERID =
+            new IntField("USERID", this) {};
+
+        /**
+         * The USERS table NAME field.
+         */
+        @NotNull
+        public StringField NAME =
+            new StringField("NAME", this) {};
+
+        /**
+         * The USERS table AGE field.
+         */
+        @NotNull
+        public IntField AGE =
+            new IntField("AGE", this) {};
+
+        /**
+         * All fields.
+         */
+        @NotNull
+        public Field[] ALL =
+            new Field[] {USERID, NAME};
+
+        /**
+         * The table name.
+         */
+        public static final String TABLE_NAME = "USERS";
+
+        /**
+         * Creates a USERS table.
+         */
+        protected UsersTable()
+        {
+            super(TABLE_NAME);
+        }
+
+        /**
+         * Retrieves <code>all</code> fields. It's equivalent to a
+         * star in a query.
+         * @return such fields.
+         */
+        @NotNull
+        public Field[] getAll()
+        {
+            return ALL;
+        }
+    }
+}
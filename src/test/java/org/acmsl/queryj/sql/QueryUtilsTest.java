@@ -47,6 +47,13 @@ import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 import org.junit.Test;
 
+/*
+ * Importing JDK classes.
+ */
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
 /**
  * Represents standard SQL insert queries.
  * @author <a href="mailto:chous@acm-sl.org">Jose San Leandro Armendariz</a>
@@ -79,4 +86,183 @@ public class QueryUtilsTest
 
         Assert.assertFalse(instance.shouldBeEscaped(new Integer[] { 30 }));
     }
+
+    /**
+     * Tests whether concatenate appends fields and conditions into a buffer.
+     */
+    @Test
+    public void concatenate_appends_into_given_buffer()
+    {
+        @NotNull final QueryUtils instance = QueryUtils.getInstance();
+
+        @NotNull final StringBuilder t_sbBuffer = new StringBuilder("SELECT ");
+
+        instance.concatenate(
+            t_sbBuffer,
+            java.util.Arrays.asList(QueryTest.USERS.USERID, QueryTest.USERS.NAME),
+            ", ",
+            false);
+
+        t_sbBuffer.append(" WHERE ");
+
+        instance.concatenate(
+            t_sbBuffer,
+            java.util.Arrays.asList(QueryTest.USERS.NAME.equals()),
+            " AND ",
+            true);
+
+        Assert.assertEquals(
+            "SELECT USERS.USERID, USERS.NAME WHERE NAME = ?", t_sbBuffer.toString());
+    }
+
+    /**
+     * Tests whether literal value lists are quoted straight into the buffer.
+     */
+    @Test
+    public void literal_value_lists_are_quoted_into_the_buffer()
+    {
+        @NotNull final QueryUtils instance = QueryUtils.getInstance();
+
+        @NotNull final StringBuilder t_sbBuffer = new StringBuilder();
+
+        instance.appendQuoted(t_sbBuffer, "O'Brien", '\'');
+
+        Assert.assertEquals("'O''Brien'", t_sbBuffer.toString());
+
+        Assert.assertEquals(
+            "USERS.NAME in ('a', 'O''Brien', 'c')",
+            QueryTest.USERS.NAME.in(new String[] { "a", "O'Brien", null, "c" }).toString());
+
+        Assert.assertEquals(
+            QueryTest.USERS.NAME.in(new String[] { "a", "b" }),
+            QueryTest.USERS.NAME.in(new String[] { "a", "b" }));
+
+        Assert.assertFalse(
+            QueryTest.USERS.NAME.in(new String[] { "a", "b" }).equals(
+                QueryTest.USERS.NAME.in(new String[] { "a", "c" })));
+    }
+
+    /**
+     * Tests whether empty value lists render valid SQL, and value lists
+     * don't change along with the caller's array.
+     */
+    @Test
+    public void literal_value_lists_are_safe()
+    {
+        Assert.assertEquals("1 = 0", QueryTest.USERS.NAME.in(new String[0]).toString());
+        Assert.assertEquals(
+            "1 = 0", QueryTest.USERS.NAME.in(new String[] { null }).toString());
+        Assert.assertEquals("1 = 1", QueryTest.USERS.NAME.notIn(new String[0]).toString());
+
+        @NotNull final String[] t_astrValues = new String[] { "a", "b" };
+
+        @NotNull final Condition t_Condition = QueryTest.USERS.NAME.in(t_astrValues);
+
+        final int t_iHashCode = t_Condition.hashCode();
+
+        t_astrValues[1] = "c";
+
+        Assert.assertEquals("USERS.NAME in ('a', 'b')", t_Condition.toString());
+        Assert.assertEquals(t_iHashCode, t_Condition.hashCode());
+        Assert.assertEquals(QueryTest.USERS.NAME.in(new String[] { "a", "b" }), t_Condition);
+    }
+
+    /**
+     * Tests whether dates are formatted as SQL literals.
+     */
+    @Test
+    public void dates_are_formatted_as_sql_literals()
+    {
+        @NotNull final QueryUtils instance = QueryUtils.getInstance();
+
+        @NotNull final Calendar t_Calendar = new GregorianCalendar(2024, Calendar.FEBRUARY, 3, 4, 5, 6);
+        t_Calendar.set(Calendar.MILLISECOND, 7);
+
+        Assert.assertEquals(
+            "TIMESTAMP '2024-02-03 04:05:06.007'", instance.formatTemporal(t_Calendar));
+
+        Assert.assertEquals(
+            "TIMESTAMP '2024-02-03 04:05:06.007'", instance.formatTemporal(t_Calendar.getTime()));
+
+        Assert.assertEquals(
+            "DATE '2024-02-03'",
+            instance.formatTemporal(new java.sql.Date(t_Calendar.getTimeInMillis())));
+
+        Assert.assertEquals(
+            "USERS.USERID = TIMESTAMP '2024-02-03 04:05:06.007'",
+            new AtomicCondition(
+                QueryTest.USERS.USERID,
+                ConditionOperatorRepository.getInstance().getEquals(),
+                t_Calendar).toString());
+    }
+
+    /**
+     * Tests whether conditions keep their dates as they were when built.
+     */
+    @Test
+    public void temporal_values_are_copied()
+    {
+        @NotNull final Calendar t_Calendar = new GregorianCalendar(2020, Calendar.JANUARY, 1);
+        @NotNull final java.sql.Timestamp t_Timestamp =
+            new java.sql.Timestamp(t_Calendar.getTimeInMillis());
+
+        @NotNull final AtomicCondition t_CalendarCondition =
+            new AtomicCondition(
+                QueryTest.USERS.USERID,
+                ConditionOperatorRepository.getInstance().getEquals(),
+                t_Calendar);
+
+        @NotNull final AtomicCondition t_DateCondition =
+            new AtomicCondition(
+                QueryTest.USERS.USERID,
+                ConditionOperatorRepository.getInstance().getEquals(),
+                t_Timestamp);
+
+        final int t_iHashCode = t_CalendarCondition.hashCode();
+
+        t_Calendar.add(Calendar.YEAR, 5);
+        t_Timestamp.setTime(t_Calendar.getTimeInMillis());
+
+        Assert.assertEquals(
+            "USERS.USERID = TIMESTAMP '2020-01-01 00:00:00.000'",
+            t_CalendarCondition.toString());
+        Assert.assertEquals(
+            "USERS.USERID = TIMESTAMP '2020-01-01 00:00:00.000'",
+            t_DateCondition.toString());
+        Assert.assertTrue(t_DateCondition.getRightSideObject() instanceof java.sql.Timestamp);
+        Assert.assertEquals(t_iHashCode, t_CalendarCondition.hashCode());
+        Assert.assertEquals(
+            new AtomicCondition(
+                QueryTest.USERS.USERID,
+                ConditionOperatorRepository.getInstance().getEquals(),
+                new GregorianCalendar(2020, Calendar.JANUARY, 1)),
+            t_CalendarCondition);
+    }
+
+    /**
+     * Tests whether calendars are formatted in their own time zone, and
+     * other dates in the default one.
+     */
+    @Test
+    public void calendars_are_formatted_in_their_time_zone()
+    {
+        @NotNull final QueryUtils instance = QueryUtils.getInstance();
+
+        @NotNull final Calendar t_East = new GregorianCalendar(TimeZone.getTimeZone("GMT+05:00"));
+        t_East.clear();
+        t_East.set(2024, Calendar.FEBRUARY, 3, 4, 5, 6);
+
+        @NotNull final Calendar t_West = new GregorianCalendar(TimeZone.getTimeZone("GMT-03:00"));
+        t_West.setTimeInMillis(t_East.getTimeInMillis());
+
+        Assert.assertEquals(
+            "TIMESTAMP '2024-02-03 04:05:06.000'", instance.formatTemporal(t_East));
+        Assert.assertEquals(
+            "TIMESTAMP '2024-02-02 20:05:06.000'", instance.formatTemporal(t_West));
+
+        @NotNull final Calendar t_Default = new GregorianCalendar(2024, Calendar.FEBRUARY, 3, 4, 5, 6);
+
+        Assert.assertEquals(
+            "TIMESTAMP '2024-02-03 04:05:06.000'", instance.formatTemporal(t_Default.getTime()));
+    }
 }
@@ -0,0 +1,372 @@
+/*
+                        QueryJ
+
+    Copyright (C) 2002-2005  Jose San Leandro Armendariz
+                        chous@acm-sl.org
+
+    This library is free software; you can redistribute it and/or
+    modify it under the terms of the GNU General Public
+    License as published by the Free Software Foundation; either
+    version 2 of the License, or any later version.
+
+    This library is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+    General Public License for more details.
+
+    You should have received a copy of the GNU General Public
+    License along with this library; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Thanks to ACM S.L. for distributing this library under the GPL license.
+    Contact info: chous@acm-sl.org
+    Postal Address: c/Playa de Lagoa, 1
+                    Urb. Valdecabanas
+                    Boadilla del monte
+                    28660 Madrid
+                    Spain
+
+ ******************************************************************************
+ *
+ * Filename: UpsertQueryTest.java
+ *
+ * Author: Jose San Leandro Armendariz
+ *
+ * Description: Indicates JUnit how to test UpsertQuery classes.
+ *
+ */
+package org.acmsl.queryj.sql;
+
+/*
+ * Importing JUnit classes.
+ */
+import org.junit.Assert;
+import org.junit.Test;
+
+/*
+ * Importing JetBrains annotations.
+ */
+import org.jetbrains.annotations.NotNull;
+
+/*
+ * Importing JDK classes.
+ */
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Indicates JUnit how to test UpsertQuery classes.
+ * @author <a href="mailto:chous@acm-sl.org">Jose San Leandro</a>
+ */
+public class UpsertQueryTest
+{
+    /**
+     * The ACCOUNTS table.
+     */
+    protected static final AccountsTable ACCOUNTS = new AccountsTable() {};
+
+    /**
+     * Tests primary-key fields are taken as the conflict key.
+     * @see org.acmsl.queryj.sql.UpsertQuery#toString()
+     */
+    @Test
+    public void testOnConflict()
+    {
+        @NotNull final UpsertQuery t_Query = QueryFactory.getInstance().createUpsertQuery();
+
+        t_Query.upsertInto(ACCOUNTS);
+        t_Query.value(ACCOUNTS.ACCOUNTID, 1);
+        t_Query.value(ACCOUNTS.NAME, "me");
+        t_Query.value(ACCOUNTS.BALANCE);
+
+        Assert.assertEquals(
+              "INSERT INTO ACCOUNTS ( ACCOUNTID, NAME, BALANCE ) VALUES ( 1, 'me', ? ) "
+            + "ON CONFLICT ( ACCOUNTID ) "
+            + "DO UPDATE SET NAME = EXCLUDED.NAME, BALANCE = EXCLUDED.BALANCE",
+            t_Query.toString());
+    }
+
+    /**
+     * Tests the <code>MERGE</code> dialect keeps the parameters in column
+     * order.
+     * @see org.acmsl.queryj.sql.UpsertQuery#setDialect(int)
+     */
+    @Test
+    public void testMerge()
+        throws Exception
+    {
+        @NotNull final UpsertQuery t_Query = QueryFactory.getInstance().createUpsertQuery();
+
+        t_Query.setDialect(UpsertQuery.MERGE);
+        t_Query.upsertInto(ACCOUNTS);
+        t_Query.value(ACCOUNTS.ACCOUNTID);
+        t_Query.value(ACCOUNTS.BALANCE);
+
+        Assert.assertEquals(
+              "MERGE INTO ACCOUNTS USING ( VALUES ( ?, ? ) ) AS S ( ACCOUNTID, BALANCE ) "
+            + "ON ( ACCOUNTS.ACCOUNTID = S.ACCOUNTID ) "
+            + "WHEN MATCHED THEN UPDATE SET BALANCE = S.BALANCE "
+            + "WHEN NOT MATCHED THEN INSERT ( ACCOUNTID, BALANCE ) "
+            + "VALUES ( S.ACCOUNTID, S.BALANCE )",
+            t_Query.toString());
+
+        Assert.assertEquals(2, t_Query.getVariableConditionIndex(ACCOUNTS.BALANCE.equals()));
+    }
+
+    /**
+     * Tests explicit conflict keys, and rows with nothing to update.
+     * @see org.acmsl.queryj.sql.UpsertQuery#onConflict(Field)
+     */
+    @Test
+    public void testExplicitConflictKey()
+    {
+        @NotNull final UpsertQuery t_Query = QueryFactory.getInstance().createUpsertQuery();
+
+        t_Query.upsertInto(ACCOUNTS);
+        t_Query.onConflict(ACCOUNTS.NAME);
+        t_Query.value(ACCOUNTS.NAME, "me");
+        t_Query.addRow();
+        t_Query.value(ACCOUNTS.NAME, "you");
+        t_Query.addRow();
+
+        Assert.assertEquals(
+              "INSERT INTO ACCOUNTS ( NAME ) VALUES ( 'me' ), ( 'you' ) "
+            + "ON CONFLICT ( NAME ) DO NOTHING",
+            t_Query.toString());
+    }
+
+    /**
+     * Tests upserts in batch mode.
+     * @see org.acmsl.queryj.sql.WriteQuery#nextRow()
+     */
+    @Test
+    public void testBatch()
+        throws Exception
+    {
+        @NotNull final List<String> t_lCalls = new ArrayList<String>();
+
+        @NotNull final UpsertQuery t_Query = QueryFactory.getInstance().createUpsertQuery();
+
+        t_Query.upsertInto(ACCOUNTS);
+        t_Query.value(ACCOUNTS.ACCOUNTID);
+        t_Query.value(ACCOUNTS.BALANCE);
+
+        t_Query.prepareStatement(createConnection(t_lCalls));
+        t_Query.useBatchMode(2);
+
+        for  (int t_iRow = 1; t_iRow <= 3; t_iRow++)
+        {
+            t_Query.setInt(ACCOUNTS.ACCOUNTID.equals(), t_iRow);
+            t_Query.setInt(ACCOUNTS.BALANCE.equals(), 10 * t_iRow);
+            t_Query.nextRow();
+        }
+
+        Assert.assertArrayEquals(new int[] { 1, 1, 1 }, t_Query.finishBatch());
+
+        Assert.assertEquals(
+            Arrays.asList(
+                  "prepareStatement:INSERT INTO ACCOUNTS ( ACCOUNTID, BALANCE ) "
+                + "VALUES ( ?, ? ) ON CONFLICT ( ACCOUNTID ) "
+                + "DO UPDATE SET BALANCE = EXCLUDED.BALANCE",
+                "setInt:1=1", "setInt:2=10", "addBatch",
+                "setInt:1=2", "setInt:2=20", "addBatch",
+                "executeBatch",
+                "setInt:1=3", "setInt:2=30", "addBatch",
+                "executeBatch"),
+            t_lCalls);
+    }
+
+    /**
+     * Tests invalid conflict keys are reported when preparing the
+     * statement, not when rendering it.
+     * @see org.acmsl.queryj.sql.UpsertQuery#checkConflictKeys()
+     */
+    @Test
+    public void testInvalidConflictKeys()
+        throws Exception
+    {
+        @NotNull final List<String> t_lCalls = new ArrayList<String>();
+
+        @NotNull final UpsertQuery t_Query = QueryFactory.getInstance().createUpsertQuery();
+
+        t_Query.upsertInto(ACCOUNTS);
+        t_Query.value(ACCOUNTS.NAME);
+
+        Assert.assertEquals(
+            "INSERT INTO ACCOUNTS ( NAME ) VALUES ( ? ) ON CONFLICT DO NOTHING",
+            t_Query.toString());
+
+        try
+        {
+            t_Query.prepareStatement(createConnection(t_lCalls));
+            Assert.fail("Missing conflict key not reported");
+        }
+        catch  (@NotNull final SQLException sqlException)
+        {
+            Assert.assertTrue(t_lCalls.isEmpty());
+        }
+
+        t_Query.setDialect(UpsertQuery.MERGE);
+        t_Query.onConflict(ACCOUNTS.ACCOUNTID);
+
+        try
+        {
+            t_Query.prepareStatement(createConnection(t_lCalls));
+            Assert.fail("Conflict key not inserted not reported");
+        }
+        catch  (@NotNull final SQLException sqlException)
+        {
+            Assert.assertTrue(t_lCalls.isEmpty());
+        }
+    }
+
+    /**
+     * Creates a fake connection recording the calls to the statements it
+     * prepares.
+     * @param calls the calls.
+     * @return such connection.
+     */
+    @NotNull
+    protected Connection createConnection(@NotNull final List<String> calls)
+    {
+        @NotNull final PreparedStatement t_Statement =
+            (PreparedStatement)
+                Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] { PreparedStatement.class },
+                    new InvocationHandler()
+                    {
+                        private int m__iPending = 0;
+
+                        public Object invoke(
+                            final Object proxy, final Method method, final Object[] args)
+                        {
+                            Object result = null;
+
+                            if  ("setInt".equals(method.getName()))
+                            {
+                                calls.add("setInt:" + args[0] + "=" + args[1]);
+                            }
+                            else if  ("addBatch".equals(method.getName()))
+                            {
+                                calls.add("addBatch");
+                                m__iPending++;
+                            }
+                            else if  ("executeBatch".equals(method.getName()))
+                            {
+                                calls.add("executeBatch");
+
+                                @NotNull final int[] t_aiCounts = new int[m__iPending];
+                                Arrays.fill(t_aiCounts, 1);
+
+                                m__iPending = 0;
+                                result = t_aiCounts;
+                            }
+
+                            return result;
+                        }
+                    });
+
+        return
+            (Connection)
+                Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[] { Connection.class },
+                    new InvocationHandler()
+                    {
+                        public Object invoke(
+                            final Object proxy, final Method method, final Object[] args)
+                        {
+                            calls.add("prepareStatement:" + args[0]);
+
+                            return t_Statement;
+                        }
+                    });
+    }
+
+    /**
+     * Test-only table.
+     * @author <a href="mailto:chous@acm-sl.org">Jose San Leandro</a>
+     */
+    public static class AccountsTable
+        extends  Table
+    {
+        /**
+         * The ACCOUNTS table ACCOUNTID field.
+         */
+        @NotNull
+        public IntField ACCOUNTID =
+            new AccountIdField("ACCOUNTID", this);
+
+        /**
+         * The ACCOUNTS table NAME field.
+         */
+        @NotNull
+        public StringField NAME =
+            new StringField("NAME", this) {};
+
+        /**
+         * The ACCOUNTS table BALANCE field.
+         */
+        @NotNull
+        public IntField BALANCE =
+            new IntField("BALANCE", this) {};
+
+        /**
+         * All fields.
+         */
+        @NotNull
+        public Field[] ALL =
+            new Field[] {ACCOUNTID, NAME, BALANCE};
+
+        /**
+         * The table name.
+         */
+        public static final String TABLE_NAME = "ACCOUNTS";
+
+        /**
+         * Creates an ACCOUNTS table.
+         */
+        protected AccountsTable()
+        {
+            super(TABLE_NAME);
+        }
+
+        /**
+         * Retrieves <code>all</code> fields. It's equivalent to a
+         * star in a query.
+         * @return such fields.
+         */
+        @NotNull
+        public Field[] getAll()
+        {
+            return ALL;
+        }
+    }
+
+    /**
+     * Test-only primary-key field.
+     * @author <a href="mailto:chous@acm-sl.org">Jose San Leandro</a>
+     */
+    public static class AccountIdField
+        extends  IntField
+        implements  PrimaryKeyField
+    {
+        /**
+         * Creates the field.
+         * @param name the name.
+         * @param table the table.
+         */
+        public AccountIdField(@NotNull final String name, @NotNull final Table table)
+        {
+            super(name, table);
+        }
+    }
+}
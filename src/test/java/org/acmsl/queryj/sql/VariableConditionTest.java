@@ -155,6 +155,28 @@ public class VariableConditionTest
         Assert.assertTrue(t_cVariableConditions.size() == 3);
     }
 
+    /**
+     * Tests variable conditions are collected in rendering order.
+     * @see org.acmsl.queryj.sql.Condition#collectVariableConditions(Collection)
+     */
+    @Test
+    public void variable_conditions_follow_rendering_order()
+    {
+        @NotNull final VariableCondition t_First = USERS.USERID.greaterThan();
+        @NotNull final VariableCondition t_Second = USERS.NAME.equals();
+        @NotNull final VariableCondition t_Third = USERS.USERID.equals();
+
+        @NotNull final Condition t_Condition =
+            t_First.or(USERS.NAME.isNull()).and(t_Second).and(t_Third);
+
+        @NotNull final Collection<VariableCondition> t_cVariableConditions =
+            t_Condition.getVariableConditions();
+
+        Assert.assertEquals(
+            Arrays.<VariableCondition>asList(t_First, t_Second, t_Third),
+            t_cVariableConditions);
+    }
+
     /**
      * Test-only table.
      * @author <a href="mailto:chous@acm-sl.org">Jose San Leandro</a>
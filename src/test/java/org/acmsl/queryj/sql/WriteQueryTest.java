@@ -0,0 +1,314 @@
+/*
+                        QueryJ-SQL
+
+    Copyright (C) 2002-today  Jose San Leandro Armendariz
+                        chous@acm-sl.org
+
+    This library is free software; you can redistribute it and/or
+    modify it under the terms of the GNU General Public
+    License as published by the Free Software Foundation; either
+    version 2 of the License, or any later version.
+
+    This library is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+    General Public License for more details.
+
+    You should have received a copy of the GNU General Public
+    License along with this library; if not, write to the Free Software
+    Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+
+    Thanks to ACM S.L. for distributing this library under the GPL license.
+    Contact info: chous@acm-sl.org
+    Postal Address: c/Playa de Lagoa, 1
+                    Urb. Valdecabanas
+                    Boadilla del monte
+                    28660 Madrid
+                    Spain
+
+ ******************************************************************************
+ *
+ * Filename: WriteQueryTest.java
+ *
+ * Author: Jose San Leandro Armendariz
+ *
+ * Description: Indicates JUnit how to test WriteQuery classes.
+ *
+ */
+package org.acmsl.queryj.sql;
+
+/*
+ * Importing JUnit classes.
+ */
+import org.junit.Assert;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.junit.Test;
+
+/*
+ * Importing JetBrains annotations.
+ */
+import org.jetbrains.annotations.NotNull;
+
+/*
+ * Importing JDK classes.
+ */
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.BatchUpdateException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Indicates JUnit how to test WriteQuery classes.
+ * @author <a href="mailto:chous@acm-sl.org">Jose San Leandro</a>
+ */
+@RunWith(JUnit4.class)
+public class WriteQueryTest
+{
+    /**
+     * Tests whether batch mode flushes every N rows and reports
+     * per-row update counts.
+     * @throws Exception if an unexpected situation occurs.
+     */
+    @Test
+    public void batch_mode_flushes_every_n_rows()
+        throws Exception
+    {
+        @NotNull final List<Integer> t_lBatches = new ArrayList<Integer>();
+
+        @NotNull final InsertQuery t_Query = createQuery(t_lBatches, -1);
+
+        t_Query.useBatchMode(2);
+
+        for  (int t_iRow = 0; t_iRow < 5; t_iRow++)
+        {
+            t_Query.setString(QueryTest.USERS.NAME.equals(), "user" + t_iRow);
+            t_Query.nextRow();
+        }
+
+        Assert.assertEquals(Arrays.asList(2, 2), t_lBatches);
+        Assert.assertEquals(1, t_Query.getPendingRows());
+
+        @NotNull final int[] t_aiCounts = t_Query.finishBatch();
+
+        Assert.assertEquals(Arrays.asList(2, 2, 1), t_lBatches);
+        Assert.assertArrayEquals(new int[] { 1, 1, 1, 1, 1 }, t_aiCounts);
+    }
+
+    /**
+     * Tests whether a failing batch reports the rows flushed before the
+     * first failure.
+     * @throws Exception if an unexpected situation occurs.
+     */
+    @Test
+    public void batch_mode_stops_at_first_failure()
+        throws Exception
+    {
+        @NotNull final List<Integer> t_lBatches = new ArrayList<Integer>();
+
+        @NotNull final InsertQuery t_Query = createQuery(t_lBatches, 1);
+
+        t_Query.useBatchMode(2);
+
+        t_Query.setString(QueryTest.USERS.NAME.equals(), "first");
+        t_Query.nextRow();
+        t_Query.setString(QueryTest.USERS.NAME.equals(), "second");
+        t_Query.nextRow();
+        t_Query.setString(QueryTest.USERS.NAME.equals(), "third");
+        t_Query.nextRow();
+
+        try
+        {
+            t_Query.nextRow();
+            Assert.fail("Batch failure not reported");
+        }
+        catch  (@NotNull final BatchUpdateException batchUpdateException)
+        {
+            Assert.assertArrayEquals(
+                new int[] { 1, 1, 1 }, batchUpdateException.getUpdateCounts());
+        }
+
+        Assert.assertEquals(0, t_Query.getPendingRows());
+    }
+
+    /**
+     * Tests whether rows changing the SQL of the batch are rejected.
+     * @throws Exception if an unexpected situation occurs.
+     */
+    @Test
+    public void batch_rows_cannot_change_the_sql()
+        throws Exception
+    {
+        @NotNull final List<Integer> t_lBatches = new ArrayList<Integer>();
+
+        @NotNull final InsertQuery t_Query = createQuery(t_lBatches, -1);
+
+        t_Query.useBatchMode(10);
+
+        t_Query.setString(QueryTest.USERS.NAME.equals(), "first");
+        t_Query.nextRow();
+
+        t_Query.value(QueryTest.USERS.AGE, 30);
+        t_Query.setString(QueryTest.USERS.NAME.equals(), "second");
+
+        try
+        {
+            t_Query.nextRow();
+            Assert.fail("SQL change not reported");
+        }
+        catch  (@NotNull final SQLException sqlException)
+        {
+            Assert.assertEquals(1, t_Query.getPendingRows());
+        }
+    }
+
+    /**
+     * Tests whether values keep their native types.
+     */
+    @Test
+    public void values_keep_their_types()
+    {
+        @NotNull final InsertQuery t_Query = QueryFactory.getInstance().createInsertQuery();
+
+        t_Query.insertInto(QueryTest.USERS);
+        t_Query.value(QueryTest.USERS.NAME, "myself");
+        t_Query.value(QueryTest.USERS.AGE, 30);
+        t_Query.value(QueryTest.USERS.AGE, 31);
+
+        Assert.assertEquals(31, t_Query.getValue(QueryTest.USERS.AGE));
+        Assert.assertEquals("myself", t_Query.getValue(QueryTest.USERS.NAME));
+
+        Assert.assertEquals(
+            "INSERT INTO USERS ( NAME, AGE ) VALUES ( 'myself', 31 )",
+            t_Query.toString());
+    }
+
+    /**
+     * Tests whether numeric values bound as parameters can be retrieved.
+     */
+    @Test
+    public void bound_numbers_keep_their_values()
+    {
+        @NotNull final InsertQuery t_Query = QueryFactory.getInstance().createInsertQuery();
+
+        t_Query.useAutoParameterization(true);
+        t_Query.insertInto(QueryTest.USERS);
+        t_Query.value(QueryTest.USERS.NAME, "myself");
+        t_Query.value(QueryTest.USERS.AGE, 31);
+
+        Assert.assertEquals(31, t_Query.getValue(QueryTest.USERS.AGE));
+        Assert.assertEquals(
+            "INSERT INTO USERS ( NAME, AGE ) VALUES ( ?, ? )",
+            t_Query.toString());
+    }
+
+    /**
+     * Tests whether escaping is decided per column, even if several
+     * columns share the same value.
+     */
+    @Test
+    public void escaping_is_tracked_per_column()
+    {
+        @NotNull final InsertQuery t_Query = QueryFactory.getInstance().createInsertQuery();
+
+        t_Query.insertInto(QueryTest.USERS);
+        t_Query.value(QueryTest.USERS.NAME, "DEFAULT");
+        t_Query.value(QueryTest.USERS.AGE, "DEFAULT", false);
+        t_Query.addRow();
+        t_Query.value(QueryTest.USERS.NAME, "DEFAULT", false);
+        t_Query.value(QueryTest.USERS.AGE, 1);
+        t_Query.addRow();
+
+        Assert.assertEquals(
+              "INSERT INTO USERS ( NAME, AGE ) VALUES "
+            + "( 'DEFAULT', DEFAULT ), ( DEFAULT, 1 )",
+            t_Query.toString());
+    }
+
+    /**
+     * Tests whether quotes within text values get doubled.
+     */
+    @Test
+    public void text_values_are_quoted_safely()
+    {
+        @NotNull final UpdateQuery t_Query = QueryFactory.getInstance().createUpdateQuery();
+
+        t_Query.update(QueryTest.USERS);
+        t_Query.set(QueryTest.USERS.NAME, "o'k");
+        t_Query.where(QueryTest.USERS.USERID.equals());
+
+        Assert.assertEquals(
+            "UPDATE USERS SET NAME = 'o''k' WHERE USERID = ?",
+            t_Query.toString());
+    }
+
+    /**
+     * Creates an insert query bound to a fake statement.
+     * @param batches the sizes of the executed batches.
+     * @param failingRow the row of the second batch failing, or -1.
+     * @return such query.
+     */
+    @NotNull
+    protected InsertQuery createQuery(
+        @NotNull final List<Integer> batches, final int failingRow)
+    {
+        @NotNull final InsertQuery result = QueryFactory.getInstance().createInsertQuery();
+
+        result.insertInto(QueryTest.USERS);
+        result.value(QueryTest.USERS.NAME);
+
+        result.setPreparedStatement(
+            (PreparedStatement)
+                Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] { PreparedStatement.class },
+                    new InvocationHandler()
+                    {
+                        private int m__iPending = 0;
+
+                        public Object invoke(
+                            final Object proxy, final Method method, final Object[] args)
+                          throws  BatchUpdateException
+                        {
+                            Object result = null;
+
+                            if  ("addBatch".equals(method.getName()))
+                            {
+                                m__iPending++;
+                            }
+                            else if  ("clearBatch".equals(method.getName()))
+                            {
+                                m__iPending = 0;
+                            }
+                            else if  ("executeBatch".equals(method.getName()))
+                            {
+                                @NotNull final int[] t_aiCounts = new int[m__iPending];
+                                Arrays.fill(t_aiCounts, 1);
+
+                                batches.add(m__iPending);
+                                m__iPending = 0;
+
+                                if  (   (failingRow >= 0)
+                                     && (batches.size() == 2))
+                                {
+                                    t_aiCounts[failingRow] = Statement.EXECUTE_FAILED;
+
+                                    throw new BatchUpdateException("failed", t_aiCounts);
+                                }
+
+                                result = t_aiCounts;
+                            }
+
+                            return result;
+                        }
+                    }));
+
+        return result;
+    }
+}